@@ -0,0 +1,155 @@
+package seedu.recruit.model.candidate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.recruit.model.commons.Address;
+import seedu.recruit.model.commons.Email;
+import seedu.recruit.model.commons.Phone;
+import seedu.recruit.model.joboffer.Job;
+import seedu.recruit.model.joboffer.Salary;
+import seedu.recruit.model.tag.Tag;
+
+/**
+ * Measures set membership and list removal among {@value #SIZE} candidates, whose hash is computed once and compared
+ * first by {@link Candidate#equals}, against the same candidates behind a key that computes the hash and compares
+ * every field on each call, as {@code Candidate} used to.
+ *
+ * The candidates looked up are equal to but not the same objects as those in the set or list, as when a candidate is
+ * read back from a file. Removal takes out the last candidate of the list, so that the whole list is scanned as
+ * {@code ObservableList#remove} scans it, and puts it back so that every call does the same work.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CandidateHashBenchmark {
+
+    static final int SIZE = 100_000;
+
+    private final Set<Candidate> candidateSet = new HashSet<>();
+    private final Set<UncachedCandidate> uncachedSet = new HashSet<>();
+    private final List<Candidate> candidateList = new ArrayList<>();
+    private final List<UncachedCandidate> uncachedList = new ArrayList<>();
+    private final List<Candidate> copies = new ArrayList<>();
+    private final List<UncachedCandidate> uncachedCopies = new ArrayList<>();
+    private Candidate lastCopy;
+    private UncachedCandidate uncachedLastCopy;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SIZE; i++) {
+            Candidate candidate = candidate(i);
+            candidateSet.add(candidate);
+            uncachedSet.add(new UncachedCandidate(candidate));
+            candidateList.add(candidate);
+            uncachedList.add(new UncachedCandidate(candidate));
+            copies.add(candidate(i));
+            uncachedCopies.add(new UncachedCandidate(candidate(i)));
+        }
+        // the candidates are looked up in an order unrelated to the one they were added in
+        Collections.shuffle(copies, new Random(SIZE));
+        Collections.shuffle(uncachedCopies, new Random(SIZE));
+        lastCopy = candidate(SIZE - 1);
+        uncachedLastCopy = new UncachedCandidate(candidate(SIZE - 1));
+    }
+
+    @Benchmark
+    public boolean setContains_cachedHash() {
+        return candidateSet.contains(copies.get(nextIndex()));
+    }
+
+    @Benchmark
+    public boolean setContains_computedHash() {
+        return uncachedSet.contains(uncachedCopies.get(nextIndex()));
+    }
+
+    @Benchmark
+    public boolean listRemove_cachedHash() {
+        Candidate last = candidateList.get(SIZE - 1);
+        boolean isRemoved = candidateList.remove(lastCopy);
+        candidateList.add(last);
+        return isRemoved;
+    }
+
+    @Benchmark
+    public boolean listRemove_computedHash() {
+        UncachedCandidate last = uncachedList.get(SIZE - 1);
+        boolean isRemoved = uncachedList.remove(uncachedLastCopy);
+        uncachedList.add(last);
+        return isRemoved;
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % SIZE;
+        return next;
+    }
+
+    private static Candidate candidate(int index) {
+        return new Candidate(new Name("Candidate " + index), new Gender(index % 2 == 0 ? "M" : "F"),
+                new Age(String.valueOf(18 + index % 40)), new Phone(String.valueOf(80000000 + index)),
+                new Email("candidate" + index + "@example.com"), new Address("Blk " + index + " Example Street"),
+                new Job("Cashier"), new Education("OLEVELS"), new Salary(String.valueOf(1000 + index % 4000)),
+                Collections.singleton(new Tag("Benchmark")));
+    }
+
+    /**
+     * A candidate that computes its hash and compares every field each time, as {@code Candidate} did before it
+     * kept its hash.
+     */
+    private static final class UncachedCandidate {
+        private final Candidate candidate;
+
+        private UncachedCandidate(Candidate candidate) {
+            this.candidate = candidate;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof UncachedCandidate)) {
+                return false;
+            }
+            Candidate otherCandidate = ((UncachedCandidate) other).candidate;
+            return otherCandidate.getName().equals(candidate.getName())
+                    && otherCandidate.getGender().equals(candidate.getGender())
+                    && otherCandidate.getAge().equals(candidate.getAge())
+                    && otherCandidate.getPhone().equals(candidate.getPhone())
+                    && otherCandidate.getEmail().equals(candidate.getEmail())
+                    && otherCandidate.getAddress().equals(candidate.getAddress())
+                    && otherCandidate.getDesiredJob().equals(candidate.getDesiredJob())
+                    && otherCandidate.getEducation().equals(candidate.getEducation())
+                    && otherCandidate.getExpectedSalary().equals(candidate.getExpectedSalary())
+                    && otherCandidate.getTags().equals(candidate.getTags());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(candidate.getName(), candidate.getGender(), candidate.getAge(), candidate.getPhone(),
+                    candidate.getEmail(), candidate.getAddress(), candidate.getDesiredJob(), candidate.getEducation(),
+                    candidate.getExpectedSalary(), candidate.getTags());
+        }
+    }
+}
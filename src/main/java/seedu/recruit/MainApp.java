@@ -3,6 +3,8 @@ package seedu.recruit;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,6 +15,7 @@ import javafx.stage.Stage;
 import seedu.recruit.commons.core.Config;
 import seedu.recruit.commons.core.EventsCenter;
 import seedu.recruit.commons.core.LogsCenter;
+import seedu.recruit.commons.core.PhaseTimings;
 import seedu.recruit.commons.core.Version;
 import seedu.recruit.commons.events.ui.ExitAppRequestEvent;
 import seedu.recruit.commons.exceptions.DataConversionException;
@@ -28,9 +31,15 @@ import seedu.recruit.model.ReadOnlyCandidateBook;
 import seedu.recruit.model.ReadOnlyCompanyBook;
 import seedu.recruit.model.UserPrefs;
 import seedu.recruit.model.util.SampleDataUtil;
+import seedu.recruit.storage.BinaryCandidateBookStorage;
+import seedu.recruit.storage.BinaryCompanyBookStorage;
+import seedu.recruit.storage.BinaryFileStorage;
 import seedu.recruit.storage.CandidateBookStorage;
 import seedu.recruit.storage.CompanyBookStorage;
+import seedu.recruit.storage.JournalledCandidateBookStorage;
+import seedu.recruit.storage.JournalledCompanyBookStorage;
 import seedu.recruit.storage.JsonUserPrefsStorage;
+import seedu.recruit.storage.ShardedCandidateBookStorage;
 import seedu.recruit.storage.Storage;
 import seedu.recruit.storage.StorageManager;
 import seedu.recruit.storage.UserPrefsStorage;
@@ -54,6 +63,11 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    private BinaryCandidateBookStorage binaryCandidateBookStorage;
+    private BinaryCompanyBookStorage binaryCompanyBookStorage;
+    private ShardedCandidateBookStorage shardedCandidateBookStorage;
+    private JournalledCandidateBookStorage journalledCandidateBookStorage;
+    private JournalledCompanyBookStorage journalledCompanyBookStorage;
 
 
     @Override
@@ -61,66 +75,129 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing RecruitBook ]===========================");
         super.init();
 
+        PhaseTimings timings = new PhaseTimings();
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = timings.time("config", () -> initConfig(appParameters.getConfigPath()));
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        userPrefs = initPrefs(userPrefsStorage);
-        CandidateBookStorage candidateBookStorage = new XmlCandidateBookStorage(userPrefs.getCandidateBookFilePath());
-        CompanyBookStorage companyBookStorage = new XmlCompanyBookStorage(userPrefs.getCompanyBookFilePath());
-        storage = new StorageManager(candidateBookStorage, companyBookStorage, userPrefsStorage);
-        storage.initialiseFilePermissions();
+        userPrefs = timings.time("user prefs", () -> initPrefs(userPrefsStorage));
+        storage = timings.time("storage", () -> initStorage(userPrefs, userPrefsStorage));
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, timings);
 
-        logic = new LogicManager(model, userPrefs);
+        logic = timings.time("logic", () -> new LogicManager(model, userPrefs));
 
-        ui = new UiManager(logic, config, userPrefs);
+        ui = timings.time("ui", () -> new UiManager(logic, config, userPrefs));
 
         initEventsCenter();
+        logger.info("Initialized in " + timings);
+    }
+
+    /**
+     * Returns a {@code Storage} for the books at the file paths in {@code userPrefs}, in the storage format chosen
+     * there, and for the user prefs in {@code userPrefsStorage}.
+     */
+    private Storage initStorage(UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        // a cache is of no use for an xml file that is only read to import its book into another format
+        boolean isXmlFileCached = userPrefs.isXmlFileCached()
+                && userPrefs.getStorageFormat() != UserPrefs.StorageFormat.BINARY;
+        CandidateBookStorage candidateBookStorage = new XmlCandidateBookStorage(userPrefs.getCandidateBookFilePath(),
+                isXmlFileCached && userPrefs.getCandidateBookSegmentCount() == 0);
+        CompanyBookStorage companyBookStorage =
+                new XmlCompanyBookStorage(userPrefs.getCompanyBookFilePath(), isXmlFileCached);
+        if (userPrefs.getStorageFormat() == UserPrefs.StorageFormat.BINARY) {
+            binaryCandidateBookStorage = new BinaryCandidateBookStorage(
+                    BinaryFileStorage.getBinaryFilePath(userPrefs.getCandidateBookFilePath()), candidateBookStorage);
+            binaryCompanyBookStorage = new BinaryCompanyBookStorage(
+                    BinaryFileStorage.getBinaryFilePath(userPrefs.getCompanyBookFilePath()), companyBookStorage);
+            candidateBookStorage = binaryCandidateBookStorage;
+            companyBookStorage = binaryCompanyBookStorage;
+        } else if (userPrefs.getCandidateBookSegmentCount() > 0) {
+            shardedCandidateBookStorage = new ShardedCandidateBookStorage(
+                    ShardedCandidateBookStorage.getManifestFilePath(userPrefs.getCandidateBookFilePath()),
+                    userPrefs.getCandidateBookSegmentCount(), candidateBookStorage);
+            candidateBookStorage = shardedCandidateBookStorage;
+        }
+        if (userPrefs.isStorageJournalled()) {
+            journalledCandidateBookStorage = new JournalledCandidateBookStorage(candidateBookStorage);
+            journalledCompanyBookStorage = new JournalledCompanyBookStorage(companyBookStorage);
+            candidateBookStorage = journalledCandidateBookStorage;
+            companyBookStorage = journalledCompanyBookStorage;
+        }
+        Storage storage = new StorageManager(candidateBookStorage, companyBookStorage, userPrefsStorage,
+                userPrefs.getStorageWriteDelay());
+        storage.initialiseFilePermissions();
+        return storage;
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s recruit book and {@code userPrefs}. <br>
      * The data from the sample recruit book will be used instead if {@code storage}'s recruit book is not found,
      * or an empty recruit book will be used instead if errors occur when reading {@code storage}'s recruit book.
+     *
+     * The candidate book is read on another thread while the company book is read on this one, which waits for the
+     * candidate book only to find the candidates shortlisted for its job offers.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyCandidateBook> candidateBookOptional;
-        Optional<ReadOnlyCompanyBook> companyBookOptional;
-        ReadOnlyCandidateBook initialCandidateData;
-        ReadOnlyCompanyBook initialJobOfferData;
+    private Model initModelManager(Storage storage, UserPrefs userPrefs, PhaseTimings timings) {
+        CompletableFuture<ReadOnlyCandidateBook> candidateData = CompletableFuture.supplyAsync(() ->
+                timings.time("candidate book", () -> readCandidateBook(storage)));
+        ReadOnlyCandidateBook pendingCandidateData = () -> join(candidateData).getCandidateList();
+
+        ReadOnlyCompanyBook initialCompanyData =
+                timings.time("company book", () -> readCompanyBook(storage, pendingCandidateData));
+        ReadOnlyCandidateBook initialCandidateData = join(candidateData);
 
+        return timings.time("model", () -> new ModelManager(initialCandidateData, initialCompanyData, userPrefs));
+    }
+
+    private ReadOnlyCandidateBook readCandidateBook(Storage storage) {
         try {
-            candidateBookOptional = storage.readCandidateBook();
+            Optional<ReadOnlyCandidateBook> candidateBookOptional = storage.readCandidateBook();
             if (!candidateBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample CandidateBook");
             }
-            initialCandidateData = candidateBookOptional.orElseGet(SampleDataUtil::getSampleCandidateBook);
+            return candidateBookOptional.orElseGet(SampleDataUtil::getSampleCandidateBook);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty CandidateBook");
-            initialCandidateData = new CandidateBook();
+            return new CandidateBook();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty CandidateBook");
-            initialCandidateData = new CandidateBook();
+            return new CandidateBook();
         }
+    }
+
+    private ReadOnlyCompanyBook readCompanyBook(Storage storage, ReadOnlyCandidateBook candidateBook) {
         try {
-            companyBookOptional = storage.readCompanyBook();
+            Optional<ReadOnlyCompanyBook> companyBookOptional = storage.readCompanyBook(candidateBook);
             if (!companyBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample CompanyBook");
             }
-            initialJobOfferData = companyBookOptional.orElseGet(SampleDataUtil::getSampleCompanyBook);
+            return companyBookOptional.orElseGet(SampleDataUtil::getSampleCompanyBook);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty CompanyBook");
-            initialJobOfferData = new CompanyBook();
+            return new CompanyBook();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty CompanyBook");
-            initialJobOfferData = new CompanyBook();
+            return new CompanyBook();
         }
+    }
 
-        return new ModelManager(initialCandidateData, initialJobOfferData, userPrefs);
+    /**
+     * Waits for {@code future} and returns its result, throwing what it threw if it failed.
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ce.getCause();
+            } else if (ce.getCause() instanceof Error) {
+                throw (Error) ce.getCause();
+            }
+            throw ce;
+        }
     }
 
     private void initLogging(Config config) {
@@ -209,6 +286,9 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping RecruitBook ] =============================");
         ui.stop();
+        storage.flush();
+        compactJournals();
+        exportToXml();
         try {
             storage.saveUserPrefs(userPrefs);
             storage.removeFilePermissions();
@@ -219,6 +299,42 @@ public class MainApp extends Application {
         System.exit(0);
     }
 
+    /**
+     * Saves the books in full and empties their journals if they are journalled, so that the saved books are
+     * complete on their own if journalling is turned off.
+     */
+    private void compactJournals() {
+        if (journalledCandidateBookStorage == null) {
+            return;
+        }
+        try {
+            journalledCandidateBookStorage.compact(model.getCandidateBook());
+            journalledCompanyBookStorage.compact(model.getCompanyBook());
+        } catch (IOException e) {
+            logger.severe("Failed to empty the journals " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Saves the books to their xml files as well if they are kept in the binary format, or the candidate book if it
+     * is kept in segments, so that the xml files are up to date if that format is no longer used. The books are
+     * taken from the model rather than read back from the other format, which does not hold the changes kept in a
+     * journal.
+     */
+    private void exportToXml() {
+        try {
+            if (binaryCandidateBookStorage != null) {
+                binaryCandidateBookStorage.exportToXml(model.getCandidateBook());
+                binaryCompanyBookStorage.exportToXml(model.getCompanyBook());
+            }
+            if (shardedCandidateBookStorage != null) {
+                shardedCandidateBookStorage.exportToXml(model.getCandidateBook());
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to export the books to xml " + StringUtil.getDetails(e));
+        }
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
@@ -0,0 +1,48 @@
+package seedu.recruit.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The time taken by each phase of a task, such as starting up the app, to be logged once the task is done.
+ * Phases may be timed on several threads at once, and are listed in the order they end.
+ */
+public class PhaseTimings {
+
+    private final Map<String, Long> millisByPhase = new LinkedHashMap<>();
+
+    /**
+     * Runs {@code phase} and returns its result, recording the time it took under {@code name}.
+     * The time is recorded even if the phase throws.
+     */
+    public <T> T time(String name, Supplier<T> phase) {
+        requireNonNull(name);
+        requireNonNull(phase);
+        long start = System.nanoTime();
+        try {
+            return phase.get();
+        } finally {
+            record(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private synchronized void record(String name, long millis) {
+        millisByPhase.put(name, millis);
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Long> phase : millisByPhase.entrySet()) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(phase.getKey()).append(": ").append(phase.getValue()).append(" ms");
+        }
+        return builder.toString();
+    }
+}
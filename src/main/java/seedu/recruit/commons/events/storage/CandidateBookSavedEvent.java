@@ -0,0 +1,15 @@
+package seedu.recruit.commons.events.storage;
+
+import seedu.recruit.commons.events.BaseEvent;
+
+/**
+ * Indicates the candidate book has been saved to the hard disk
+ */
+public class CandidateBookSavedEvent extends BaseEvent {
+
+    @Override
+    public String toString() {
+        return "candidate book saved";
+    }
+
+}
@@ -0,0 +1,15 @@
+package seedu.recruit.commons.events.storage;
+
+import seedu.recruit.commons.events.BaseEvent;
+
+/**
+ * Indicates the company book has been saved to the hard disk
+ */
+public class CompanyBookSavedEvent extends BaseEvent {
+
+    @Override
+    public String toString() {
+        return "company book saved";
+    }
+
+}
@@ -1,10 +1,13 @@
 package seedu.recruit.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
 
 /**
  * Writes and reads files
@@ -12,6 +15,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 1 << 16;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +84,25 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns the CRC32 checksum of the contents of {@code file}.
+     */
+    public static long getChecksum(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        updateChecksum(checksum, file);
+        return checksum.getValue();
+    }
+
+    /**
+     * Adds the contents of {@code file} to {@code checksum}, reading the file a block at a time.
+     */
+    public static void updateChecksum(Checksum checksum, Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int count = in.read(buffer); count >= 0; count = in.read(buffer)) {
+                checksum.update(buffer, 0, count);
+            }
+        }
+    }
+
 }
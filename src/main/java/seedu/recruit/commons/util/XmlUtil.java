@@ -3,19 +3,28 @@ package seedu.recruit.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.transform.stream.StreamSource;
 
 /**
  * Helps with reading from and writing to XML files.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,8 +46,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
     }
@@ -61,11 +69,73 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Returns {@code data} as a single line of xml, in an element named {@code elementName}.
+     * Line breaks within the data are written as character references, so the line can be stored as one record.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> String toXmlLine(T data, Class<T> type, String elementName) throws JAXBException {
+        requireNonNull(data);
+        requireNonNull(elementName);
+
+        Marshaller m = getContext(type).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        StringWriter writer = new StringWriter();
+        m.marshal(new JAXBElement<>(new QName(elementName), type, data), writer);
+        return writer.toString().replace("\r", "&#13;").replace("\n", "&#10;");
+    }
+
+    /**
+     * Returns the data in a line of xml written by {@link #toXmlLine}, as an object of the specified type.
+     *
+     * @throws JAXBException Thrown if the line does not have the correct format.
+     */
+    public static <T> T fromXmlLine(String line, Class<T> type) throws JAXBException {
+        requireNonNull(line);
+
+        Unmarshaller um = getContext(type).createUnmarshaller();
+        return um.unmarshal(new StreamSource(new StringReader(line)), type).getValue();
+    }
+
+    /**
+     * Returns an unmarshaller for data of the specified type, such as one element at a time from a stream.
+     *
+     * @throws JAXBException Thrown if {@code type} cannot be converted from xml.
+     */
+    public static Unmarshaller createUnmarshaller(Class<?> type) throws JAXBException {
+        return getContext(type).createUnmarshaller();
+    }
+
+    /**
+     * Returns a marshaller for data of the specified type that writes elements on their own, without an xml
+     * declaration, such as one element at a time into a stream.
+     *
+     * @throws JAXBException Thrown if {@code type} cannot be converted to xml.
+     */
+    public static Marshaller createFragmentMarshaller(Class<?> type) throws JAXBException {
+        Marshaller m = getContext(type).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        return m;
+    }
+
+    /**
+     * Returns the context for {@code type}, which is made once as making one is slow.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        requireNonNull(type);
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.put(type, context);
+        }
+        return context;
+    }
+
 }
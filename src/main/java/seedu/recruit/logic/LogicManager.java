@@ -1,8 +1,5 @@
 package seedu.recruit.logic;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -26,8 +23,8 @@ import seedu.recruit.model.Model;
 import seedu.recruit.model.UserPrefs;
 import seedu.recruit.model.candidate.Candidate;
 import seedu.recruit.model.company.Company;
+import seedu.recruit.model.company.CompanyName;
 import seedu.recruit.model.joboffer.JobOffer;
-import seedu.recruit.model.joboffer.JobOfferContainsFindKeywordsPredicate;
 
 /**
  * The main LogicManager of the app.
@@ -112,11 +109,8 @@ public class LogicManager extends ComponentManager implements Logic {
                                                                             event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event,
                 "Selection Changed to " + event.getNewSelection().getName().value));
-        HashMap<String, List<String>> keywordsList = new HashMap<>();
-        List<String> companyName = new ArrayList<>();
-        companyName.add(event.getNewSelection().getName().toString());
-        keywordsList.put("CompanyName", companyName);
-        model.updateFilteredCompanyJobList(new JobOfferContainsFindKeywordsPredicate(keywordsList));
+        CompanyName companyName = event.getNewSelection().getName();
+        model.updateFilteredCompanyJobList(jobOffer -> jobOffer.getCompanyName().equals(companyName));
         EventsCenter.getInstance().post(new ShowUpdatedCompanyJobListRequestEvent(
                 model.getFilteredCompanyJobList().size()));
     }
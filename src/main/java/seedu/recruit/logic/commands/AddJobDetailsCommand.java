@@ -66,8 +66,7 @@ public class AddJobDetailsCommand extends Command {
         requireNonNull(model);
         EventsCenter.getInstance().post(new ShowCompanyBookRequestEvent());
 
-        int companyIndex = model.getCompanyIndexFromName(toAdd.getCompanyName());
-        if (companyIndex == -1) {
+        if (model.getCompanyByName(toAdd.getCompanyName()) == null) {
             throw new CommandException(MESSAGE_COMPANY_NOT_FOUND);
         }
         if (model.hasJobOffer(toAdd)) {
@@ -69,18 +69,18 @@ public class BlacklistCommand extends Command {
         Candidate updatedCandidate;
 
         if (rmCheck) {
-            Tag blacklistedTag = new Tag("BLACKLISTED");
+            Tag blacklistedTag = Tag.of("BLACKLISTED");
             if (selectedCandidateBlacklist.getTags().contains(blacklistedTag)) {
                 throw new CommandException(MESSAGE_ALREADY_BLACKLISTED);
             }
-            Tag shortlistedTag = new Tag("SHORTLISTED");
+            Tag shortlistedTag = Tag.of("SHORTLISTED");
             if (selectedCandidateBlacklist.getTags().contains(shortlistedTag)) {
                 throw new CommandException(MESSAGE_ALREADY_SHORTLISTED);
             }
 
             updatedCandidate = insertBlacklistTag(selectedCandidateBlacklist);
         } else {
-            Tag blacklistedTag = new Tag("BLACKLISTED");
+            Tag blacklistedTag = Tag.of("BLACKLISTED");
             if (!selectedCandidateBlacklist.getTags().contains(blacklistedTag)) {
                 throw new CommandException(MESSAGE_IS_NOT_BLACKLISTED);
             }
@@ -104,9 +104,9 @@ public class BlacklistCommand extends Command {
         assert blacklistee != null;
 
         Set<Tag> tags = new HashSet<Tag>();
-        Tag blacklistedTag = new Tag("BLACKLISTED");
+        Tag blacklistedTag = Tag.of("BLACKLISTED");
         tags.add(blacklistedTag);
-        return new Candidate(blacklistee.getName(), blacklistee.getGender(), blacklistee.getAge(),
+        return new Candidate(blacklistee.getId(), blacklistee.getName(), blacklistee.getGender(), blacklistee.getAge(),
                 blacklistee.getPhone(), blacklistee.getEmail(), blacklistee.getAddress(), blacklistee.getDesiredJob(),
                 blacklistee.getEducation(), blacklistee.getExpectedSalary(), tags);
     }
@@ -118,7 +118,7 @@ public class BlacklistCommand extends Command {
         assert blacklistee != null;
 
         Set<Tag> tags = new HashSet<Tag>();
-        return new Candidate(blacklistee.getName(), blacklistee.getGender(), blacklistee.getAge(),
+        return new Candidate(blacklistee.getId(), blacklistee.getName(), blacklistee.getGender(), blacklistee.getAge(),
                 blacklistee.getPhone(), blacklistee.getEmail(), blacklistee.getAddress(), blacklistee.getDesiredJob(),
                 blacklistee.getEducation(), blacklistee.getExpectedSalary(), tags);
     }
@@ -49,14 +49,13 @@ public class DeleteCandidateCommand extends Command {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
             }
         }
-        for (Index index: targetIndexes) {
-            Candidate candidateToDelete = lastShownList.get(index.getZeroBased());
-            deletedCandidates.append(candidateToDelete + "\n");
-            model.deleteCandidate(candidateToDelete);
-        }
-
-
-        model.commitRecruitBook();
+        model.runInTransaction(() -> {
+            for (Index index: targetIndexes) {
+                Candidate candidateToDelete = lastShownList.get(index.getZeroBased());
+                deletedCandidates.append(candidateToDelete + "\n");
+                model.deleteCandidate(candidateToDelete);
+            }
+        });
         return new CommandResult(String.format(MESSAGE_DELETE_CANDIDATE_SUCCESS, deletedCandidates));
     }
 
@@ -52,13 +52,13 @@ public class DeleteCompanyCommand extends Command {
             }
         }
 
-        for (Index index: targetIndexes) {
-            Company companyToDelete = lastShownList.get(index.getZeroBased());
-            model.deleteCompany(companyToDelete);
-            deletedCompanies.append(companyToDelete + "\n");
-        }
-
-        model.commitRecruitBook();
+        model.runInTransaction(() -> {
+            for (Index index: targetIndexes) {
+                Company companyToDelete = lastShownList.get(index.getZeroBased());
+                model.deleteCompany(companyToDelete);
+                deletedCompanies.append(companyToDelete + "\n");
+            }
+        });
         EventsCenter.getInstance().post(new ShowUpdatedCompanyJobListRequestEvent(
                 model.getFilteredCompanyJobList().size()));
         return new CommandResult(String.format(MESSAGE_DELETE_COMPANY_SUCCESS, deletedCompanies));
@@ -52,12 +52,13 @@ public class DeleteJobOfferCommand extends Command {
             }
         }
 
-        for (Index index: targetIndexes) {
-            JobOffer jobOfferToDelete = lastShownList.get(index.getZeroBased());
-            model.deleteJobOffer(jobOfferToDelete);
-            deletedJobOffers.append(jobOfferToDelete + "\n");
-        }
-        model.commitRecruitBook();
+        model.runInTransaction(() -> {
+            for (Index index: targetIndexes) {
+                JobOffer jobOfferToDelete = lastShownList.get(index.getZeroBased());
+                model.deleteJobOffer(jobOfferToDelete);
+                deletedJobOffers.append(jobOfferToDelete + "\n");
+            }
+        });
         EventsCenter.getInstance().post(new ShowUpdatedCompanyJobListRequestEvent(
                 model.getFilteredCompanyJobList().size()));
         return new CommandResult(String.format(MESSAGE_DELETE_JOB_OFFER_SUCCESS, deletedJobOffers));
@@ -69,9 +69,10 @@ public class DeleteShortlistedCandidateCommand extends Command {
         Candidate selectedCandidate = selectedJob.getObservableCandidateList().get(targetIndex.getZeroBased());
         Candidate removedShortlistedTagFromCandidate = removeShortlistTag(selectedCandidate);
 
-        model.deleteShortlistedCandidateFromJobOffer(selectedCandidate, selectedJob);
-        model.updateCandidate(selectedCandidate, removedShortlistedTagFromCandidate);
-        model.commitRecruitBook();
+        model.runInTransaction(() -> {
+            model.deleteShortlistedCandidateFromJobOffer(selectedCandidate, selectedJob);
+            model.updateCandidate(selectedCandidate, removedShortlistedTagFromCandidate);
+        });
 
 
         if (DeleteShortlistedCandidateInitializationCommand.isDeleting()) {
@@ -90,7 +91,7 @@ public class DeleteShortlistedCandidateCommand extends Command {
         assert shortlistee != null;
 
         Set<Tag> tags = new HashSet<Tag>();
-        return new Candidate(shortlistee.getName(), shortlistee.getGender(), shortlistee.getAge(),
+        return new Candidate(shortlistee.getId(), shortlistee.getName(), shortlistee.getGender(), shortlistee.getAge(),
                 shortlistee.getPhone(), shortlistee.getEmail(), shortlistee.getAddress(), shortlistee.getDesiredJob(),
                 shortlistee.getEducation(), shortlistee.getExpectedSalary(), tags);
     }
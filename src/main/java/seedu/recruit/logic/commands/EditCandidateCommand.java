@@ -99,7 +99,7 @@ public class EditCandidateCommand extends Command {
         Candidate candidateToEdit = lastShownList.get(index.getZeroBased());
         Candidate editedCandidate = createEditedPerson(candidateToEdit, editPersonDescriptor);
 
-        Tag blacklistedTag = new Tag("BLACKLISTED");
+        Tag blacklistedTag = Tag.of("BLACKLISTED");
         if (candidateToEdit.getTags().contains(blacklistedTag)) {
             throw new CommandException(BlacklistCommand.MESSAGE_WARNING_BLACKLISTED_PERSON);
         }
@@ -133,8 +133,8 @@ public class EditCandidateCommand extends Command {
         Salary updatedSalary = editPersonDescriptor.getSalary().orElse(candidateToEdit.getExpectedSalary());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(candidateToEdit.getTags());
 
-        return new Candidate(updatedName, updatedGender, updatedAge, updatedPhone, updatedEmail, updatedAddress,
-            updatedJob, updatedEducation, updatedSalary, updatedTags);
+        return new Candidate(candidateToEdit.getId(), updatedName, updatedGender, updatedAge, updatedPhone,
+            updatedEmail, updatedAddress, updatedJob, updatedEducation, updatedSalary, updatedTags);
     }
 
     @Override
@@ -83,12 +83,13 @@ public class EditCompanyCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_COMPANY);
         }
 
-        model.updateCompany(companyToEdit, editedCompany);
-        if (companyToEdit.getName() != editedCompany.getName()) {
-            model.cascadeToJobOffers(companyToEdit.getName(), editedCompany.getName());
-        }
+        model.runInTransaction(() -> {
+            model.updateCompany(companyToEdit, editedCompany);
+            if (companyToEdit.getName() != editedCompany.getName()) {
+                model.cascadeToJobOffers(companyToEdit.getName(), editedCompany.getName());
+            }
+        });
         model.updateFilteredCompanyList(PREDICATE_SHOW_ALL_COMPANIES);
-        model.commitRecruitBook();
         return new CommandResult(String.format(MESSAGE_EDIT_COMPANY_SUCCESS, editedCompany));
     }
 
@@ -104,7 +105,7 @@ public class EditCompanyCommand extends Command {
         Email updatedEmail = editCompanyDescriptor.getEmail().orElse(companyToEdit.getEmail());
         Address updatedAddress = editCompanyDescriptor.getAddress().orElse(companyToEdit.getAddress());
 
-        return new Company(updatedName, updatedAddress, updatedEmail, updatedPhone);
+        return new Company(companyToEdit.getId(), updatedName, updatedAddress, updatedEmail, updatedPhone);
     }
 
     @Override
@@ -23,7 +23,6 @@ import seedu.recruit.model.Model;
 import seedu.recruit.model.UserPrefs;
 import seedu.recruit.model.candidate.Education;
 import seedu.recruit.model.candidate.Gender;
-import seedu.recruit.model.candidate.UniqueCandidateList;
 import seedu.recruit.model.company.CompanyName;
 import seedu.recruit.model.joboffer.AgeRange;
 import seedu.recruit.model.joboffer.Job;
@@ -91,9 +90,7 @@ public class EditJobDetailsCommand extends Command {
         JobOffer jobOfferToEdit = companyJobList.get(index.getZeroBased());
         JobOffer editedJobOffer = createEditedJobOffer(jobOfferToEdit, editJobOfferDescriptor);
 
-        int companyIndex = model.getCompanyIndexFromName(editedJobOffer.getCompanyName());
-
-        if (companyIndex == -1) {
+        if (model.getCompanyByName(editedJobOffer.getCompanyName()) == null) {
             throw new CommandException(MESSAGE_COMPANY_NOT_FOUND);
         }
 
@@ -122,10 +119,9 @@ public class EditJobDetailsCommand extends Command {
         AgeRange updatedAgeRange = editJobOfferDescriptor.getAgeRange().orElse(jobOfferToEdit.getAgeRange());
         Education updatedEducation = editJobOfferDescriptor.getEducation().orElse(jobOfferToEdit.getEducation());
         Salary updatedSalary = editJobOfferDescriptor.getSalary().orElse(jobOfferToEdit.getSalary());
-        UniqueCandidateList candidateList = jobOfferToEdit.getUniqueCandidateList();
-        return new JobOffer(
+        return new JobOffer(jobOfferToEdit.getId(),
                 updatedCompanyName, updatedJob, updatedGender, updatedAgeRange, updatedEducation, updatedSalary,
-                candidateList);
+                jobOfferToEdit.getShortlist());
     }
 
     @Override
@@ -70,7 +70,7 @@ public class SelectCandidateCommand extends Command {
             EventsCenter.getInstance().post(new JumpToListRequestEvent(targetIndex));
 
             // If selected candidate is blacklisted
-            Tag blacklistTag = new Tag("BLACKLISTED");
+            Tag blacklistTag = Tag.of("BLACKLISTED");
             if (selectedCandidate.getTags().contains(blacklistTag)) {
                 throw new CommandException(MESSAGE_SELECT_PERSON_FAILURE_DUE_TO_BLACKLIST_TAG
                 + MESSAGE_USAGE);
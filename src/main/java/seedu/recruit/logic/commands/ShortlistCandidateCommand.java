@@ -45,7 +45,7 @@ public class ShortlistCandidateCommand extends Command {
         Candidate selectedCandidate = SelectCandidateCommand.getSelectedCandidate();
 
         // If selected candidate already exists in shortlisted candidate list of the selected job offer
-        if (selectedJobOffer.getUniqueCandidateList().contains(selectedCandidate)) {
+        if (selectedJobOffer.getShortlist().contains(selectedCandidate)) {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_CANDIDATE_SHORTLISTED,
                     selectedJobOffer.getJob().value, selectedCompany.getName().value)
                     + MESSAGE_USAGE);
@@ -53,9 +53,10 @@ public class ShortlistCandidateCommand extends Command {
 
         Candidate selectedShortlistedCandidate = insertShortlistTag(selectedCandidate);
 
-        model.updateCandidate(selectedCandidate, selectedShortlistedCandidate);
-        model.shortlistCandidateToJobOffer(selectedShortlistedCandidate, selectedJobOffer);
-        model.commitRecruitBook();
+        model.runInTransaction(() -> {
+            model.updateCandidate(selectedCandidate, selectedShortlistedCandidate);
+            model.shortlistCandidateToJobOffer(selectedShortlistedCandidate, selectedJobOffer);
+        });
 
         EventsCenter.getInstance().post(new ChangeLogicStateEvent("primary"));
 
@@ -74,9 +75,9 @@ public class ShortlistCandidateCommand extends Command {
         assert shortlistee != null;
 
         Set<Tag> tags = new HashSet<Tag>();
-        Tag shortlistedTag = new Tag("SHORTLISTED");
+        Tag shortlistedTag = Tag.of("SHORTLISTED");
         tags.add(shortlistedTag);
-        return new Candidate(shortlistee.getName(), shortlistee.getGender(), shortlistee.getAge(),
+        return new Candidate(shortlistee.getId(), shortlistee.getName(), shortlistee.getGender(), shortlistee.getAge(),
                 shortlistee.getPhone(), shortlistee.getEmail(), shortlistee.getAddress(), shortlistee.getDesiredJob(),
                 shortlistee.getEducation(), shortlistee.getExpectedSalary(), tags);
     }
@@ -46,7 +46,6 @@ public class SortCandidateCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history, UserPrefs userPrefs) {
         requireNonNull(model);
         model.sortCandidates(prefixToSort);
-        model.commitRecruitBook();
 
         if (ShortlistCandidateInitializationCommand.isShortlisting()) {
             EventsCenter.getInstance().post(new ChangeLogicStateEvent(SelectCandidateCommand.COMMAND_LOGIC_STATE));
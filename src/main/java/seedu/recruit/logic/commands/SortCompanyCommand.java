@@ -38,7 +38,6 @@ public class SortCompanyCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history, UserPrefs userPrefs) {
         requireNonNull(model);
         model.sortCompanies(prefixToSort);
-        model.commitRecruitBook();
 
         if (ShortlistCandidateInitializationCommand.isShortlisting()) {
             EventsCenter.getInstance()
@@ -45,7 +45,6 @@ public class SortJobOfferCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history, UserPrefs userPrefs) {
         requireNonNull(model);
         model.sortJobOffers(prefixToSort);
-        model.commitRecruitBook();
         if (ShortlistCandidateInitializationCommand.isShortlisting()) {
             EventsCenter.getInstance()
                     .post(new ChangeLogicStateEvent(SelectJobCommand.COMMAND_LOGIC_STATE_FOR_SHORTLIST));
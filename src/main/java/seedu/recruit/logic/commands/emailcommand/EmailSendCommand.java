@@ -121,13 +121,12 @@ public class EmailSendCommand extends Command {
         } else {
             //recipients are companies
             for (JobOffer jobOfferRecipient : jobOfferRecipients) {
-                int index = model.getCompanyIndexFromName(jobOfferRecipient.getCompanyName());
+                Company company = model.getCompanyByName(jobOfferRecipient.getCompanyName());
                 //Company not found in CompanyBook, prevent null pointer exception
-                if (index == -1) {
+                if (company == null) {
                     continue;
                 }
 
-                Company company = model.getCompanyFromIndex(index);
                 recipientEmails.add(company.getEmail().toString());
             }
         }
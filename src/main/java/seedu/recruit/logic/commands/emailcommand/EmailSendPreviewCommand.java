@@ -74,12 +74,11 @@ public class EmailSendPreviewCommand extends EmailSendCommand {
         ArrayList<String> jobNames = new ArrayList<>();
         Company actualCompany = null;
         for (JobOffer jobOfferRecipient : jobOfferRecipients) {
-            int index = model.getCompanyIndexFromName(jobOfferRecipient.getCompanyName());
+            Company company = model.getCompanyByName(jobOfferRecipient.getCompanyName());
             //Company not found in CompanyBook, prevent null pointer exception
-            if (index == -1) {
+            if (company == null) {
                 continue;
             }
-            Company company = model.getCompanyFromIndex(index);
             if (company.getEmail().toString().equals(email)) {
                 jobNames.add(jobOfferRecipient.getJob().toString());
                 actualCompany = company;
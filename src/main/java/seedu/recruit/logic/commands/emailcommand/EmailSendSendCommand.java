@@ -88,12 +88,11 @@ public class EmailSendSendCommand extends EmailSendCommand {
         ArrayList<String> jobNames = new ArrayList<>();
         StringBuilder bodyText = new StringBuilder();
         for (JobOffer jobOfferRecipient : jobOfferRecipients) {
-            int index = model.getCompanyIndexFromName(jobOfferRecipient.getCompanyName());
+            Company company = model.getCompanyByName(jobOfferRecipient.getCompanyName());
             //Company not found in CompanyBook, prevent null pointer exception
-            if (index == -1) {
+            if (company == null) {
                 continue;
             }
-            Company company = model.getCompanyFromIndex(index);
             if (company.getEmail().toString().equals(email)) {
                 jobNames.add(jobOfferRecipient.getJob().toString());
             }
@@ -17,12 +17,12 @@ import seedu.recruit.logic.commands.UndoCommand;
 import seedu.recruit.logic.parser.exceptions.ParseException;
 import seedu.recruit.model.candidate.Education;
 import seedu.recruit.model.candidate.Gender;
-import seedu.recruit.model.candidate.UniqueCandidateList;
 import seedu.recruit.model.company.CompanyName;
 import seedu.recruit.model.joboffer.AgeRange;
 import seedu.recruit.model.joboffer.Job;
 import seedu.recruit.model.joboffer.JobOffer;
 import seedu.recruit.model.joboffer.Salary;
+import seedu.recruit.model.joboffer.Shortlist;
 
 
 /**
@@ -61,7 +61,7 @@ public class AddJobDetailsCommandParser implements Parser<Command>   {
         Salary salary = ParserUtil.parseSalary(argMultimap.getValue(PREFIX_SALARY).get());
 
         JobOffer jobOffer = new JobOffer(companyName, job, gender, ageRange, education, salary,
-                new UniqueCandidateList());
+                Shortlist.empty());
 
         return new AddJobDetailsCommand(jobOffer);
     }
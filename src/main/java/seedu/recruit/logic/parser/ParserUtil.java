@@ -133,7 +133,7 @@ public class ParserUtil {
         if (!Gender.isValidGender(trimmedGender)) {
             throw new ParseException(Gender.MESSAGE_GENDER_CONSTRAINTS);
         }
-        return new Gender(trimmedGender);
+        return Gender.of(trimmedGender);
     }
 
     /**
@@ -209,7 +209,7 @@ public class ParserUtil {
         if (!Job.isValidJob(trimmedJob)) {
             throw new ParseException(Job.MESSAGE_JOB_CONSTRAINTS);
         }
-        return new Job(trimmedJob);
+        return Job.of(trimmedJob);
     }
 
     /**
@@ -224,7 +224,7 @@ public class ParserUtil {
         if (!Education.isValidEducation(trimmedEducation)) {
             throw new ParseException(Education.MESSAGE_EDUCATION_CONSTRAINTS);
         }
-        return new Education(trimmedEducation);
+        return Education.of(trimmedEducation);
     }
 
     /**
@@ -239,7 +239,7 @@ public class ParserUtil {
         if (!Salary.isValidSalary(trimmedSalary)) {
             throw new ParseException(Salary.MESSAGE_SALARY_CONSTRAINTS);
         }
-        return new Salary(trimmedSalary);
+        return Salary.of(trimmedSalary);
     }
 
     /**
@@ -254,7 +254,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_TAG_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
 
@@ -282,7 +282,7 @@ public class ParserUtil {
         if (!CompanyName.isValidCompanyName(trimmedCompany)) {
             throw new ParseException(CompanyName.MESSAGE_COMPANY_CONSTRAINTS);
         }
-        return new CompanyName(trimmedCompany);
+        return CompanyName.of(trimmedCompany);
     }
 
     /**
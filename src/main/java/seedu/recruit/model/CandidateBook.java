@@ -2,12 +2,19 @@ package seedu.recruit.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.recruit.logic.parser.Prefix;
 import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.candidate.CandidateQueryFields;
 import seedu.recruit.model.candidate.UniqueCandidateList;
+import seedu.recruit.model.util.IndexablePredicate;
+import seedu.recruit.model.util.PersistentList;
+import seedu.recruit.model.util.TokenIndex;
 
 /**
  * Wraps all data at the CandidateBook level functions
@@ -16,6 +23,7 @@ import seedu.recruit.model.candidate.UniqueCandidateList;
 public class CandidateBook implements ReadOnlyCandidateBook {
 
     private final UniqueCandidateList candidates;
+    private final TokenIndex<Candidate> candidateIndex;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +34,7 @@ public class CandidateBook implements ReadOnlyCandidateBook {
      */
     {
         candidates = new UniqueCandidateList();
+        candidateIndex = TokenIndex.of(CandidateQueryFields.FIELDS, () -> candidates);
     }
 
     public CandidateBook() {}
@@ -46,6 +55,18 @@ public class CandidateBook implements ReadOnlyCandidateBook {
      */
     public void setCandidates(List<Candidate> candidates) {
         this.candidates.setCandidates(candidates);
+        candidateIndex.invalidate();
+    }
+
+    /**
+     * Replaces the contents of the candidate list with {@code snapshot}, taken with {@link #getCandidateSnapshot()}.
+     * Only the candidates that differ from the current ones are re-indexed.
+     */
+    public void setCandidates(PersistentList<Candidate> snapshot) {
+        for (PersistentList.Change<Candidate> change : candidates.setCandidates(snapshot)) {
+            change.getRemoved().forEach(candidateIndex::remove);
+            change.getAdded().forEach(candidateIndex::add);
+        }
     }
 
     /**
@@ -59,6 +80,13 @@ public class CandidateBook implements ReadOnlyCandidateBook {
 
     //// candidate-level operations
 
+    /**
+     * Returns the candidate with the given {@code id}, or null if there is none.
+     */
+    public Candidate getCandidateById(long id) {
+        return candidates.getCandidateById(id);
+    }
+
     /**
      * Returns true if a candidate with the same identity as {@code candidate} exists in the recruit book.
      */
@@ -73,6 +101,7 @@ public class CandidateBook implements ReadOnlyCandidateBook {
      */
     public void addCandidate(Candidate p) {
         candidates.add(p);
+        candidateIndex.add(p);
     }
 
     /**
@@ -84,38 +113,33 @@ public class CandidateBook implements ReadOnlyCandidateBook {
     public void updateCandidate(Candidate target, Candidate editedCandidate) {
         requireNonNull(editedCandidate);
 
-        candidates.setCandidate(target, editedCandidate);
+        Candidate replaced = candidates.setCandidate(target, editedCandidate);
+        candidateIndex.replace(replaced, editedCandidate);
     }
 
     /**
-     *  Sorts the candidate list
+     * Returns the order to view the candidates in when sorting by {@code prefix}. Any other prefix reverses
+     * {@code currentOrder}, where null stands for the order of the candidate list.
      */
-    public void sortCandidates(Prefix prefix) {
+    public Comparator<? super Candidate> getCandidateComparator(Prefix prefix,
+                                                                Comparator<? super Candidate> currentOrder) {
         String prefixString = prefix.toString();
         switch(prefixString) {
         case "n/":
-            candidates.sortByName();
-            break;
+            return candidates.comparatorByName();
         case "x/":
-            candidates.sortByAge();
-            break;
+            return candidates.comparatorByAge();
         case "e/":
-            candidates.sortByEmail();
-            break;
+            return candidates.comparatorByEmail();
         case "j/":
-            candidates.sortByJob();
-            break;
+            return candidates.comparatorByJob();
         case "h/":
-            candidates.sortByEducation();
-            break;
+            return candidates.comparatorByEducation();
         case "s/":
-            candidates.sortBySalary();
-            break;
+            return candidates.comparatorBySalary();
         default:
-            candidates.sortInReverse();
-
+            return currentOrder == null ? candidates.comparatorByListOrder().reversed() : currentOrder.reversed();
         }
-
     }
 
     /**
@@ -123,7 +147,19 @@ public class CandidateBook implements ReadOnlyCandidateBook {
      * {@code key} must exist in the recruit book.
      */
     public void removeCandidate(Candidate key) {
-        candidates.remove(key);
+        candidateIndex.remove(candidates.remove(key));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the token index of this book
+     * where possible, so that searches do not tokenise every candidate.
+     */
+    public Predicate<Candidate> withCandidateIndex(Predicate<Candidate> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof IndexablePredicate) {
+            return ((IndexablePredicate<Candidate>) predicate).withIndex(candidateIndex);
+        }
+        return predicate;
     }
 
     //// util methods
@@ -134,6 +170,20 @@ public class CandidateBook implements ReadOnlyCandidateBook {
         // TODO: refine later
     }
 
+    /**
+     * Returns the candidate list as it is now, in constant time. See {@link UniqueCandidateList#snapshot()}.
+     */
+    public PersistentList<Candidate> getCandidateSnapshot() {
+        return candidates.snapshot();
+    }
+
+    @Override
+    public ReadOnlyCandidateBook snapshot() {
+        ObservableList<Candidate> candidateList =
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(candidates.snapshot().asList()));
+        return () -> candidateList;
+    }
+
     @Override
     public ObservableList<Candidate> getCandidateList() {
         return candidates.asUnmodifiableObservableList();
@@ -3,17 +3,23 @@ package seedu.recruit.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.recruit.logic.parser.Prefix;
 import seedu.recruit.model.candidate.Candidate;
 import seedu.recruit.model.company.Company;
 import seedu.recruit.model.company.CompanyName;
+import seedu.recruit.model.company.CompanyQueryFields;
 import seedu.recruit.model.company.UniqueCompanyList;
 import seedu.recruit.model.joboffer.JobOffer;
+import seedu.recruit.model.joboffer.JobOfferQueryFields;
 import seedu.recruit.model.joboffer.UniqueJobList;
+import seedu.recruit.model.util.IndexablePredicate;
+import seedu.recruit.model.util.PersistentList;
+import seedu.recruit.model.util.TokenIndex;
 
 
 /**
@@ -24,10 +30,14 @@ import seedu.recruit.model.joboffer.UniqueJobList;
 public class CompanyBook implements ReadOnlyCompanyBook {
     private final UniqueCompanyList companyList;
     private final UniqueJobList companyJobList;
+    private final TokenIndex<Company> companyIndex;
+    private final TokenIndex<JobOffer> jobOfferIndex;
 
     {
         companyList = new UniqueCompanyList();
         companyJobList = new UniqueJobList();
+        companyIndex = TokenIndex.of(CompanyQueryFields.FIELDS, () -> companyList);
+        jobOfferIndex = TokenIndex.of(JobOfferQueryFields.FIELDS, () -> companyJobList);
     }
 
     public CompanyBook() {}
@@ -49,10 +59,23 @@ public class CompanyBook implements ReadOnlyCompanyBook {
      */
     public void setCompanyList(List<Company> companyList) {
         this.companyList.setCompanyList(companyList);
+        companyIndex.invalidate();
     }
 
     public void setCompanyList(UniqueCompanyList companyList) {
         this.companyList.setCompanyList(companyList);
+        companyIndex.invalidate();
+    }
+
+    /**
+     * Replaces the contents of the company list with {@code snapshot}, taken with {@link #getCompanySnapshot()}.
+     * Only the companies that differ from the current ones are re-indexed.
+     */
+    public void setCompanyList(PersistentList<Company> snapshot) {
+        for (PersistentList.Change<Company> change : companyList.setCompanyList(snapshot)) {
+            change.getRemoved().forEach(companyIndex::remove);
+            change.getAdded().forEach(companyIndex::add);
+        }
     }
 
     /**
@@ -81,14 +104,22 @@ public class CompanyBook implements ReadOnlyCompanyBook {
      */
     public void addCompany(Company company) {
         companyList.add(company);
+        companyIndex.add(company);
+    }
+
+    /**
+     * Returns the company with @param companyName if it exists in CompanyBook
+     * and null otherwise
+     */
+    public Company getCompanyFromName(CompanyName companyName) {
+        return companyList.getCompanyFromName(companyName);
     }
 
     /**
-     * Returns company index if company with @param companyName exists in CompanyBook
-     * and -1 otherwise
+     * Returns the company with the given {@code id}, or null if there is none.
      */
-    public int getCompanyIndexFromName(CompanyName companyName) {
-        return companyList.getCompanyIndexFromName(companyName);
+    public Company getCompanyById(long id) {
+        return companyList.getCompanyById(id);
     }
 
     /**
@@ -108,23 +139,23 @@ public class CompanyBook implements ReadOnlyCompanyBook {
      */
     public void updateCompany(Company target, Company editedCompany) {
         requireNonNull(editedCompany);
-        companyList.setCompany(target, editedCompany);
+        Company replaced = companyList.setCompany(target, editedCompany);
+        companyIndex.replace(replaced, editedCompany);
     }
 
     /**
-     * Sorts the company list
+     * Returns the order to view the companies in when sorting by {@code prefix}. Any other prefix reverses
+     * {@code currentOrder}, where null stands for the order of the company list.
      */
-    public void sortCompanies(Prefix prefix) {
+    public Comparator<? super Company> getCompanyComparator(Prefix prefix, Comparator<? super Company> currentOrder) {
         String prefixString = prefix.toString();
         switch (prefixString) {
         case "c/":
-            companyList.sortByCompanyName();
-            break;
+            return companyList.comparatorByCompanyName();
         case "e/":
-            companyList.sortByEmail();
-            break;
+            return companyList.comparatorByEmail();
         default:
-            companyList.sortInReverse();
+            return currentOrder == null ? companyList.comparatorByListOrder().reversed() : currentOrder.reversed();
         }
     }
 
@@ -133,14 +164,24 @@ public class CompanyBook implements ReadOnlyCompanyBook {
      * {@code key} must exist in the CompanyBook.
      */
     public void removeCompany(Company key) {
-        companyList.remove(key);
-        List<JobOffer> jobOffersToRemove = new ArrayList<>();
-        for (JobOffer jobOffer: companyJobList) {
-            if (jobOffer.getCompanyName().equals(key.getName())) {
-                jobOffersToRemove.add(jobOffer);
-            }
+        companyIndex.remove(companyList.remove(key));
+        List<JobOffer> jobOffersToRemove = companyJobList.getJobOffersFromCompany(key.getName());
+        companyJobList.removeAllFromCompany(key.getName());
+        for (JobOffer jobOffer : jobOffersToRemove) {
+            jobOfferIndex.remove(jobOffer);
+        }
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the company token index
+     * where possible, so that searches do not tokenise every company.
+     */
+    public Predicate<Company> withCompanyIndex(Predicate<Company> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof IndexablePredicate) {
+            return ((IndexablePredicate<Company>) predicate).withIndex(companyIndex);
         }
-        companyJobList.removeAll(jobOffersToRemove);
+        return predicate;
     }
 
     // job offer level operations
@@ -150,6 +191,14 @@ public class CompanyBook implements ReadOnlyCompanyBook {
      */
     public void addJobOffer(JobOffer jobOffer) {
         companyJobList.add(jobOffer);
+        jobOfferIndex.add(jobOffer);
+    }
+
+    /**
+     * Returns the job offer with the given {@code id}, or null if there is none.
+     */
+    public JobOffer getJobOfferById(long id) {
+        return companyJobList.getJobOfferById(id);
     }
 
     /**
@@ -168,7 +217,8 @@ public class CompanyBook implements ReadOnlyCompanyBook {
      */
     public void updateJobOffer(JobOffer target, JobOffer editedJobOffer) {
         requireAllNonNull(target, editedJobOffer);
-        companyJobList.setJobOffer(target, editedJobOffer);
+        JobOffer replaced = companyJobList.setJobOffer(target, editedJobOffer);
+        jobOfferIndex.replace(replaced, editedJobOffer);
     }
 
     /**
@@ -176,69 +226,110 @@ public class CompanyBook implements ReadOnlyCompanyBook {
      * {@code companyJobList} must not contain duplicate job offers.
      */
     public void setCompanyJobList(List<JobOffer> companyJobList) {
-        this.companyJobList.clear();
-        for (JobOffer jobOffer: companyJobList) {
-            this.companyJobList.add(new JobOffer(jobOffer));
-        }
+        this.companyJobList.setJobOffers(companyJobList);
+        jobOfferIndex.invalidate();
     }
 
     public void setCompanyJobList(UniqueJobList companyJobList) {
-        this.companyJobList.clear();
-        for (JobOffer jobOffer: companyJobList) {
-            this.companyJobList.add(new JobOffer(jobOffer));
+        setCompanyJobList(companyJobList.getInternalList());
+    }
+
+    /**
+     * Replaces the contents of the company job list with {@code snapshot}, taken with
+     * {@link #getJobOfferSnapshot()}. The job offers are not copied, as job offers in the company book are never
+     * changed in place, and only those that differ from the current ones are re-indexed.
+     */
+    public void setCompanyJobList(PersistentList<JobOffer> snapshot) {
+        for (PersistentList.Change<JobOffer> change : companyJobList.setJobOffers(snapshot)) {
+            change.getRemoved().forEach(jobOfferIndex::remove);
+            change.getAdded().forEach(jobOfferIndex::add);
         }
     }
 
-    /** Cascading changes of candidates in to the candidate lists stored in job offers from shortlistcommand
+    /**
+     * Replaces {@code target} with {@code editedCandidate} on the shortlists of all job offers that have shortlisted
+     * it. Each job offer is replaced by a copy whose shortlist differs from its own in that one candidate, in time
+     * logarithmic in the length of the shortlist.
      */
     public void cascadeJobListWithEditedCandidate(Candidate target, Candidate editedCandidate) {
         requireAllNonNull(target, editedCandidate);
-        for (JobOffer jobOffer: companyJobList) {
-            if (jobOffer.getUniqueCandidateList().contains(target)) {
-                jobOffer.getUniqueCandidateList().setCandidate(target, editedCandidate);
-                break;
-            }
+        for (JobOffer jobOffer : companyJobList.getJobOffersShortlisting(target)) {
+            updateJobOffer(jobOffer, jobOffer.withShortlist(jobOffer.getShortlist().with(target, editedCandidate)));
+        }
+    }
+
+    /**
+     * Removes {@code deletedCandidate} from the shortlists of all job offers that have shortlisted it.
+     */
+    public void cascadeJobListWithDeletedCandidate(Candidate deletedCandidate) {
+        requireNonNull(deletedCandidate);
+        for (JobOffer jobOffer : companyJobList.getJobOffersShortlisting(deletedCandidate)) {
+            deleteShortlistedCandidateFromJobOffer(deletedCandidate, jobOffer);
         }
     }
 
+    /**
+     * Returns the job offers that have shortlisted {@code candidate}, in time proportional to their number.
+     */
+    public List<JobOffer> getJobOffersShortlisting(Candidate candidate) {
+        return companyJobList.getJobOffersShortlisting(candidate);
+    }
+
+    /**
+     * Shortlists {@code candidate} for {@code jobOffer}, which must exist in the company book.
+     * The job offer is replaced by a copy with the candidate added to its shortlist, as job offers are immutable.
+     */
+    public void shortlistCandidateToJobOffer(Candidate candidate, JobOffer jobOffer) {
+        requireAllNonNull(candidate, jobOffer);
+        updateJobOffer(jobOffer, jobOffer.withShortlist(jobOffer.getShortlist().plus(candidate)));
+    }
+
+    /**
+     * Removes {@code candidate} from the shortlist of {@code jobOffer}, which must exist in the company book.
+     * The job offer is replaced by a copy without the candidate, as for
+     * {@link #shortlistCandidateToJobOffer(Candidate, JobOffer)}.
+     */
+    public void deleteShortlistedCandidateFromJobOffer(Candidate candidate, JobOffer jobOffer) {
+        requireAllNonNull(candidate, jobOffer);
+        updateJobOffer(jobOffer, jobOffer.withShortlist(jobOffer.getShortlist().minus(candidate)));
+    }
+
     /** Cascading company name changes to job offers
      */
     public void cascadeJobListWithEditedCompanyName(CompanyName targetName, CompanyName editedName) {
         requireAllNonNull(targetName, editedName);
 
-        for (JobOffer jobOffer: companyJobList) {
-            if (jobOffer.getCompanyName().equals(targetName)) {
-                JobOffer editedJobOffer = new JobOffer(editedName, jobOffer.getJob(),
-                        jobOffer.getGender(), jobOffer.getAgeRange(), jobOffer.getEducation(),
-                        jobOffer.getSalary(), jobOffer.getUniqueCandidateList());
-                companyJobList.setJobOffer(jobOffer, editedJobOffer);
-            }
+        for (JobOffer jobOffer: companyJobList.getJobOffersFromCompany(targetName)) {
+            JobOffer editedJobOffer = new JobOffer(jobOffer.getId(), editedName, jobOffer.getJob(),
+                    jobOffer.getGender(), jobOffer.getAgeRange(), jobOffer.getEducation(),
+                    jobOffer.getSalary(), jobOffer.getShortlist());
+            companyJobList.setJobOffer(jobOffer, editedJobOffer);
+            jobOfferIndex.replace(jobOffer, editedJobOffer);
         }
     }
 
     /**
-     * Sorts the company job list
+     * Returns the order to view the job offers in when sorting by {@code prefix}. Any other prefix reverses
+     * {@code currentOrder}, where null stands for the order of the company job list.
      */
-    public void sortJobOffers(Prefix prefix) {
+    public Comparator<? super JobOffer> getJobOfferComparator(Prefix prefix,
+                                                              Comparator<? super JobOffer> currentOrder) {
         String prefixString = prefix.toString();
         switch (prefixString) {
         case "c/":
-            companyJobList.sortByCompanyName();
-            break;
+            return companyJobList.comparatorByCompanyName();
         case "j/":
-            companyJobList.sortByJob();
-            break;
+            return companyJobList.comparatorByJob();
         case "xr/":
-            companyJobList.sortByAgeRange();
-            break;
+            return companyJobList.comparatorByAgeRange();
         case "h/":
-            companyJobList.sortByEducation();
-            break;
+            return companyJobList.comparatorByEducation();
         case "s/":
-            companyJobList.sortBySalary();
-            break;
+            return companyJobList.comparatorBySalary();
         default:
-            companyJobList.sortInReverse();
+            return currentOrder == null
+                    ? companyJobList.comparatorByListOrder().reversed()
+                    : currentOrder.reversed();
         }
     }
 
@@ -247,8 +338,19 @@ public class CompanyBook implements ReadOnlyCompanyBook {
      * @param jobOffer must exist inside the CompanyBook
      */
     public void removeJobOffer(JobOffer jobOffer) {
-        companyJobList.remove(jobOffer);
+        jobOfferIndex.remove(companyJobList.remove(jobOffer));
+    }
 
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the job offer token index
+     * where possible, so that searches do not tokenise every job offer.
+     */
+    public Predicate<JobOffer> withJobOfferIndex(Predicate<JobOffer> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof IndexablePredicate) {
+            return ((IndexablePredicate<JobOffer>) predicate).withIndex(jobOfferIndex);
+        }
+        return predicate;
     }
 
     //// util methods
@@ -259,6 +361,25 @@ public class CompanyBook implements ReadOnlyCompanyBook {
         // TODO: refine later
     }
 
+    /**
+     * Returns the company list as it is now, in constant time. See {@link UniqueCompanyList#snapshot()}.
+     */
+    public PersistentList<Company> getCompanySnapshot() {
+        return companyList.snapshot();
+    }
+
+    /**
+     * Returns the company job list as it is now, in constant time. See {@link UniqueJobList#snapshot()}.
+     */
+    public PersistentList<JobOffer> getJobOfferSnapshot() {
+        return companyJobList.snapshot();
+    }
+
+    @Override
+    public ReadOnlyCompanyBook snapshot() {
+        return ReadOnlyCompanyBook.snapshotOf(companyList.snapshot().asList(), companyJobList.snapshot().asList());
+    }
+
     @Override
     public ObservableList<Company> getCompanyList() {
         return companyList.asUnmodifiableObservableList();
@@ -1,5 +1,6 @@
 package seedu.recruit.model;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -30,6 +31,14 @@ public interface Model {
 
     void commitRecruitBook();
 
+    /**
+     * Runs {@code changes} as a single change to the recruit book, then commits the recruit book.
+     * Change events raised while {@code changes} runs are held back, and at most one is raised for each book once
+     * it returns. If {@code changes} throws, the held back events are still raised but nothing is committed.
+     * Calls made from within {@code changes} run as part of the enclosing change.
+     */
+    void runInTransaction(Runnable changes);
+
     void undoRecruitBook();
 
     void redoRecruitBook();
@@ -48,6 +57,11 @@ public interface Model {
      */
     boolean hasCandidate(Candidate candidate);
 
+    /**
+     * Returns the candidate with the given {@code id}, or null if there is no such candidate.
+     */
+    Candidate getCandidateById(long id);
+
     /**
      * Deletes the given candidate.
      * The candidate must exist in the candidate book.
@@ -61,7 +75,8 @@ public interface Model {
     void addCandidate(Candidate candidate);
 
     /**
-     * Sorts the candidates in CandidateBook
+     * Sorts the displayed candidates by {@code prefix}, or reverses their order for any other prefix.
+     * The CandidateBook itself is left unchanged.
      */
     void sortCandidates(Prefix prefix);
 
@@ -117,7 +132,8 @@ public interface Model {
     void addCompany(Company company);
 
     /**
-     * Sorts the list of companies in CompanyBook
+     * Sorts the displayed companies by {@code prefix}, or reverses their order for any other prefix.
+     * The CompanyBook itself is left unchanged.
      */
     void sortCompanies(Prefix prefix);
 
@@ -136,14 +152,19 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered company list */
     ObservableList<Company> getFilteredCompanyList();
 
-    /** Returns index of Company using @param companyName
+    /** Returns the Company object based on @param index
+     */
+    public Company getCompanyFromIndex(int index);
+
+    /** Returns the Company object with @param companyName, or null if there is no such company
      *  companyName is enforced to be unique in CompanyBook
      */
-    int getCompanyIndexFromName(CompanyName companyName);
+    Company getCompanyByName(CompanyName companyName);
 
-    /** Returns the Company object based on @param index
+    /**
+     * Returns the company with the given {@code id}, or null if there is no such company.
      */
-    public Company getCompanyFromIndex(int index);
+    Company getCompanyById(long id);
 
     /**
      * Updates the filter of the filtered company list to filter by the given {@code predicate}.
@@ -163,7 +184,8 @@ public interface Model {
     void addJobOffer(JobOffer jobOffer);
 
     /**
-     * Sorts the list of job offers in CompanyBook
+     * Sorts the displayed job offers by {@code prefix}, or reverses their order for any other prefix.
+     * The CompanyBook itself is left unchanged.
      */
     void sortJobOffers(Prefix prefix);
 
@@ -172,6 +194,11 @@ public interface Model {
      */
     boolean hasJobOffer(JobOffer jobOffer);
 
+    /**
+     * Returns the job offer with the given {@code id}, or null if there is no such job offer.
+     */
+    JobOffer getJobOfferById(long id);
+
     /**
      * Replaces the given job offer {@code target} in the list with {@code editedJobOffer}.
      * {@code target} must exist in the company book.
@@ -216,6 +243,11 @@ public interface Model {
      */
     void deleteShortlistedCandidateFromJobOffer(Candidate candidate, JobOffer jobOffer);
 
+    /**
+     * Returns the job offers that have shortlisted {@code candidate}.
+     */
+    List<JobOffer> getJobOffersShortlisting(Candidate candidate);
+
     // ================================== Email Command functions ===================================== //
 
     /**
@@ -3,6 +3,7 @@ package seedu.recruit.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,6 +12,7 @@ import com.google.common.eventbus.Subscribe;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.recruit.commons.core.ComponentManager;
 import seedu.recruit.commons.core.LogsCenter;
 import seedu.recruit.commons.events.logic.UserAuthenticatedEvent;
@@ -22,6 +24,7 @@ import seedu.recruit.model.candidate.Candidate;
 import seedu.recruit.model.company.Company;
 import seedu.recruit.model.company.CompanyName;
 import seedu.recruit.model.joboffer.JobOffer;
+import seedu.recruit.model.util.PrecomputedPredicate;
 
 /**
  * Represents the in-memory model of the recruit book data.
@@ -30,10 +33,17 @@ public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedRecruitBook versionedRecruitBook;
+    private final SortedList<Candidate> sortedCandidates;
+    private final SortedList<Company> sortedCompanies;
+    private final SortedList<JobOffer> sortedJobs;
     private final FilteredList<Candidate> filteredCandidates;
     private final FilteredList<Company> filteredCompanies;
     private final FilteredList<JobOffer> filteredJobs;
+    private final int parallelFilterThreshold;
     private EmailUtil emailUtil;
+    private boolean isInTransaction;
+    private boolean isCandidateBookChangePending;
+    private boolean isCompanyBookChangePending;
 
     /**
      * Initializes a ModelManager with the given candidateBook, companyBook and userPrefs.
@@ -45,10 +55,14 @@ public class ModelManager extends ComponentManager implements Model {
         logger.fine("Initializing with recruit book: " + candidateBook + companyBook
                 + " and user prefs " + userPrefs);
 
-        versionedRecruitBook = new VersionedRecruitBook(candidateBook, companyBook);
-        filteredCandidates = new FilteredList<>(versionedRecruitBook.getCandidateList());
-        filteredCompanies = new FilteredList<>(versionedRecruitBook.getCompanyList());
-        filteredJobs = new FilteredList<>(versionedRecruitBook.getCompanyJobList());
+        versionedRecruitBook = new VersionedRecruitBook(candidateBook, companyBook, userPrefs.getUndoHistoryLimit());
+        sortedCandidates = new SortedList<>(versionedRecruitBook.getCandidateList());
+        sortedCompanies = new SortedList<>(versionedRecruitBook.getCompanyList());
+        sortedJobs = new SortedList<>(versionedRecruitBook.getCompanyJobList());
+        filteredCandidates = new FilteredList<>(sortedCandidates);
+        filteredCompanies = new FilteredList<>(sortedCompanies);
+        filteredJobs = new FilteredList<>(sortedJobs);
+        parallelFilterThreshold = userPrefs.getParallelFilterThreshold();
         emailUtil = new EmailUtil();
         EmailUtil.setEmailSettings(userPrefs.getEmailSettings());
 
@@ -129,6 +143,38 @@ public class ModelManager extends ComponentManager implements Model {
         versionedRecruitBook.commit();
     }
 
+    @Override
+    public void runInTransaction(Runnable changes) {
+        requireNonNull(changes);
+        if (isInTransaction) {
+            changes.run();
+            return;
+        }
+
+        isInTransaction = true;
+        try {
+            changes.run();
+        } finally {
+            isInTransaction = false;
+            raisePendingChangeEvents();
+        }
+        commitRecruitBook();
+    }
+
+    /**
+     * Raises the change events held back during a transaction.
+     */
+    private void raisePendingChangeEvents() {
+        if (isCandidateBookChangePending) {
+            isCandidateBookChangePending = false;
+            indicateCandidateBookChanged();
+        }
+        if (isCompanyBookChangePending) {
+            isCompanyBookChangePending = false;
+            indicateCompanyBookChanged();
+        }
+    }
+
     // ================================== CandidateBook functions ====================================== //
 
     @Override
@@ -143,9 +189,13 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event to indicate the model has changed, or holds it back until the end of the current transaction
      */
     private void indicateCandidateBookChanged() {
+        if (isInTransaction) {
+            isCandidateBookChangePending = true;
+            return;
+        }
         raise(new CandidateBookChangedEvent(versionedRecruitBook.getCandidateBook()));
     }
 
@@ -155,9 +205,20 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedRecruitBook.hasCandidate(candidate);
     }
 
+    @Override
+    public Candidate getCandidateById(long id) {
+        return versionedRecruitBook.getCandidateById(id);
+    }
+
     @Override
     public void deleteCandidate(Candidate target) {
+        boolean isShortlisted = !versionedRecruitBook.getJobOffersShortlisting(target).isEmpty();
+        versionedRecruitBook.cascadeJobListWithDeletedCandidate(target);
         versionedRecruitBook.removeCandidate(target);
+        // the shortlists are saved first, so that they never refer to a candidate missing from the saved book
+        if (isShortlisted) {
+            indicateCompanyBookChanged();
+        }
         indicateCandidateBookChanged();
     }
 
@@ -171,16 +232,20 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateCandidate(Candidate target, Candidate editedCandidate) {
         requireAllNonNull(target, editedCandidate);
+        boolean isShortlisted = !versionedRecruitBook.getJobOffersShortlisting(target).isEmpty();
         versionedRecruitBook.cascadeJobListWithEditedCandidate(target, editedCandidate);
         versionedRecruitBook.updateCandidate(target, editedCandidate);
         indicateCandidateBookChanged();
-        indicateCompanyBookChanged();
+        if (isShortlisted) {
+            indicateCompanyBookChanged();
+        }
     }
 
     @Override
     public void sortCandidates(Prefix prefix) {
-        versionedRecruitBook.sortCandidates(prefix);
-        indicateCandidateBookChanged();
+        requireNonNull(prefix);
+        sortedCandidates.setComparator(versionedRecruitBook.getCandidateBook()
+                .getCandidateComparator(prefix, sortedCandidates.getComparator()));
     }
 
     @Override
@@ -202,7 +267,18 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredCandidateList(Predicate<Candidate> predicate) {
         requireNonNull(predicate);
-        filteredCandidates.setPredicate(predicate);
+        Predicate<Candidate> indexedPredicate = versionedRecruitBook.getCandidateBook().withCandidateIndex(predicate);
+        ObservableList<Candidate> candidates = versionedRecruitBook.getCandidateList();
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS || candidates.size() < parallelFilterThreshold) {
+            filteredCandidates.setPredicate(indexedPredicate);
+            return;
+        }
+
+        // evaluate the predicate, answered from the index where it can be, on every core before refiltering
+        PrecomputedPredicate<Candidate> precomputedPredicate =
+                PrecomputedPredicate.evaluate(candidates, indexedPredicate);
+        filteredCandidates.setPredicate(precomputedPredicate);
+        precomputedPredicate.expire();
     }
 
 
@@ -223,9 +299,13 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event to indicate the model has changed, or holds it back until the end of the current transaction
      */
     private void indicateCompanyBookChanged() {
+        if (isInTransaction) {
+            isCompanyBookChangePending = true;
+            return;
+        }
         raise(new CompanyBookChangedEvent(versionedRecruitBook.getCompanyBook()));
     }
 
@@ -249,13 +329,19 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public int getCompanyIndexFromName(CompanyName companyName) {
-        return versionedRecruitBook.getCompanyIndexFromName(companyName);
+    public Company getCompanyFromIndex(int index) {
+        return versionedRecruitBook.getCompanyFromIndex(index);
+    }
+
+    @Override
+    public Company getCompanyByName(CompanyName companyName) {
+        requireNonNull(companyName);
+        return versionedRecruitBook.getCompanyFromName(companyName);
     }
 
     @Override
-    public Company getCompanyFromIndex(int index) {
-        return versionedRecruitBook.getCompanyFromIndex(index);
+    public Company getCompanyById(long id) {
+        return versionedRecruitBook.getCompanyById(id);
     }
 
     @Override
@@ -268,8 +354,9 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void sortCompanies(Prefix prefix) {
-        versionedRecruitBook.sortCompanies(prefix);
-        indicateCompanyBookChanged();
+        requireNonNull(prefix);
+        sortedCompanies.setComparator(versionedRecruitBook.getCompanyBook()
+                .getCompanyComparator(prefix, sortedCompanies.getComparator()));
     }
 
     @Override
@@ -292,7 +379,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredCompanyList(Predicate<Company> predicate) {
         requireNonNull(predicate);
-        filteredCompanies.setPredicate(predicate);
+        filteredCompanies.setPredicate(versionedRecruitBook.getCompanyBook().withCompanyIndex(predicate));
     }
 
 
@@ -311,6 +398,11 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedRecruitBook.hasJobOffer(jobOffer);
     }
 
+    @Override
+    public JobOffer getJobOfferById(long id) {
+        return versionedRecruitBook.getJobOfferById(id);
+    }
+
     @Override
     public void updateJobOfferInCompanyBook(JobOffer target, JobOffer editedJobOffer) {
         requireAllNonNull(target, editedJobOffer);
@@ -326,8 +418,9 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void sortJobOffers(Prefix prefix) {
-        versionedRecruitBook.sortJobOffers(prefix);
-        indicateCompanyBookChanged();
+        requireNonNull(prefix);
+        sortedJobs.setComparator(versionedRecruitBook.getCompanyBook()
+                .getJobOfferComparator(prefix, sortedJobs.getComparator()));
     }
 
     @Override
@@ -349,23 +442,29 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredCompanyJobList(Predicate<JobOffer> predicate) {
         requireNonNull(predicate);
-        filteredJobs.setPredicate(predicate);
+        filteredJobs.setPredicate(versionedRecruitBook.getCompanyBook().withJobOfferIndex(predicate));
     }
 
     // ================================== Shortlist Command functions ====================================== //
 
     @Override
     public void shortlistCandidateToJobOffer(Candidate candidate, JobOffer jobOffer) {
-        jobOffer.shortlistCandidate(candidate);
+        versionedRecruitBook.shortlistCandidateToJobOffer(candidate, jobOffer);
         indicateCompanyBookChanged();
     }
 
     @Override
     public void deleteShortlistedCandidateFromJobOffer(Candidate candidate, JobOffer jobOffer) {
-        jobOffer.deleteShortlistedCandidate(candidate);
+        versionedRecruitBook.deleteShortlistedCandidateFromJobOffer(candidate, jobOffer);
         indicateCompanyBookChanged();
     }
 
+    @Override
+    public List<JobOffer> getJobOffersShortlisting(Candidate candidate) {
+        requireNonNull(candidate);
+        return versionedRecruitBook.getJobOffersShortlisting(candidate);
+    }
+
     // ================================== Email Command functions ====================================== //
 
     public EmailUtil getEmailUtil() {
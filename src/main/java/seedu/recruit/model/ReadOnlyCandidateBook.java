@@ -1,5 +1,6 @@
 package seedu.recruit.model;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.recruit.model.candidate.Candidate;
 
@@ -14,4 +15,14 @@ public interface ReadOnlyCandidateBook {
      */
     ObservableList<Candidate> getCandidateList();
 
+    /**
+     * Returns a copy of this book that is not affected by later changes to it, and so can be read from another
+     * thread while this book is changed.
+     */
+    default ReadOnlyCandidateBook snapshot() {
+        ObservableList<Candidate> candidates =
+                FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(getCandidateList()));
+        return () -> candidates;
+    }
+
 }
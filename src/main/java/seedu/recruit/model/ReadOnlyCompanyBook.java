@@ -1,5 +1,9 @@
 package seedu.recruit.model;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.recruit.model.company.Company;
 import seedu.recruit.model.joboffer.JobOffer;
@@ -17,4 +21,33 @@ public interface ReadOnlyCompanyBook {
     ObservableList<Company> getCompanyList();
 
     ObservableList<JobOffer> getCompanyJobList();
+
+    /**
+     * Returns a copy of this book that is not affected by later changes to it, and so can be read from another
+     * thread while this book is changed.
+     */
+    default ReadOnlyCompanyBook snapshot() {
+        return snapshotOf(new ArrayList<>(getCompanyList()), new ArrayList<>(getCompanyJobList()));
+    }
+
+    /**
+     * Returns a read-only book viewing {@code companies} and {@code jobOffers}, which must not change afterwards.
+     */
+    static ReadOnlyCompanyBook snapshotOf(List<Company> companies, List<JobOffer> jobOffers) {
+        ObservableList<Company> companyList =
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(companies));
+        ObservableList<JobOffer> jobOfferList =
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(jobOffers));
+        return new ReadOnlyCompanyBook() {
+            @Override
+            public ObservableList<Company> getCompanyList() {
+                return companyList;
+            }
+
+            @Override
+            public ObservableList<JobOffer> getCompanyJobList() {
+                return jobOfferList;
+            }
+        };
+    }
 }
@@ -4,7 +4,6 @@ import java.util.List;
 import java.util.Objects;
 
 import javafx.collections.ObservableList;
-import seedu.recruit.logic.parser.Prefix;
 import seedu.recruit.model.candidate.Candidate;
 import seedu.recruit.model.company.Company;
 import seedu.recruit.model.company.CompanyName;
@@ -58,6 +57,10 @@ public class RecruitBook {
         return candidateBook.hasCandidate(candidate);
     }
 
+    public Candidate getCandidateById(long id) {
+        return candidateBook.getCandidateById(id);
+    }
+
     public void addCandidate(Candidate p) {
         candidateBook.addCandidate(p);
     }
@@ -67,10 +70,6 @@ public class RecruitBook {
     }
 
 
-    public void sortCandidates(Prefix prefix) {
-        candidateBook.sortCandidates(prefix);
-    }
-
     public void removeCandidate(Candidate candidate) {
         candidateBook.removeCandidate(candidate);
     }
@@ -100,20 +99,20 @@ public class RecruitBook {
         companyBook.addCompany(company);
     }
 
-    public int getCompanyIndexFromName(CompanyName companyName) {
-        return companyBook.getCompanyIndexFromName(companyName);
+    public Company getCompanyFromName(CompanyName companyName) {
+        return companyBook.getCompanyFromName(companyName);
     }
 
     public Company getCompanyFromIndex(int index) {
         return companyBook.getCompanyFromIndex(index);
     }
 
-    public void updateCompany(Company target, Company editedCompany) {
-        companyBook.updateCompany(target, editedCompany);
+    public Company getCompanyById(long id) {
+        return companyBook.getCompanyById(id);
     }
 
-    public void sortCompanies(Prefix prefix) {
-        companyBook.sortCompanies(prefix);
+    public void updateCompany(Company target, Company editedCompany) {
+        companyBook.updateCompany(target, editedCompany);
     }
 
     public void removeCompany(Company key) {
@@ -128,6 +127,10 @@ public class RecruitBook {
         return companyBook.hasJobOffer(jobOffer);
     }
 
+    public JobOffer getJobOfferById(long id) {
+        return companyBook.getJobOfferById(id);
+    }
+
     public void updateJobOffer(JobOffer target, JobOffer editedJobOffer) {
         companyBook.updateJobOffer(target, editedJobOffer);
     }
@@ -144,19 +147,31 @@ public class RecruitBook {
         companyBook.cascadeJobListWithEditedCandidate(target, editedCandidate);
     }
 
+    public void cascadeJobListWithDeletedCandidate(Candidate deletedCandidate) {
+        companyBook.cascadeJobListWithDeletedCandidate(deletedCandidate);
+    }
 
-    public void cascadeJobListWithEditedCompanyName(CompanyName targetName, CompanyName editedName) {
-        companyBook.cascadeJobListWithEditedCompanyName(targetName, editedName);
+    public List<JobOffer> getJobOffersShortlisting(Candidate candidate) {
+        return companyBook.getJobOffersShortlisting(candidate);
     }
 
-    public void sortJobOffers(Prefix prefix) {
-        companyBook.sortJobOffers(prefix);
+
+    public void cascadeJobListWithEditedCompanyName(CompanyName targetName, CompanyName editedName) {
+        companyBook.cascadeJobListWithEditedCompanyName(targetName, editedName);
     }
 
     public void removeJobOffer(JobOffer jobOffer) {
         companyBook.removeJobOffer(jobOffer);
     }
 
+    public void shortlistCandidateToJobOffer(Candidate candidate, JobOffer jobOffer) {
+        companyBook.shortlistCandidateToJobOffer(candidate, jobOffer);
+    }
+
+    public void deleteShortlistedCandidateFromJobOffer(Candidate candidate, JobOffer jobOffer) {
+        companyBook.deleteShortlistedCandidateFromJobOffer(candidate, jobOffer);
+    }
+
     public ObservableList<Company> getCompanyList() {
         return this.companyBook.getCompanyList();
     }
@@ -17,6 +17,13 @@ public class UserPrefs {
     private Path candidateBookFilePath = Paths.get("data" , "candidatebook.xml");
     private Path companyBookFilePath = Paths.get("data" , "companybook.xml");
     private String hashedPassword = null;
+    private int parallelFilterThreshold = 10000;
+    private int undoHistoryLimit = 100;
+    private int storageWriteDelay = 300;
+    private boolean isStorageJournalled = false;
+    private boolean isXmlFileCached = true;
+    private StorageFormat storageFormat = StorageFormat.XML;
+    private int candidateBookSegmentCount = 0;
 
 
     public UserPrefs() {
@@ -63,6 +70,84 @@ public class UserPrefs {
         this.hashedPassword = hashedPassword;
     }
 
+    /**
+     * Returns the number of candidates from which a filter is evaluated in parallel.
+     */
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    /**
+     * Returns the number of commands that can be undone, beyond which the oldest are forgotten.
+     */
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Returns the number of milliseconds a change waits before it is saved in the background, together with the
+     * changes made while it waits. Changes are saved at once, on the thread that made them, if this is 0.
+     */
+    public int getStorageWriteDelay() {
+        return storageWriteDelay;
+    }
+
+    public void setStorageWriteDelay(int storageWriteDelay) {
+        this.storageWriteDelay = storageWriteDelay;
+    }
+
+    /**
+     * Returns true if changes to the books are appended to a journal next to each data file, which is only
+     * rewritten in full from time to time.
+     */
+    public boolean isStorageJournalled() {
+        return isStorageJournalled;
+    }
+
+    public void setStorageJournalled(boolean isStorageJournalled) {
+        this.isStorageJournalled = isStorageJournalled;
+    }
+
+    /**
+     * Returns true if a book saved as xml is also kept in binary form next to its file, so that it can be read
+     * again without parsing the xml file. Saving the book then writes the cache as well.
+     */
+    public boolean isXmlFileCached() {
+        return isXmlFileCached;
+    }
+
+    public void setXmlFileCached(boolean isXmlFileCached) {
+        this.isXmlFileCached = isXmlFileCached;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        this.storageFormat = storageFormat;
+    }
+
+    /**
+     * Returns the number of segment files the candidate book is split over when saved as xml, so that a save only
+     * rewrites the segments holding changed candidates. The book is kept in a single file if this is 0.
+     */
+    public int getCandidateBookSegmentCount() {
+        return candidateBookSegmentCount;
+    }
+
+    public void setCandidateBookSegmentCount(int candidateBookSegmentCount) {
+        this.candidateBookSegmentCount = candidateBookSegmentCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -76,12 +161,21 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(candidateBookFilePath, o.candidateBookFilePath)
-                && Objects.equals(companyBookFilePath, o.companyBookFilePath);
+                && Objects.equals(companyBookFilePath, o.companyBookFilePath)
+                && parallelFilterThreshold == o.parallelFilterThreshold
+                && undoHistoryLimit == o.undoHistoryLimit
+                && storageWriteDelay == o.storageWriteDelay
+                && isStorageJournalled == o.isStorageJournalled
+                && isXmlFileCached == o.isXmlFileCached
+                && storageFormat == o.storageFormat
+                && candidateBookSegmentCount == o.candidateBookSegmentCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, candidateBookFilePath, companyBookFilePath);
+        return Objects.hash(guiSettings, candidateBookFilePath, companyBookFilePath, parallelFilterThreshold,
+                undoHistoryLimit, storageWriteDelay, isStorageJournalled, isXmlFileCached, storageFormat,
+                candidateBookSegmentCount);
     }
 
     @Override
@@ -94,4 +188,16 @@ public class UserPrefs {
         return sb.toString();
     }
 
+    /**
+     * The formats the books can be saved in.
+     */
+    public enum StorageFormat {
+        /** An xml file for each book, which is the file at its file path. */
+        XML,
+        /**
+         * A binary file for each book, next to its file path, which is read much faster. The book is imported from
+         * the xml file at its file path if there is no binary file yet.
+         */
+        BINARY
+    }
 }
@@ -1,32 +1,70 @@
 package seedu.recruit.model;
 
+import static seedu.recruit.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.company.Company;
+import seedu.recruit.model.joboffer.JobOffer;
+import seedu.recruit.model.util.PersistentList;
 
 /**
  * {@code RecruitBook} that keeps track of its own history.
+ *
+ * Each state in the history holds snapshots of the candidate, company and job offer lists rather than copies of
+ * them. Snapshots share the parts of the lists that did not change between states, so committing a state takes
+ * constant time and memory, and the history grows only with the number of changes made. Undoing or redoing a
+ * state likewise only removes, adds and re-indexes the elements that differ between the two states. The history
+ * is further bounded to a number of undoable states, beyond which the oldest states are forgotten.
  */
 
 public class VersionedRecruitBook extends RecruitBook {
 
-    private List<RecruitBook> recruitBookStateList;
+    private final int historyLimit;
+    private List<State> recruitBookStateList;
     private int currentStatePointer;
 
+    /**
+     * Creates a {@code VersionedRecruitBook} that keeps its whole history.
+     */
     public VersionedRecruitBook (ReadOnlyCandidateBook candidateBook, ReadOnlyCompanyBook companyBook) {
+        this(candidateBook, companyBook, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedRecruitBook} that can undo at most {@code historyLimit} commits.
+     */
+    public VersionedRecruitBook (ReadOnlyCandidateBook candidateBook, ReadOnlyCompanyBook companyBook,
+                                 int historyLimit) {
         super(candidateBook, companyBook);
+        checkArgument(historyLimit >= 0, "History limit cannot be negative");
+        this.historyLimit = historyLimit;
         recruitBookStateList = new ArrayList<>();
-        recruitBookStateList.add(new RecruitBook(new CandidateBook(candidateBook), new CompanyBook(companyBook)));
+        recruitBookStateList.add(new State(this));
         currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code RecruitBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves a snapshot of the current {@code RecruitBook} state at the end of the state list.
+     * Undone states are removed from the state list, and so are the oldest states if there are more undoable
+     * states than the history limit.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        recruitBookStateList.add(new RecruitBook(this.getCandidateBook(), this.getCompanyBook()));
+        recruitBookStateList.add(new State(this));
         currentStatePointer++;
+        removeStatesBeyondHistoryLimit();
+    }
+
+    private void removeStatesBeyondHistoryLimit() {
+        int excessStates = currentStatePointer - historyLimit;
+        if (excessStates > 0) {
+            recruitBookStateList.subList(0, excessStates).clear();
+            currentStatePointer -= excessStates;
+        }
     }
 
     private void removeStatesAfterCurrentPointer() {
@@ -41,8 +79,7 @@ public class VersionedRecruitBook extends RecruitBook {
             throw new VersionedRecruitBook.NoUndoableStateException();
         }
         currentStatePointer--;
-        resetData(recruitBookStateList.get(currentStatePointer).getCandidateBook(),
-                recruitBookStateList.get(currentStatePointer).getCompanyBook());
+        recruitBookStateList.get(currentStatePointer).restoreTo(this);
     }
 
     /**
@@ -53,8 +90,7 @@ public class VersionedRecruitBook extends RecruitBook {
             throw new VersionedRecruitBook.NoRedoableStateException();
         }
         currentStatePointer++;
-        resetData(recruitBookStateList.get(currentStatePointer).getCandidateBook(),
-                recruitBookStateList.get(currentStatePointer).getCompanyBook());
+        recruitBookStateList.get(currentStatePointer).restoreTo(this);
     }
 
     /**
@@ -91,6 +127,51 @@ public class VersionedRecruitBook extends RecruitBook {
                 && currentStatePointer == otherVersionedRecruitBook.currentStatePointer;
     }
 
+    /**
+     * The contents of a {@code RecruitBook} at one point in its history.
+     */
+    private static class State {
+        private final PersistentList<Candidate> candidates;
+        private final PersistentList<Company> companies;
+        private final PersistentList<JobOffer> jobOffers;
+
+        State(RecruitBook recruitBook) {
+            candidates = recruitBook.getCandidateBook().getCandidateSnapshot();
+            companies = recruitBook.getCompanyBook().getCompanySnapshot();
+            jobOffers = recruitBook.getCompanyBook().getJobOfferSnapshot();
+        }
+
+        /**
+         * Replaces the contents of {@code recruitBook} with this state, changing only what differs from it.
+         */
+        void restoreTo(RecruitBook recruitBook) {
+            recruitBook.getCandidateBook().setCandidates(candidates);
+            recruitBook.getCompanyBook().setCompanyList(companies);
+            recruitBook.getCompanyBook().setCompanyJobList(jobOffers);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof State)) {
+                return false;
+            }
+
+            // compares the same lists as RecruitBook#equals
+            State otherState = (State) other;
+            return candidates.equals(otherState.candidates)
+                    && companies.equals(otherState.companies);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(candidates, companies);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
@@ -13,6 +13,7 @@ import seedu.recruit.model.commons.Phone;
 import seedu.recruit.model.joboffer.Job;
 import seedu.recruit.model.joboffer.Salary;
 import seedu.recruit.model.tag.Tag;
+import seedu.recruit.model.util.IdGenerator;
 
 /**
  * Represents a Candidate in the candidate book.
@@ -20,6 +21,9 @@ import seedu.recruit.model.tag.Tag;
  */
 public class Candidate {
 
+    // Surrogate key, kept across edits and not part of equality
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -34,13 +38,27 @@ public class Candidate {
     private final Salary expectedSalary;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Computed once, as every field above is immutable
+    private final int hashCode;
+
     /**
      * Every field must be present and not null.
      */
 
     public Candidate(Name name, Gender gender, Age age, Phone phone, Email email, Address address,
                      Job desiredJob, Education education, Salary expectedSalary, Set<Tag> tags) {
+        this(IdGenerator.nextId(), name, gender, age, phone, email, address, desiredJob, education, expectedSalary,
+                tags);
+    }
+
+    /**
+     * Creates a candidate with the given {@code id}, such as the id of the candidate this is an edited version of.
+     * Every field must be present and not null.
+     */
+    public Candidate(long id, Name name, Gender gender, Age age, Phone phone, Email email, Address address,
+                     Job desiredJob, Education education, Salary expectedSalary, Set<Tag> tags) {
         requireAllNonNull(name, gender, phone, email, address, desiredJob, education, expectedSalary, tags);
+        this.id = IdGenerator.reserve(id);
         this.name = name;
         this.gender = gender;
         this.age = age;
@@ -51,6 +69,12 @@ public class Candidate {
         this.education = education;
         this.expectedSalary = expectedSalary;
         this.tags.addAll(tags);
+        this.hashCode = Objects.hash(name, gender, age, phone, email, address, desiredJob, education,
+                expectedSalary, this.tags);
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -128,6 +152,9 @@ public class Candidate {
         }
 
         Candidate otherCandidate = (Candidate) other;
+        if (otherCandidate.hashCode != hashCode) {
+            return false;
+        }
         return otherCandidate.getName().equals(getName())
                 && otherCandidate.getGender().equals(getGender())
                 && otherCandidate.getAge().equals(getAge())
@@ -142,8 +169,7 @@ public class Candidate {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, gender, age, phone, email, address, desiredJob, education, expectedSalary, tags);
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,134 @@
+package seedu.recruit.model.candidate;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The sort keys of a list of candidates, stored as one column per key.
+ *
+ * Ages, salaries and education levels are parsed once into primitive columns and names, emails and jobs are
+ * lower-cased once, so that the comparators returned here compare primitives or ready-made keys instead of
+ * re-deriving them on every comparison. Each candidate holds a slot in every column, found by identity.
+ * A candidate must be added here before it is added to the list, and removed only after it is removed from
+ * the list, as a sorted view of the list compares candidates while they are being added and removed.
+ */
+class CandidateColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Candidate, Integer> slots = new IdentityHashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int[] ages = new int[INITIAL_CAPACITY];
+    private int[] salaries = new int[INITIAL_CAPACITY];
+    private byte[] educationOrders = new byte[INITIAL_CAPACITY];
+    private String[] nameKeys = new String[INITIAL_CAPACITY];
+    private String[] emailKeys = new String[INITIAL_CAPACITY];
+    private String[] jobKeys = new String[INITIAL_CAPACITY];
+
+    /**
+     * Stores the keys of {@code candidate}.
+     */
+    void add(Candidate candidate) {
+        if (slots.containsKey(candidate)) {
+            return;
+        }
+        int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+        ensureCapacity(slot + 1);
+        ages[slot] = Integer.parseInt(candidate.getAge().value);
+        salaries[slot] = Integer.parseInt(candidate.getExpectedSalary().value);
+        educationOrders[slot] = (byte) candidate.getEducation().order;
+        nameKeys[slot] = candidate.getName().fullName.toLowerCase();
+        emailKeys[slot] = candidate.getEmail().value.toLowerCase();
+        jobKeys[slot] = candidate.getDesiredJob().value.toLowerCase();
+        slots.put(candidate, slot);
+    }
+
+    /**
+     * Discards the keys of {@code candidate}.
+     */
+    void remove(Candidate candidate) {
+        Integer slot = slots.remove(candidate);
+        if (slot == null) {
+            return;
+        }
+        nameKeys[slot] = null;
+        emailKeys[slot] = null;
+        jobKeys[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    /**
+     * Replaces all keys with those of {@code candidates}.
+     */
+    void setAll(Iterable<Candidate> candidates) {
+        slots.clear();
+        freeSlots.clear();
+        Arrays.fill(nameKeys, null);
+        Arrays.fill(emailKeys, null);
+        Arrays.fill(jobKeys, null);
+        for (Candidate candidate : candidates) {
+            add(candidate);
+        }
+    }
+
+    /**
+     * Replaces all keys with a copy of those in {@code other}.
+     */
+    void setAll(CandidateColumns other) {
+        slots.clear();
+        slots.putAll(other.slots);
+        freeSlots.clear();
+        freeSlots.addAll(other.freeSlots);
+        ages = other.ages.clone();
+        salaries = other.salaries.clone();
+        educationOrders = other.educationOrders.clone();
+        nameKeys = other.nameKeys.clone();
+        emailKeys = other.emailKeys.clone();
+        jobKeys = other.jobKeys.clone();
+    }
+
+    Comparator<Candidate> byAge() {
+        return (first, second) -> Integer.compare(ages[slotOf(first)], ages[slotOf(second)]);
+    }
+
+    Comparator<Candidate> bySalary() {
+        return (first, second) -> Integer.compare(salaries[slotOf(first)], salaries[slotOf(second)]);
+    }
+
+    Comparator<Candidate> byEducation() {
+        return (first, second) -> Byte.compare(educationOrders[slotOf(first)], educationOrders[slotOf(second)]);
+    }
+
+    Comparator<Candidate> byName() {
+        return (first, second) -> nameKeys[slotOf(first)].compareTo(nameKeys[slotOf(second)]);
+    }
+
+    Comparator<Candidate> byEmail() {
+        return (first, second) -> emailKeys[slotOf(first)].compareTo(emailKeys[slotOf(second)]);
+    }
+
+    Comparator<Candidate> byJob() {
+        return (first, second) -> jobKeys[slotOf(first)].compareTo(jobKeys[slotOf(second)]);
+    }
+
+    private int slotOf(Candidate candidate) {
+        return slots.get(candidate);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ages.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ages.length * 2);
+        ages = Arrays.copyOf(ages, newCapacity);
+        salaries = Arrays.copyOf(salaries, newCapacity);
+        educationOrders = Arrays.copyOf(educationOrders, newCapacity);
+        nameKeys = Arrays.copyOf(nameKeys, newCapacity);
+        emailKeys = Arrays.copyOf(emailKeys, newCapacity);
+        jobKeys = Arrays.copyOf(jobKeys, newCapacity);
+    }
+}
@@ -2,40 +2,38 @@ package seedu.recruit.model.candidate;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.recruit.commons.util.StringUtil;
+import seedu.recruit.model.util.IndexablePredicate;
+import seedu.recruit.model.util.QueryPlan;
+import seedu.recruit.model.util.TokenIndex;
 
 /**
  * Tests that any of {@code Candidate}'s details matches any of the keywords given.
  */
-public class CandidateContainsFilterKeywordsPredicate implements Predicate<Candidate> {
+public class CandidateContainsFilterKeywordsPredicate implements IndexablePredicate<Candidate> {
     private final HashMap<String, List<String>> keywords;
+    private final QueryPlan<Candidate> plan;
 
     public CandidateContainsFilterKeywordsPredicate(HashMap<String, List<String>> keywords) {
         this.keywords = keywords;
+        this.plan = QueryPlan.matchingEveryField(keywords, CandidateQueryFields.FIELDS);
     }
 
     @Override
     public boolean test(Candidate candidate) {
-        return ((!keywords.containsKey("Name")) || (keywords.get("Name").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(candidate.getName().fullName, keyword))))
-                && ((!keywords.containsKey("Gender")) || (keywords.get("Gender").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(candidate.getGender().value, keyword))))
-                && ((!keywords.containsKey("Age")) || (keywords.get("Age").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(candidate.getAge().value, keyword))))
-                && ((!keywords.containsKey("Phone")) || (keywords.get("Phone").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(candidate.getPhone().value, keyword))))
-                && ((!keywords.containsKey("Email")) || (keywords.get("Email").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(candidate.getEmail().value, keyword))))
-                && ((!keywords.containsKey("Address")) || (keywords.get("Address").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(candidate.getAddress().value, keyword))))
-                && ((!keywords.containsKey("Job")) || (keywords.get("Job").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(candidate.getDesiredJob().value, keyword))))
-                && ((!keywords.containsKey("Education")) || (keywords.get("Education").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(candidate.getEducation().value, keyword))))
-                && ((!keywords.containsKey("Salary")) || (keywords.get("Salary").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(candidate.getExpectedSalary().value, keyword))));
+        return plan.test(candidate);
+    }
+
+    /**
+     * Returns a predicate accepting the candidates in the intersection, across fields, of the union of the
+     * postings of each field's keywords.
+     */
+    @Override
+    public Predicate<Candidate> withIndex(TokenIndex<Candidate> index) {
+        Set<Candidate> matches = index.lookupEveryField(keywords);
+        return matches == null ? this : index.asPredicate(matches, this);
     }
 
     @Override
@@ -0,0 +1,30 @@
+package seedu.recruit.model.candidate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.recruit.model.util.QueryPlan.Field;
+
+/**
+ * The fields of a {@code Candidate} that can be found or filtered by, keyed as in the keywords of
+ * {@code CandidateContainsFindKeywordsPredicate} and {@code CandidateContainsFilterKeywordsPredicate}.
+ * Contact details are nearly unique to a candidate, so they are the most selective; a gender is shared by
+ * about half of all candidates, so it is the least.
+ * The token index of {@code CandidateBook} is built from the same fields.
+ */
+public class CandidateQueryFields {
+
+    public static final List<Field<Candidate>> FIELDS = Collections.unmodifiableList(Arrays.asList(
+            Field.words("Phone", 0, candidate -> candidate.getPhone().value),
+            Field.words("Email", 0, candidate -> candidate.getEmail().value),
+            Field.words("Name", 1, candidate -> candidate.getName().fullName),
+            Field.words("Address", 2, candidate -> candidate.getAddress().value),
+            Field.words("Salary", 3, candidate -> candidate.getExpectedSalary().value),
+            Field.words("Age", 3, candidate -> candidate.getAge().value),
+            Field.words("Job", 4, candidate -> candidate.getDesiredJob().value),
+            Field.words("Education", 5, candidate -> candidate.getEducation().value),
+            Field.words("Gender", 6, candidate -> candidate.getGender().value)));
+
+    private CandidateQueryFields() {}
+}
@@ -3,6 +3,8 @@ package seedu.recruit.model.candidate;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.AppUtil.checkArgument;
 
+import seedu.recruit.model.util.Interner;
+
 /**
  * Represents a Candidate's desired education in the recruit book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEducation(String)}
@@ -22,6 +24,8 @@ public class Education {
             + "PhD, "
             + "OTHERS";
 
+    private static final Interner<Education> POOL = new Interner<>(Education::new);
+
     public final String value;
     public final int order;
 
@@ -32,6 +36,13 @@ public class Education {
         order = orderOfEducation(educationInput);
     }
 
+    /**
+     * Returns the shared {@code Education} for {@code educationInput}, which must be valid.
+     */
+    public static Education of(String educationInput) {
+        return POOL.intern(educationInput);
+    }
+
     /** The enums used to indicate the level of education
      */
     public enum EducationLevel {
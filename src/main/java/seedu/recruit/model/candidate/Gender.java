@@ -3,6 +3,8 @@ package seedu.recruit.model.candidate;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.AppUtil.checkArgument;
 
+import seedu.recruit.model.util.Interner;
+
 /**
  * Represents a Candidate's gender in the recruit book.
  * Guarantees: immutable; is valid as declared in {@link #isValidGender(String)}
@@ -14,6 +16,8 @@ public class Gender {
     public static final String MESSAGE_GENDER_CONSTRAINTS =
             "Gender is restricted to either M(Male) or F(Female), and it should not be blank ";
 
+    private static final Interner<Gender> POOL = new Interner<>(Gender::new);
+
     public final String value;
 
     public Gender(String gender) {
@@ -22,6 +26,13 @@ public class Gender {
         value = gender;
     }
 
+    /**
+     * Returns the shared {@code Gender} for {@code gender}, which must be valid.
+     */
+    public static Gender of(String gender) {
+        return POOL.intern(gender);
+    }
+
     /**
      * Returns true if a given string is a valid gender.
      */
@@ -3,15 +3,19 @@ package seedu.recruit.model.candidate;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.recruit.model.candidate.exceptions.CandidateNotFoundException;
 import seedu.recruit.model.candidate.exceptions.DuplicateCandidateException;
+import seedu.recruit.model.util.InsertionOrder;
+import seedu.recruit.model.util.PersistentList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -22,18 +26,40 @@ import seedu.recruit.model.candidate.exceptions.DuplicateCandidateException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity checks are answered by two hash indexes kept in sync with the backing list, one keyed on
+ * name + gender + phone and one keyed on name + gender + email, so that they run in constant time.
+ * Candidates are also indexed by id.
+ * The list itself is never sorted. Instead it hands out comparators for sorted views of it, which compare the
+ * primitive and pre-lower-cased keys held in {@link CandidateColumns} and break ties by the list's own order.
+ * Every change is also applied to a {@link PersistentList} of the candidates, so that a snapshot of the list can
+ * be taken in constant time.
+ *
  * @see Candidate#isSameCandidate(Candidate)
  */
 public class UniqueCandidateList implements Iterable<Candidate> {
 
     private final ObservableList<Candidate> internalList = FXCollections.observableArrayList();
+    private final Map<IdentityKey, Candidate> candidatesByPhone = new HashMap<>();
+    private final Map<IdentityKey, Candidate> candidatesByEmail = new HashMap<>();
+    private final Map<Long, Candidate> candidatesById = new HashMap<>();
+    private final CandidateColumns columns = new CandidateColumns();
+    private final InsertionOrder<Candidate> insertionOrder = new InsertionOrder<>();
+    private PersistentList<Candidate> snapshot = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent candidate as the given argument.
      */
     public boolean contains(Candidate toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCandidate);
+        return candidatesByPhone.containsKey(IdentityKey.byPhone(toCheck))
+                || candidatesByEmail.containsKey(IdentityKey.byEmail(toCheck));
+    }
+
+    /**
+     * Returns the candidate with the given {@code id}, or null if there is no such candidate in the list.
+     */
+    public Candidate getCandidateById(long id) {
+        return candidatesById.get(id);
     }
 
     /**
@@ -45,15 +71,20 @@ public class UniqueCandidateList implements Iterable<Candidate> {
         if (contains(toAdd)) {
             throw new DuplicateCandidateException();
         }
+        columns.add(toAdd);
+        insertionOrder.add(toAdd);
         internalList.add(toAdd);
+        snapshot = snapshot.plus(toAdd);
+        index(toAdd);
     }
 
     /**
      * Replaces the candidate {@code target} in the list with {@code editedCandidate}.
      * {@code target} must exist in the list.
      * The candidate identity of {@code editedCandidate} must not be the same as another existing candidate in the list.
+     * Returns the instance that was replaced, which may not be {@code target} itself.
      */
-    public void setCandidate(Candidate target, Candidate editedCandidate) {
+    public Candidate setCandidate(Candidate target, Candidate editedCandidate) {
         requireAllNonNull(target, editedCandidate);
 
         int index = internalList.indexOf(target);
@@ -61,115 +92,95 @@ public class UniqueCandidateList implements Iterable<Candidate> {
             throw new CandidateNotFoundException();
         }
 
-        if (!target.isSameCandidate(editedCandidate) && contains(editedCandidate)) {
+        if (isDuplicateOfOtherCandidate(target, editedCandidate)) {
             throw new DuplicateCandidateException();
         }
 
-        internalList.set(index, editedCandidate);
+        snapshot = snapshot.with(index, editedCandidate);
+        return replace(index, editedCandidate);
     }
 
     /**
      * Removes the equivalent candidate from the list.
      * The candidate must exist in the list.
+     * Returns the instance that was in the list, which may not be {@code toRemove} itself.
      */
-    public void remove(Candidate toRemove) {
+    public Candidate remove(Candidate toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new CandidateNotFoundException();
         }
+        Candidate removed = internalList.remove(index);
+        snapshot = snapshot.minus(index);
+        columns.remove(removed);
+        insertionOrder.remove(removed);
+        unindex(removed);
+        return removed;
     }
 
     /**
-     * Sorts candidates in CandidateBook by name
+     * Returns a comparator ordering candidates by name, ignoring case, and then as they are ordered in this list.
      */
-    public void sortByName() {
-
-        Collections.sort(internalList, new Comparator<Candidate>() {
-            @Override
-            public int compare(Candidate o1, Candidate o2) {
-                return ((o1.getName().toString()).toLowerCase()).compareTo((o2.getName().toString()).toLowerCase());
-            }
-        });
+    public Comparator<Candidate> comparatorByName() {
+        return columns.byName().thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts candidates in CandidateBook by age
+     * Returns a comparator ordering candidates by age, and then as they are ordered in this list.
      */
-    public void sortByAge() {
-
-        Collections.sort(internalList, new Comparator<Candidate>() {
-            @Override
-            public int compare(Candidate o1, Candidate o2) {
-                return (Integer.parseInt(o1.getAge().toString()) - Integer.parseInt(o2.getAge().toString()));
-            }
-        });
+    public Comparator<Candidate> comparatorByAge() {
+        return columns.byAge().thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts candidates in CandidateBook by email
+     * Returns a comparator ordering candidates by email, ignoring case, and then as they are ordered in this list.
      */
-    public void sortByEmail() {
-
-        Collections.sort(internalList, new Comparator<Candidate>() {
-            @Override
-            public int compare(Candidate o1, Candidate o2) {
-                return ((o1.getEmail().toString()).toLowerCase()).compareTo((o2.getEmail().toString()).toLowerCase());
-            }
-        });
+    public Comparator<Candidate> comparatorByEmail() {
+        return columns.byEmail().thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts candidates in CandidateBook by job
+     * Returns a comparator ordering candidates by desired job, ignoring case, and then as they are ordered in
+     * this list.
      */
-    public void sortByJob() {
-
-        Collections.sort(internalList, new Comparator<Candidate>() {
-            @Override
-            public int compare(Candidate o1, Candidate o2) {
-                return ((o1.getDesiredJob().toString()).toLowerCase()).compareTo((o2.getDesiredJob().toString())
-                        .toLowerCase());
-            }
-        });
+    public Comparator<Candidate> comparatorByJob() {
+        return columns.byJob().thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts candidates in CandidateBook by education level
+     * Returns a comparator ordering candidates by education level, and then as they are ordered in this list.
      */
-    public void sortByEducation() {
-
-        Collections.sort(internalList, new Comparator<Candidate>() {
-            @Override
-            public int compare(Candidate o1, Candidate o2) {
-                return (o1.getEducation().order - o2.getEducation().order);
-            }
-        });
+    public Comparator<Candidate> comparatorByEducation() {
+        return columns.byEducation().thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts candidates in CandidateBook by salary
+     * Returns a comparator ordering candidates by expected salary, and then as they are ordered in this list.
      */
-    public void sortBySalary() {
-
-        Collections.sort(internalList, new Comparator<Candidate>() {
-            @Override
-            public int compare(Candidate o1, Candidate o2) {
-                return (Integer.parseInt(o1.getExpectedSalary().toString()) - Integer.parseInt(o2.getExpectedSalary()
-                        .toString()));
-            }
-        });
+    public Comparator<Candidate> comparatorBySalary() {
+        return columns.bySalary().thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts the candidates in the displayed list in reverse order
+     * Returns a comparator ordering candidates as they are ordered in this list.
      */
-    public void sortInReverse() {
-
-        Collections.reverse(internalList);
+    public Comparator<Candidate> comparatorByListOrder() {
+        return insertionOrder.comparator();
     }
 
     public void setCandidates(UniqueCandidateList replacement) {
         requireNonNull(replacement);
+        columns.setAll(replacement.columns);
+        insertionOrder.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        snapshot = replacement.snapshot;
+        candidatesByPhone.clear();
+        candidatesByPhone.putAll(replacement.candidatesByPhone);
+        candidatesByEmail.clear();
+        candidatesByEmail.putAll(replacement.candidatesByEmail);
+        candidatesById.clear();
+        candidatesById.putAll(replacement.candidatesById);
     }
 
     /**
@@ -178,11 +189,82 @@ public class UniqueCandidateList implements Iterable<Candidate> {
      */
     public void setCandidates(List<Candidate> candidates) {
         requireAllNonNull(candidates);
-        if (!candidatesAreUnique(candidates)) {
-            throw new DuplicateCandidateException();
+        setAll(candidates, PersistentList.of(candidates));
+    }
+
+    /**
+     * Replaces the contents of this list with the candidates in {@code snapshot}, which must have been taken with
+     * {@link #snapshot()}, and returns the changes made.
+     * Only the candidates that differ between the two snapshots are removed, added and indexed, so restoring a
+     * snapshot taken a few changes before or after the current one does not visit the whole list.
+     */
+    public List<PersistentList.Change<Candidate>> setCandidates(PersistentList<Candidate> snapshot) {
+        requireNonNull(snapshot);
+        List<PersistentList.Change<Candidate>> changes = this.snapshot.changesTo(snapshot);
+        for (PersistentList.Change<Candidate> change : changes) {
+            apply(change);
         }
+        this.snapshot = snapshot;
+        return changes;
+    }
+
+    private void apply(PersistentList.Change<Candidate> change) {
+        int index = change.getIndex();
+        List<Candidate> removed = change.getRemoved();
+        List<Candidate> added = change.getAdded();
+        if (removed.size() == added.size()) {
+            for (int i = 0; i < added.size(); i++) {
+                replace(index + i, added.get(i));
+            }
+            return;
+        }
+
+        if (!removed.isEmpty()) {
+            internalList.remove(index, index + removed.size());
+        }
+        for (Candidate candidate : removed) {
+            columns.remove(candidate);
+            insertionOrder.remove(candidate);
+            unindex(candidate);
+        }
+        added.forEach(columns::add);
+        insertionOrder.insertAll(internalList, index, added);
+        if (!added.isEmpty()) {
+            internalList.addAll(index, added);
+        }
+        added.forEach(this::index);
+    }
 
+    private void setAll(List<Candidate> candidates, PersistentList<Candidate> snapshot) {
+        Map<IdentityKey, Candidate> newCandidatesByPhone = new HashMap<>();
+        Map<IdentityKey, Candidate> newCandidatesByEmail = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            if (newCandidatesByPhone.putIfAbsent(IdentityKey.byPhone(candidate), candidate) != null
+                    || newCandidatesByEmail.putIfAbsent(IdentityKey.byEmail(candidate), candidate) != null) {
+                throw new DuplicateCandidateException();
+            }
+        }
+
+        columns.setAll(candidates);
+        insertionOrder.setAll(candidates);
         internalList.setAll(candidates);
+        this.snapshot = snapshot;
+        candidatesByPhone.clear();
+        candidatesByPhone.putAll(newCandidatesByPhone);
+        candidatesByEmail.clear();
+        candidatesByEmail.putAll(newCandidatesByEmail);
+        candidatesById.clear();
+        for (Candidate candidate : candidates) {
+            candidatesById.put(candidate.getId(), candidate);
+        }
+    }
+
+    /**
+     * Returns the contents of this list as they are now. The snapshot shares its structure with the snapshots
+     * taken before it, and is not affected by later changes to this list.
+     */
+    public PersistentList<Candidate> snapshot() {
+        return snapshot;
     }
 
     /**
@@ -210,16 +292,87 @@ public class UniqueCandidateList implements Iterable<Candidate> {
     }
 
     /**
-     * Returns true if {@code candidates} contains only unique candidates.
+     * Replaces the candidate at {@code index} with {@code editedCandidate}, leaving the snapshot as it is, and
+     * returns the candidate replaced.
      */
-    private boolean candidatesAreUnique(List<Candidate> candidates) {
-        for (int i = 0; i < candidates.size() - 1; i++) {
-            for (int j = i + 1; j < candidates.size(); j++) {
-                if (candidates.get(i).isSameCandidate(candidates.get(j))) {
-                    return false;
-                }
+    private Candidate replace(int index, Candidate editedCandidate) {
+        Candidate replaced = internalList.get(index);
+        columns.add(editedCandidate);
+        insertionOrder.replace(replaced, editedCandidate);
+        internalList.set(index, editedCandidate);
+        if (replaced != editedCandidate) {
+            columns.remove(replaced);
+            insertionOrder.remove(replaced);
+        }
+        unindex(replaced);
+        index(editedCandidate);
+        return replaced;
+    }
+
+    /**
+     * Returns true if {@code editedCandidate} has the same identity as a candidate in the list other than
+     * {@code target}.
+     */
+    private boolean isDuplicateOfOtherCandidate(Candidate target, Candidate editedCandidate) {
+        Candidate samePhone = candidatesByPhone.get(IdentityKey.byPhone(editedCandidate));
+        Candidate sameEmail = candidatesByEmail.get(IdentityKey.byEmail(editedCandidate));
+        return (samePhone != null && !samePhone.equals(target)) || (sameEmail != null && !sameEmail.equals(target));
+    }
+
+    private void index(Candidate candidate) {
+        candidatesByPhone.put(IdentityKey.byPhone(candidate), candidate);
+        candidatesByEmail.put(IdentityKey.byEmail(candidate), candidate);
+        candidatesById.put(candidate.getId(), candidate);
+    }
+
+    private void unindex(Candidate candidate) {
+        candidatesByPhone.remove(IdentityKey.byPhone(candidate), candidate);
+        candidatesByEmail.remove(IdentityKey.byEmail(candidate), candidate);
+        candidatesById.remove(candidate.getId(), candidate);
+    }
+
+    /**
+     * Hash key made up of the name and gender of a candidate together with one other identity field.
+     * Two candidates are the same candidate iff they share either their phone key or their email key.
+     */
+    private static final class IdentityKey {
+        private final Name name;
+        private final Gender gender;
+        private final Object contact;
+
+        private IdentityKey(Name name, Gender gender, Object contact) {
+            this.name = name;
+            this.gender = gender;
+            this.contact = contact;
+        }
+
+        static IdentityKey byPhone(Candidate candidate) {
+            return new IdentityKey(candidate.getName(), candidate.getGender(), candidate.getPhone());
+        }
+
+        static IdentityKey byEmail(Candidate candidate) {
+            return new IdentityKey(candidate.getName(), candidate.getGender(), candidate.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof IdentityKey)) {
+                return false;
             }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return name.equals(otherKey.name)
+                    && gender.equals(otherKey.gender)
+                    && contact.equals(otherKey.contact);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, gender, contact);
         }
-        return true;
     }
 }
@@ -7,6 +7,7 @@ import java.util.Objects;
 import seedu.recruit.model.commons.Address;
 import seedu.recruit.model.commons.Email;
 import seedu.recruit.model.commons.Phone;
+import seedu.recruit.model.util.IdGenerator;
 
 
 /**
@@ -15,6 +16,9 @@ import seedu.recruit.model.commons.Phone;
 
 public class Company {
 
+    // Surrogate key, kept across edits and not part of equality
+    private final long id;
+
     // Identity fields
     private final CompanyName name;
 
@@ -23,19 +27,36 @@ public class Company {
     private final Email email;
     private final Phone phone;
 
+    // Computed once, as every field above is immutable
+    private final int hashCode;
+
     /**
      * Every field must be present and not null.
      */
 
     public Company (CompanyName name, Address address, Email email, Phone phone) {
+        this(IdGenerator.nextId(), name, address, email, phone);
+    }
+
+    /**
+     * Creates a company with the given {@code id}, such as the id of the company this is an edited version of.
+     * Every field must be present and not null.
+     */
+    public Company (long id, CompanyName name, Address address, Email email, Phone phone) {
         requireAllNonNull(name, address, email, phone);
+        this.id = IdGenerator.reserve(id);
         this.name = name;
         this.address = address;
         this.email = email;
         this.phone = phone;
+        this.hashCode = Objects.hash(name, address, email, phone);
     }
 
 
+    public long getId() {
+        return id;
+    }
+
     public CompanyName getName() {
         return name;
     }
@@ -84,6 +105,9 @@ public class Company {
         }
 
         Company otherCompany = (Company) other;
+        if (otherCompany.hashCode != hashCode) {
+            return false;
+        }
         return otherCompany.getName().equals(getName())
                 && otherCompany.getPhone().equals(getPhone())
                 && otherCompany.getEmail().equals(getEmail())
@@ -92,8 +116,7 @@ public class Company {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, address, email, phone);
+        return hashCode;
     }
 
     @Override
@@ -2,30 +2,38 @@ package seedu.recruit.model.company;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.recruit.commons.util.StringUtil;
+import seedu.recruit.model.util.IndexablePredicate;
+import seedu.recruit.model.util.QueryPlan;
+import seedu.recruit.model.util.TokenIndex;
 
 /**
  * Tests that a {@code Company}'s {@code Name} matches all of the keywords given.
  */
-public class CompanyContainsFilterKeywordsPredicate implements Predicate<Company> {
+public class CompanyContainsFilterKeywordsPredicate implements IndexablePredicate<Company> {
     private final HashMap<String, List<String>> keywords;
+    private final QueryPlan<Company> plan;
 
     public CompanyContainsFilterKeywordsPredicate(HashMap<String, List<String>> keywords) {
         this.keywords = keywords;
+        this.plan = QueryPlan.matchingEveryField(keywords, CompanyQueryFields.FIELDS);
     }
 
     @Override
     public boolean test(Company company) {
-        return ((!keywords.containsKey("CompanyName")) || (keywords.get("CompanyName").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(company.getName().value, keyword))))
-                && ((!keywords.containsKey("Phone")) || (keywords.get("Phone").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(company.getPhone().value, keyword))))
-                && ((!keywords.containsKey("Email")) || (keywords.get("Email").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(company.getEmail().value, keyword))))
-                && ((!keywords.containsKey("Address")) || (keywords.get("Address").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(company.getAddress().value, keyword))));
+        return plan.test(company);
+    }
+
+    /**
+     * Returns a predicate accepting the companies in the intersection, across fields, of the union of the
+     * postings of each field's keywords.
+     */
+    @Override
+    public Predicate<Company> withIndex(TokenIndex<Company> index) {
+        Set<Company> matches = index.lookupEveryField(keywords);
+        return matches == null ? this : index.asPredicate(matches, this);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.recruit.model.company;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.AppUtil.checkArgument;
 
+import seedu.recruit.model.util.Interner;
+
 /**
  * Represents the name of the company offering the job in the CompanyBook.
  * Guarantees: immutable; is valid as declared in {@link #isValidCompanyName(String)}
@@ -14,6 +16,8 @@ public class CompanyName {
     public static final String MESSAGE_COMPANY_CONSTRAINTS =
             "Company name should not be blank";
 
+    private static final Interner<CompanyName> POOL = new Interner<>(CompanyName::new);
+
     public final String value;
 
     public CompanyName(String companyInput) {
@@ -22,6 +26,13 @@ public class CompanyName {
         value = companyInput;
     }
 
+    /**
+     * Returns the shared {@code CompanyName} for {@code companyInput}, which must be valid.
+     */
+    public static CompanyName of(String companyInput) {
+        return POOL.intern(companyInput);
+    }
+
     /**
      * Returns true if a given string is a valid company name.
      */
@@ -0,0 +1,24 @@
+package seedu.recruit.model.company;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.recruit.model.util.QueryPlan.Field;
+
+/**
+ * The fields of a {@code Company} that can be found or filtered by, keyed as in the keywords of
+ * {@code CompanyContainsFindKeywordsPredicate} and {@code CompanyContainsFilterKeywordsPredicate}.
+ * Contact details are nearly unique to a company, so they are the most selective.
+ * The token index of {@code CompanyBook} is built from the same fields.
+ */
+public class CompanyQueryFields {
+
+    public static final List<Field<Company>> FIELDS = Collections.unmodifiableList(Arrays.asList(
+            Field.words("Phone", 0, company -> company.getPhone().value),
+            Field.words("Email", 0, company -> company.getEmail().value),
+            Field.words("CompanyName", 1, company -> company.getName().value),
+            Field.words("Address", 2, company -> company.getAddress().value)));
+
+    private CompanyQueryFields() {}
+}
@@ -3,15 +3,18 @@ package seedu.recruit.model.company;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.recruit.model.company.exceptions.CompanyNotFoundException;
 import seedu.recruit.model.company.exceptions.DuplicateCompanyException;
+import seedu.recruit.model.util.InsertionOrder;
+import seedu.recruit.model.util.PersistentList;
 
 /**
  * A list of companies that enforces uniqueness between its elements and does not allow nulls.
@@ -22,6 +25,11 @@ import seedu.recruit.model.company.exceptions.DuplicateCompanyException;
  *
  * Supports a minimal set of list operations.
  *
+ * Companies are indexed by name and by id, so that lookups by name do not scan the list.
+ * The list itself is never sorted; it hands out comparators for sorted views of it instead.
+ * Every change is also applied to a {@link PersistentList} of the companies, so that a snapshot of the list can
+ * be taken in constant time.
+ *
  * @see Company#isSameCompany(Company)
  */
 
@@ -29,13 +37,17 @@ import seedu.recruit.model.company.exceptions.DuplicateCompanyException;
 public class UniqueCompanyList implements Iterable<Company> {
 
     private final ObservableList<Company> internalList = FXCollections.observableArrayList();
+    private final Map<CompanyName, Company> companiesByName = new HashMap<>();
+    private final Map<Long, Company> companiesById = new HashMap<>();
+    private final InsertionOrder<Company> insertionOrder = new InsertionOrder<>();
+    private PersistentList<Company> snapshot = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent company as the given argument.
      */
     public boolean contains(Company toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCompany);
+        return companiesByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -47,22 +59,27 @@ public class UniqueCompanyList implements Iterable<Company> {
         if (contains(toAdd)) {
             throw new DuplicateCompanyException();
         }
+        insertionOrder.add(toAdd);
         internalList.add(toAdd);
+        snapshot = snapshot.plus(toAdd);
+        companiesByName.put(toAdd.getName(), toAdd);
+        companiesById.put(toAdd.getId(), toAdd);
     }
 
     /**
-     * Returns index of Company using @param companyName in UniqueCompanyList
-     * Returns -1 if no such company with companyName in UniqueCompanyList
-     * NOTE: CompanyName is enforced to be unique in CompanyBook
-     * See {@code isSameCompany()}
+     * Returns the company with @param companyName in UniqueCompanyList
+     * Returns null if no such company with companyName in UniqueCompanyList
      */
-    public int getCompanyIndexFromName(CompanyName companyName) {
-        for (int index = 0; index < internalList.size(); index++) {
-            if (internalList.get(index).getName().equals(companyName)) {
-                return index;
-            }
-        }
-        return -1;
+    public Company getCompanyFromName(CompanyName companyName) {
+        requireNonNull(companyName);
+        return companiesByName.get(companyName);
+    }
+
+    /**
+     * Returns the company with the given {@code id}, or null if there is no such company in the list.
+     */
+    public Company getCompanyById(long id) {
+        return companiesById.get(id);
     }
 
     /**
@@ -78,8 +95,9 @@ public class UniqueCompanyList implements Iterable<Company> {
      * Replaces the company {@code target} in the list with {@code editedCompany}.
      * {@code target} must exist in the list.
      * The company identity of {@code editedCompany} must not be the same as another existing company in the list.
+     * Returns the instance that was replaced, which may not be {@code target} itself.
      */
-    public void setCompany(Company target, Company editedCompany) {
+    public Company setCompany(Company target, Company editedCompany) {
         requireAllNonNull(target, editedCompany);
 
         int index = internalList.indexOf(target);
@@ -91,57 +109,61 @@ public class UniqueCompanyList implements Iterable<Company> {
             throw new DuplicateCompanyException();
         }
 
-        internalList.set(index, editedCompany);
+        snapshot = snapshot.with(index, editedCompany);
+        return replace(index, editedCompany);
     }
 
     /**
      * Removes the equivalent company from the list.
      * The company must exist in the list.
+     * Returns the instance that was in the list, which may not be {@code toRemove} itself.
      */
-    public void remove(Company toRemove) {
+    public Company remove(Company toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new CompanyNotFoundException();
         }
+        Company removed = internalList.remove(index);
+        insertionOrder.remove(removed);
+        snapshot = snapshot.minus(index);
+        companiesByName.remove(removed.getName());
+        companiesById.remove(removed.getId(), removed);
+        return removed;
     }
 
     /**
-     * Sorts the companies by name
+     * Returns a comparator ordering companies by name, ignoring case, and then as they are ordered in this list.
      */
-    public void sortByCompanyName() {
-
-        Collections.sort(internalList, new Comparator<Company>() {
-            @Override
-            public int compare(Company o1, Company o2) {
-                return ((o1.getName().toString()).toLowerCase()).compareTo((
-                        o2.getName().toString()).toLowerCase());
-            }
-        });
+    public Comparator<Company> comparatorByCompanyName() {
+        return Comparator.<Company, String>comparing(company -> company.getName().toString().toLowerCase())
+                .thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts the companies by email
+     * Returns a comparator ordering companies by email, ignoring case, and then as they are ordered in this list.
      */
-    public void sortByEmail() {
-
-        Collections.sort(internalList, new Comparator<Company>() {
-            @Override
-            public int compare(Company o1, Company o2) {
-                return ((o1.getEmail().toString()).toLowerCase()).compareTo((o2.getEmail().toString()).toLowerCase());
-            }
-        });
+    public Comparator<Company> comparatorByEmail() {
+        return Comparator.<Company, String>comparing(company -> company.getEmail().toString().toLowerCase())
+                .thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts the companies in reverse
+     * Returns a comparator ordering companies as they are ordered in this list.
      */
-    public void sortInReverse() {
-        Collections.reverse(internalList);
+    public Comparator<Company> comparatorByListOrder() {
+        return insertionOrder.comparator();
     }
 
     public void setCompanyList (UniqueCompanyList replacement) {
         requireNonNull(replacement);
+        insertionOrder.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        snapshot = replacement.snapshot;
+        companiesByName.clear();
+        companiesByName.putAll(replacement.companiesByName);
+        companiesById.clear();
+        companiesById.putAll(replacement.companiesById);
     }
 
     /**
@@ -150,10 +172,99 @@ public class UniqueCompanyList implements Iterable<Company> {
      */
     public void setCompanyList(List<Company> companyList) {
         requireAllNonNull(companyList);
-        if (!companiesAreUnique(companyList)) {
-            throw new DuplicateCompanyException();
+        setAll(companyList, PersistentList.of(companyList));
+    }
+
+    /**
+     * Replaces the contents of this list with the companies in {@code snapshot}, which must have been taken with
+     * {@link #snapshot()}, and returns the changes made.
+     * Only the companies that differ between the two snapshots are removed, added and indexed.
+     */
+    public List<PersistentList.Change<Company>> setCompanyList(PersistentList<Company> snapshot) {
+        requireNonNull(snapshot);
+        List<PersistentList.Change<Company>> changes = this.snapshot.changesTo(snapshot);
+        for (PersistentList.Change<Company> change : changes) {
+            apply(change);
+        }
+        this.snapshot = snapshot;
+        return changes;
+    }
+
+    private void apply(PersistentList.Change<Company> change) {
+        int index = change.getIndex();
+        List<Company> removed = change.getRemoved();
+        List<Company> added = change.getAdded();
+        if (removed.size() == added.size()) {
+            for (int i = 0; i < added.size(); i++) {
+                replace(index + i, added.get(i));
+            }
+            return;
+        }
+
+        if (!removed.isEmpty()) {
+            internalList.remove(index, index + removed.size());
+        }
+        for (Company company : removed) {
+            insertionOrder.remove(company);
+            unindex(company);
+        }
+        insertionOrder.insertAll(internalList, index, added);
+        if (!added.isEmpty()) {
+            internalList.addAll(index, added);
         }
+        added.forEach(this::index);
+    }
+
+    /**
+     * Replaces the company at {@code index} with {@code editedCompany}, leaving the snapshot as it is, and
+     * returns the company replaced.
+     */
+    private Company replace(int index, Company editedCompany) {
+        Company replaced = internalList.get(index);
+        insertionOrder.replace(replaced, editedCompany);
+        internalList.set(index, editedCompany);
+        if (replaced != editedCompany) {
+            insertionOrder.remove(replaced);
+        }
+        unindex(replaced);
+        index(editedCompany);
+        return replaced;
+    }
+
+    private void index(Company company) {
+        companiesByName.put(company.getName(), company);
+        companiesById.put(company.getId(), company);
+    }
+
+    private void unindex(Company company) {
+        companiesByName.remove(company.getName(), company);
+        companiesById.remove(company.getId(), company);
+    }
+
+    private void setAll(List<Company> companyList, PersistentList<Company> snapshot) {
+        Map<CompanyName, Company> newCompaniesByName = new HashMap<>();
+        for (Company company : companyList) {
+            if (newCompaniesByName.putIfAbsent(company.getName(), company) != null) {
+                throw new DuplicateCompanyException();
+            }
+        }
+        insertionOrder.setAll(companyList);
         internalList.setAll(companyList);
+        this.snapshot = snapshot;
+        companiesByName.clear();
+        companiesByName.putAll(newCompaniesByName);
+        companiesById.clear();
+        for (Company company : companyList) {
+            companiesById.put(company.getId(), company);
+        }
+    }
+
+    /**
+     * Returns the contents of this list as they are now. The snapshot shares its structure with the snapshots
+     * taken before it, and is not affected by later changes to this list.
+     */
+    public PersistentList<Company> snapshot() {
+        return snapshot;
     }
 
     /**
@@ -179,18 +290,4 @@ public class UniqueCompanyList implements Iterable<Company> {
                 || (other instanceof UniqueCompanyList // instanceof handles nulls
                 && internalList.equals(((UniqueCompanyList) other).internalList));
     }
-
-    /**
-     * Returns true if {@code companyList} contains only unique companies.
-     */
-    private boolean companiesAreUnique(List<Company> companyList) {
-        for (int i = 0; i < companyList.size() - 1; i++) {
-            for (int j = i + 1; j < companyList.size(); j++) {
-                if (companyList.get(i).isSameCompany(companyList.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -3,6 +3,8 @@ package seedu.recruit.model.joboffer;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.AppUtil.checkArgument;
 
+import seedu.recruit.model.util.Interner;
+
 /**
  * Represents a Candidate's desired job/job offered in the candidate book/CompanyBook.
  * Guarantees: immutable; is valid as declared in {@link #isValidJob(String)}
@@ -14,6 +16,8 @@ public class Job {
     public static final String MESSAGE_JOB_CONSTRAINTS =
             "Desired job should only contain alphabetical characters and should not be blank ";
 
+    private static final Interner<Job> POOL = new Interner<>(Job::new);
+
     public final String value;
 
     public Job(String jobInput) {
@@ -22,6 +26,14 @@ public class Job {
         value = jobInput;
     }
 
+    /**
+     * Returns the shared {@code Job} for {@code jobInput}, which must be valid.
+     * Jobs that differ only in case are equal but are shared separately, as each is shown as it was entered.
+     */
+    public static Job of(String jobInput) {
+        return POOL.intern(jobInput);
+    }
+
     /**
      * Returns true if a given string is a valid job.
      */
@@ -43,7 +55,7 @@ public class Job {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return value.toLowerCase().hashCode();
     }
 
 }
@@ -2,12 +2,13 @@ package seedu.recruit.model.joboffer;
 
 import java.util.Objects;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.recruit.model.candidate.Candidate;
 import seedu.recruit.model.candidate.Education;
 import seedu.recruit.model.candidate.Gender;
-import seedu.recruit.model.candidate.UniqueCandidateList;
 import seedu.recruit.model.company.CompanyName;
+import seedu.recruit.model.util.IdGenerator;
 
 /**
  * Represents a job offer in the CompanyBook.
@@ -16,6 +17,8 @@ import seedu.recruit.model.company.CompanyName;
 
 public class JobOffer {
 
+    // Surrogate key, kept across edits and not part of equality
+    private final long id;
 
     // Job Identity fields
     private final CompanyName companyName;
@@ -26,28 +29,34 @@ public class JobOffer {
     // Data fields
     private final AgeRange ageRange;
     private final Education education;
-    private final UniqueCandidateList candidateList;
+    private final Shortlist shortlist;
+
+    // Computed once from the fields used in equality, all of which are immutable
+    private final int hashCode;
 
     public JobOffer(CompanyName companyName, Job job, Gender gender, AgeRange ageRange, Education education,
-                     Salary salary, UniqueCandidateList candidateList) {
+                     Salary salary, Shortlist shortlist) {
+        this(IdGenerator.nextId(), companyName, job, gender, ageRange, education, salary, shortlist);
+    }
+
+    /**
+     * Creates a job offer with the given {@code id}, such as the id of the job offer this is an edited version of.
+     */
+    public JobOffer(long id, CompanyName companyName, Job job, Gender gender, AgeRange ageRange,
+                    Education education, Salary salary, Shortlist shortlist) {
+        this.id = IdGenerator.reserve(id);
         this.companyName = companyName;
         this.job = job;
         this.ageRange = ageRange;
         this.education = education;
         this.salary = salary;
         this.gender = gender;
-        this.candidateList = candidateList;
+        this.shortlist = shortlist;
+        this.hashCode = Objects.hash(companyName, job, gender, ageRange, education, salary);
     }
 
-    public JobOffer(JobOffer src) {
-        this.companyName = src.getCompanyName();
-        this.job = src.getJob();
-        this.ageRange = src.getAgeRange();
-        this.education = src.getEducation();
-        this.salary = src.getSalary();
-        this.gender = src.getGender();
-        this.candidateList = new UniqueCandidateList();
-        this.candidateList.setCandidates(src.getUniqueCandidateList());
+    public long getId() {
+        return id;
     }
 
     public CompanyName getCompanyName() {
@@ -74,20 +83,19 @@ public class JobOffer {
         return gender;
     }
 
-    public UniqueCandidateList getUniqueCandidateList() {
-        return candidateList;
+    public Shortlist getShortlist() {
+        return shortlist;
     }
 
     public ObservableList<Candidate> getObservableCandidateList() {
-        return candidateList.asUnmodifiableObservableList();
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(shortlist.asList()));
     }
 
-    public void shortlistCandidate(Candidate shortlistedCandidate) {
-        candidateList.add(shortlistedCandidate);
-    }
-
-    public void deleteShortlistedCandidate(Candidate shortlistedCandidate) {
-        candidateList.remove(shortlistedCandidate);
+    /**
+     * Returns a copy of this job offer, with the same id, that has {@code shortlist} as its shortlist.
+     */
+    public JobOffer withShortlist(Shortlist shortlist) {
+        return new JobOffer(id, companyName, job, gender, ageRange, education, salary, shortlist);
     }
 
     /**
@@ -121,6 +129,9 @@ public class JobOffer {
         }
 
         JobOffer otherJob = (JobOffer) other;
+        if (otherJob.hashCode != hashCode) {
+            return false;
+        }
         return otherJob.getCompanyName().equals(getCompanyName())
                 && otherJob.getJob().equals(getJob())
                 && otherJob.getGender().equals(getGender())
@@ -131,7 +142,7 @@ public class JobOffer {
 
     @Override
     public int hashCode() {
-        return Objects.hash(companyName, job, gender, ageRange, education, salary);
+        return hashCode;
     }
 
     @Override
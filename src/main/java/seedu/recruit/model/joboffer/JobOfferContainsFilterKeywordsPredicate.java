@@ -2,35 +2,38 @@ package seedu.recruit.model.joboffer;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.recruit.commons.util.StringUtil;
+import seedu.recruit.model.util.IndexablePredicate;
+import seedu.recruit.model.util.QueryPlan;
+import seedu.recruit.model.util.TokenIndex;
 
 /**
  * Tests that a {@code Job}'s details matches any of the keywords given.
  */
-public class JobOfferContainsFilterKeywordsPredicate implements Predicate<JobOffer> {
+public class JobOfferContainsFilterKeywordsPredicate implements IndexablePredicate<JobOffer> {
     private final HashMap<String, List<String>> keywords;
+    private final QueryPlan<JobOffer> plan;
 
     public JobOfferContainsFilterKeywordsPredicate(HashMap<String, List<String>> keywords) {
         this.keywords = keywords;
+        this.plan = QueryPlan.matchingEveryField(keywords, JobOfferQueryFields.FIELDS);
     }
 
     @Override
     public boolean test(JobOffer jobOffer) {
-        return ((!keywords.containsKey("CompanyName")) || (keywords.get("CompanyName").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(jobOffer.getCompanyName().value, keyword))))
-                && ((!keywords.containsKey("Job")) || (keywords.get("Job").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(jobOffer.getJob().value, keyword))))
-                && ((!keywords.containsKey("Age Range")) || (keywords.get("Age Range").stream().anyMatch(keyword ->
-                StringUtil.isWithinRange(jobOffer.getAgeRange().getMinAge(), jobOffer.getAgeRange().getMaxAge(),
-                        Integer.parseInt(keyword)))))
-                && ((!keywords.containsKey("Education")) || (keywords.get("Education").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(jobOffer.getEducation().value, keyword))))
-                && ((!keywords.containsKey("Salary")) || (keywords.get("Salary").stream().anyMatch(keyword ->
-                StringUtil.isGreaterThanOrEqualTo(jobOffer.getSalary().value, keyword))))
-                && ((!keywords.containsKey("Gender")) || (keywords.get("Gender").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(jobOffer.getGender().value, keyword))));
+        return plan.test(jobOffer);
+    }
+
+    /**
+     * Returns a predicate accepting the job offers in the intersection, across fields, of the union of the
+     * postings of each field's keywords.
+     */
+    @Override
+    public Predicate<JobOffer> withIndex(TokenIndex<JobOffer> index) {
+        Set<JobOffer> matches = index.lookupEveryField(keywords);
+        return matches == null ? this : index.asPredicate(matches, this);
     }
 
     @Override
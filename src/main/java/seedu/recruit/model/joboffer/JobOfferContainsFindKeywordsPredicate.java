@@ -4,33 +4,33 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.recruit.commons.util.StringUtil;
+import seedu.recruit.model.util.IndexablePredicate;
+import seedu.recruit.model.util.QueryPlan;
+import seedu.recruit.model.util.TokenIndex;
 
 /**
  * Tests that a {@code Job}'s details matches any of the keywords given.
  */
-public class JobOfferContainsFindKeywordsPredicate implements Predicate<JobOffer> {
+public class JobOfferContainsFindKeywordsPredicate implements IndexablePredicate<JobOffer> {
     private final HashMap<String, List<String>> keywords;
+    private final QueryPlan<JobOffer> plan;
 
     public JobOfferContainsFindKeywordsPredicate(HashMap<String, List<String>> keywords) {
         this.keywords = keywords;
+        this.plan = QueryPlan.matchingAnyField(keywords, JobOfferQueryFields.FIELDS);
     }
 
     @Override
     public boolean test(JobOffer jobOffer) {
-        return ((keywords.containsKey("CompanyName")) && (keywords.get("CompanyName").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(jobOffer.getCompanyName().value, keyword))))
-                || ((keywords.containsKey("Job")) && (keywords.get("Job").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(jobOffer.getJob().value, keyword))))
-                || ((keywords.containsKey("Age Range")) && (keywords.get("Age Range").stream().anyMatch(keyword ->
-                StringUtil.isWithinRange(jobOffer.getAgeRange().getMinAge(), jobOffer.getAgeRange().getMaxAge(),
-                        Integer.parseInt(keyword)))))
-                || ((keywords.containsKey("Education")) && (keywords.get("Education").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(jobOffer.getEducation().value, keyword))))
-                || ((keywords.containsKey("Salary")) && (keywords.get("Salary").stream().anyMatch(keyword ->
-                StringUtil.isGreaterThanOrEqualTo(jobOffer.getSalary().value, keyword))))
-                || ((keywords.containsKey("Gender")) && (keywords.get("Gender").stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(jobOffer.getGender().value, keyword))));
+        return plan.test(jobOffer);
+    }
+
+    /**
+     * Returns a predicate accepting the job offers in the union of the postings of all keywords.
+     */
+    @Override
+    public Predicate<JobOffer> withIndex(TokenIndex<JobOffer> index) {
+        return index.asPredicate(index.lookupAnyField(keywords), this);
     }
 
     @Override
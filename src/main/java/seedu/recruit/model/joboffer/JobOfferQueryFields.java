@@ -0,0 +1,30 @@
+package seedu.recruit.model.joboffer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.recruit.model.util.QueryPlan.Field;
+
+/**
+ * The fields of a {@code JobOffer} that can be found or filtered by, keyed as in the keywords of
+ * {@code JobOfferContainsFindKeywordsPredicate} and {@code JobOfferContainsFilterKeywordsPredicate}.
+ * A company name or job is shared by only a few offers, while a salary bound or an age within the range
+ * typically matches many, and a gender about half of them.
+ * The token index of {@code CompanyBook} is built from the same fields.
+ */
+public class JobOfferQueryFields {
+
+    public static final List<Field<JobOffer>> FIELDS = Collections.unmodifiableList(Arrays.asList(
+            Field.words("CompanyName", 1, jobOffer -> jobOffer.getCompanyName().value),
+            Field.words("Job", 2, jobOffer -> jobOffer.getJob().value),
+            // a salary keyword matches offers paying at least that much: each offer covers all amounts up to its salary
+            Field.range("Salary", 3, unused -> Integer.MIN_VALUE,
+                    jobOffer -> Integer.parseInt(jobOffer.getSalary().value)),
+            Field.range("Age Range", 4, jobOffer -> jobOffer.getAgeRange().getMinAge(),
+                    jobOffer -> jobOffer.getAgeRange().getMaxAge()),
+            Field.words("Education", 5, jobOffer -> jobOffer.getEducation().value),
+            Field.words("Gender", 6, jobOffer -> jobOffer.getGender().value)));
+
+    private JobOfferQueryFields() {}
+}
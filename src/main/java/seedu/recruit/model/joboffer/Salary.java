@@ -3,6 +3,8 @@ package seedu.recruit.model.joboffer;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.AppUtil.checkArgument;
 
+import seedu.recruit.model.util.Interner;
+
 /**
  * Represents a Candidate's desired salary in the recruit book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSalary(String)}
@@ -14,6 +16,8 @@ public class Salary {
     public static final String MESSAGE_SALARY_CONSTRAINTS =
             "Desired salary should contain numbers greater than 0 and it should not be blank ";
 
+    private static final Interner<Salary> POOL = new Interner<>(Salary::new);
+
     public final String value;
 
     public Salary(String salaryInput) {
@@ -22,6 +26,13 @@ public class Salary {
         value = salaryInput;
     }
 
+    /**
+     * Returns the shared {@code Salary} for {@code salaryInput}, which must be valid.
+     */
+    public static Salary of(String salaryInput) {
+        return POOL.intern(salaryInput);
+    }
+
     /**
      * Returns true if a given string is a valid salary.
      */
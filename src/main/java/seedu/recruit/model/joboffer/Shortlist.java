@@ -0,0 +1,245 @@
+package seedu.recruit.model.joboffer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.recruit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.candidate.exceptions.CandidateNotFoundException;
+import seedu.recruit.model.candidate.exceptions.DuplicateCandidateException;
+import seedu.recruit.model.util.PersistentList;
+
+/**
+ * The candidates shortlisted for a job offer, in the order they were shortlisted.
+ * Candidates are told apart by id, which a candidate keeps when it is edited.
+ *
+ * A shortlist is immutable. Shortlisting, replacing or removing a candidate makes a new shortlist, which shares
+ * all but O(log k) of its nodes with the old one for a shortlist of k candidates, so that a job offer can be
+ * replaced by a copy with one candidate changed without copying the rest of its shortlist.
+ * The entries are held twice, once in the order shortlisted and once by candidate id. Each entry is numbered in
+ * the order shortlisted, so that both orders can be searched.
+ */
+public final class Shortlist implements Iterable<Candidate> {
+
+    private static final Shortlist EMPTY = new Shortlist(PersistentList.empty(), PersistentList.empty(), 0);
+
+    private final PersistentList<Entry> entries;
+    private final PersistentList<Entry> entriesById;
+    private final long nextSequence;
+
+    private Shortlist(PersistentList<Entry> entries, PersistentList<Entry> entriesById, long nextSequence) {
+        this.entries = entries;
+        this.entriesById = entriesById;
+        this.nextSequence = nextSequence;
+    }
+
+    /**
+     * Returns the empty shortlist.
+     */
+    public static Shortlist empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the shortlist of {@code candidates}, in order.
+     * {@code candidates} must not contain two candidates with the same id.
+     */
+    public static Shortlist of(List<Candidate> candidates) {
+        requireAllNonNull(candidates);
+        List<Entry> entries = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        for (Candidate candidate : candidates) {
+            if (!ids.add(candidate.getId())) {
+                throw new DuplicateCandidateException();
+            }
+            entries.add(new Entry(entries.size(), candidate));
+        }
+        List<Entry> entriesById = new ArrayList<>(entries);
+        entriesById.sort(Comparator.comparingLong(Entry::getCandidateId));
+        return new Shortlist(PersistentList.of(entries), PersistentList.of(entriesById), entries.size());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns true if the candidate with the id of {@code candidate} is on this shortlist.
+     */
+    public boolean contains(Candidate candidate) {
+        requireNonNull(candidate);
+        return getCandidateById(candidate.getId()) != null;
+    }
+
+    /**
+     * Returns the candidate on this shortlist with the given {@code id}, or null if there is none.
+     */
+    public Candidate getCandidateById(long id) {
+        int index = entriesById.binarySearch(id, Entry::getCandidateId);
+        return index < 0 ? null : entriesById.get(index).candidate;
+    }
+
+    /**
+     * Returns a copy of this shortlist with {@code candidate} shortlisted last.
+     * No candidate with the same id may already be on this shortlist.
+     */
+    public Shortlist plus(Candidate candidate) {
+        requireNonNull(candidate);
+        int index = entriesById.binarySearch(candidate.getId(), Entry::getCandidateId);
+        if (index >= 0) {
+            throw new DuplicateCandidateException();
+        }
+        Entry entry = new Entry(nextSequence, candidate);
+        return new Shortlist(entries.plus(entry), entriesById.plus(-index - 1, entry), nextSequence + 1);
+    }
+
+    /**
+     * Returns a copy of this shortlist with {@code target} replaced by {@code editedCandidate} in the same place.
+     * A candidate with the id of {@code target} must be on this shortlist, and no other candidate may have the
+     * id of {@code editedCandidate}.
+     */
+    public Shortlist with(Candidate target, Candidate editedCandidate) {
+        requireAllNonNull(target, editedCandidate);
+        int indexById = indexById(target);
+        Entry entry = entriesById.get(indexById);
+        Entry editedEntry = new Entry(entry.sequence, editedCandidate);
+        PersistentList<Entry> editedEntriesById;
+        if (target.getId() == editedCandidate.getId()) {
+            editedEntriesById = entriesById.with(indexById, editedEntry);
+        } else {
+            PersistentList<Entry> withoutTarget = entriesById.minus(indexById);
+            int index = withoutTarget.binarySearch(editedCandidate.getId(), Entry::getCandidateId);
+            if (index >= 0) {
+                throw new DuplicateCandidateException();
+            }
+            editedEntriesById = withoutTarget.plus(-index - 1, editedEntry);
+        }
+        return new Shortlist(entries.with(indexOf(entry), editedEntry), editedEntriesById, nextSequence);
+    }
+
+    /**
+     * Returns a copy of this shortlist without the candidate with the id of {@code candidate}, which must be on it.
+     */
+    public Shortlist minus(Candidate candidate) {
+        requireNonNull(candidate);
+        int indexById = indexById(candidate);
+        Entry entry = entriesById.get(indexById);
+        return new Shortlist(entries.minus(indexOf(entry)), entriesById.minus(indexById), nextSequence);
+    }
+
+    /**
+     * Returns the ids of the candidates on this shortlist that are not on {@code other}.
+     * If one shortlist was made from the other, this takes time proportional to the number of changes between
+     * them, times log k. See {@link PersistentList#changesTo(PersistentList)}.
+     */
+    public Set<Long> idsNotOn(Shortlist other) {
+        requireNonNull(other);
+        Set<Long> removedIds = new HashSet<>();
+        Set<Long> addedIds = new HashSet<>();
+        for (PersistentList.Change<Entry> change : entries.changesTo(other.entries)) {
+            change.getRemoved().forEach(entry -> removedIds.add(entry.getCandidateId()));
+            change.getAdded().forEach(entry -> addedIds.add(entry.getCandidateId()));
+        }
+        removedIds.removeAll(addedIds);
+        return removedIds;
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of the candidates on this shortlist, made in constant time.
+     */
+    public List<Candidate> asList() {
+        return new AbstractList<Candidate>() {
+            @Override
+            public Candidate get(int index) {
+                return entries.get(index).candidate;
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+
+            @Override
+            public Iterator<Candidate> iterator() {
+                return Shortlist.this.iterator();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Candidate> iterator() {
+        Iterator<Entry> entryIterator = entries.iterator();
+        return new Iterator<Candidate>() {
+            @Override
+            public boolean hasNext() {
+                return entryIterator.hasNext();
+            }
+
+            @Override
+            public Candidate next() {
+                return entryIterator.next().candidate;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Shortlist // instanceof handles nulls
+                && asList().equals(((Shortlist) other).asList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private int indexById(Candidate candidate) {
+        int index = entriesById.binarySearch(candidate.getId(), Entry::getCandidateId);
+        if (index < 0) {
+            throw new CandidateNotFoundException();
+        }
+        return index;
+    }
+
+    private int indexOf(Entry entry) {
+        return entries.binarySearch(entry.sequence, Entry::getSequence);
+    }
+
+    /**
+     * A shortlisted candidate, numbered in the order it was shortlisted.
+     */
+    private static final class Entry {
+        private final long sequence;
+        private final Candidate candidate;
+
+        Entry(long sequence, Candidate candidate) {
+            this.sequence = sequence;
+            this.candidate = candidate;
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+        long getCandidateId() {
+            return candidate.getId();
+        }
+    }
+}
@@ -3,15 +3,27 @@ package seedu.recruit.model.joboffer;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.candidate.Gender;
+import seedu.recruit.model.company.CompanyName;
 import seedu.recruit.model.joboffer.exceptions.DuplicateJobException;
 import seedu.recruit.model.joboffer.exceptions.JobNotFoundException;
+import seedu.recruit.model.util.InsertionOrder;
+import seedu.recruit.model.util.PersistentList;
 
 
 /**
@@ -23,12 +35,29 @@ import seedu.recruit.model.joboffer.exceptions.JobNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Job offers are also indexed by id, by their identity fields, by the name of the company offering them and by the
+ * ids of the candidates on their shortlists, so that identity checks, per-company lookups and lookups of the job
+ * offers a candidate is shortlisted for do not need to scan the whole list. Together with the shortlist held by each
+ * job offer, the last index relates candidates and job offers in both directions. The last two indexes hold the ids
+ * of job offers, which are kept when a job offer is edited, so that replacing a job offer only updates them where
+ * its company or shortlist changed. The position of a job offer is found by binary search on its
+ * {@link InsertionOrder} number.
+ * The list itself is never sorted; it hands out comparators for sorted views of it instead.
+ * Every change is also applied to a {@link PersistentList} of the job offers, so that a snapshot of the list can
+ * be taken in constant time.
+ *
  * @see JobOffer#isSameJobOffer(JobOffer)
  */
 
 public class UniqueJobList implements Iterable<JobOffer> {
 
     private final ObservableList<JobOffer> internalList = FXCollections.observableArrayList();
+    private final Map<IdentityKey, JobOffer> jobOffersByIdentity = new HashMap<>();
+    private final Map<Long, JobOffer> jobOffersById = new HashMap<>();
+    private final Map<CompanyName, Set<Long>> jobOfferIdsByCompanyName = new HashMap<>();
+    private final Map<Long, Set<Long>> jobOfferIdsByShortlistedCandidateId = new HashMap<>();
+    private final InsertionOrder<JobOffer> insertionOrder = new InsertionOrder<>();
+    private PersistentList<JobOffer> snapshot = PersistentList.empty();
 
     public ObservableList<JobOffer> getInternalList() {
         return internalList;
@@ -46,7 +75,31 @@ public class UniqueJobList implements Iterable<JobOffer> {
      */
     public boolean contains(JobOffer toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameJobOffer);
+        return jobOffersByIdentity.containsKey(new IdentityKey(toCheck));
+    }
+
+    /**
+     * Returns the job offer with the given {@code id}, or null if there is no such job offer in the list.
+     */
+    public JobOffer getJobOfferById(long id) {
+        return jobOffersById.get(id);
+    }
+
+    /**
+     * Returns the job offers offered by the company named {@code companyName}, in time proportional to their number.
+     */
+    public List<JobOffer> getJobOffersFromCompany(CompanyName companyName) {
+        requireNonNull(companyName);
+        return jobOffersWithIds(jobOfferIdsByCompanyName.get(companyName));
+    }
+
+    /**
+     * Returns the job offers that have shortlisted the candidate with the id of {@code candidate}, in time
+     * proportional to their number.
+     */
+    public List<JobOffer> getJobOffersShortlisting(Candidate candidate) {
+        requireNonNull(candidate);
+        return jobOffersWithIds(jobOfferIdsByShortlistedCandidateId.get(candidate.getId()));
     }
 
     /**
@@ -58,18 +111,28 @@ public class UniqueJobList implements Iterable<JobOffer> {
         if (contains(toAdd)) {
             throw new DuplicateJobException();
         }
+        insertionOrder.add(toAdd);
         internalList.add(toAdd);
+        snapshot = snapshot.plus(toAdd);
+        index(toAdd);
     }
 
     /**
      * Removes the equivalent job offer from the list.
      * The job offer must exist in the list.
+     * Returns the instance that was in the list, which may not be {@code toRemove} itself.
      */
-    public void remove(JobOffer toRemove) {
+    public JobOffer remove(JobOffer toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new JobNotFoundException();
         }
+        JobOffer removed = internalList.remove(index);
+        snapshot = snapshot.minus(index);
+        insertionOrder.remove(removed);
+        unindex(removed);
+        return removed;
     }
 
     /**
@@ -78,7 +141,22 @@ public class UniqueJobList implements Iterable<JobOffer> {
      */
     public void removeAll(List<JobOffer> toRemove) {
         requireNonNull(toRemove);
-        internalList.removeAll(toRemove);
+        List<JobOffer> removed = new ArrayList<>();
+        for (JobOffer jobOffer : toRemove) {
+            JobOffer indexed = jobOffersByIdentity.get(new IdentityKey(jobOffer));
+            if (indexed != null && indexed.equals(jobOffer)) {
+                removed.add(indexed);
+            }
+        }
+        removeIndexedJobOffers(removed);
+    }
+
+    /**
+     * Removes all job offers offered by the company named {@code companyName} from the list.
+     */
+    public void removeAllFromCompany(CompanyName companyName) {
+        requireNonNull(companyName);
+        removeIndexedJobOffers(getJobOffersFromCompany(companyName));
     }
 
     /**
@@ -86,107 +164,104 @@ public class UniqueJobList implements Iterable<JobOffer> {
      */
     public void clear() {
         internalList.clear();
+        snapshot = PersistentList.empty();
+        insertionOrder.setAll(Collections.emptyList());
+        jobOffersByIdentity.clear();
+        jobOffersById.clear();
+        jobOfferIdsByCompanyName.clear();
+        jobOfferIdsByShortlistedCandidateId.clear();
     }
 
     /**
-     * Sorts job offers by the company names they are affiliated with
+     * Returns a comparator ordering job offers by company name, ignoring case, and then as they are ordered in
+     * this list.
      */
-    public void sortByCompanyName() {
-
-        Collections.sort(internalList, new Comparator<JobOffer>() {
-            @Override
-            public int compare(JobOffer o1, JobOffer o2) {
-                return ((o1.getCompanyName().toString()).toLowerCase()).compareTo((
-                        o2.getCompanyName().toString()).toLowerCase());
-            }
-        });
+    public Comparator<JobOffer> comparatorByCompanyName() {
+        return Comparator.<JobOffer, String>comparing(jobOffer -> jobOffer.getCompanyName().toString().toLowerCase())
+                .thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts job offers by their job titles
+     * Returns a comparator ordering job offers by job title, ignoring case, and then as they are ordered in
+     * this list.
      */
-    public void sortByJob() {
-
-        Collections.sort(internalList, new Comparator<JobOffer>() {
-            @Override
-            public int compare(JobOffer o1, JobOffer o2) {
-                return ((o1.getJob().toString()).toLowerCase()).compareTo((o2.getJob().toString()).toLowerCase());
-            }
-        });
+    public Comparator<JobOffer> comparatorByJob() {
+        return Comparator.<JobOffer, String>comparing(jobOffer -> jobOffer.getJob().toString().toLowerCase())
+                .thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts job offers by their minimum age limit
+     * Returns a comparator ordering job offers by minimum age, and then as they are ordered in this list.
      */
-    public void sortByAgeRange() {
-
-        Collections.sort(internalList, new Comparator<JobOffer>() {
-            @Override
-            public int compare(JobOffer o1, JobOffer o2) {
-                String[] o1AgeRange = o1.getAgeRange().toString().split("-");
-                String[] o2AgeRange = o2.getAgeRange().toString().split("-");
-                return (Integer.parseInt(o1AgeRange[0]) - Integer.parseInt(o2AgeRange[0]));
-            }
-        });
+    public Comparator<JobOffer> comparatorByAgeRange() {
+        return Comparator.<JobOffer>comparingInt(jobOffer -> jobOffer.getAgeRange().getMinAge())
+                .thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts job offers by their desired education levels
+     * Returns a comparator ordering job offers by education level, and then as they are ordered in this list.
      */
-    public void sortByEducation() {
-
-        Collections.sort(internalList, new Comparator<JobOffer>() {
-            @Override
-            public int compare(JobOffer o1, JobOffer o2) {
-                return (o1.getEducation().order - o2.getEducation().order);
-            }
-        });
+    public Comparator<JobOffer> comparatorByEducation() {
+        return Comparator.<JobOffer>comparingInt(jobOffer -> jobOffer.getEducation().order)
+                .thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts job offers by their provided salaries
+     * Returns a comparator ordering job offers by salary, and then as they are ordered in this list.
      */
-    public void sortBySalary() {
-
-        Collections.sort(internalList, new Comparator<JobOffer>() {
-            @Override
-            public int compare(JobOffer o1, JobOffer o2) {
-                return (Integer.parseInt(o1.getSalary().toString()) - Integer.parseInt(o2.getSalary().toString()));
-            }
-        });
+    public Comparator<JobOffer> comparatorBySalary() {
+        return Comparator.<JobOffer>comparingInt(jobOffer -> Integer.parseInt(jobOffer.getSalary().value))
+                .thenComparing(insertionOrder.comparator());
     }
 
     /**
-     * Sorts job offers in reverse to the current order
+     * Returns a comparator ordering job offers as they are ordered in this list.
      */
-    public void sortInReverse() {
-
-        Collections.reverse(internalList);
+    public Comparator<JobOffer> comparatorByListOrder() {
+        return insertionOrder.comparator();
     }
 
     /**
      * Replaces the job offer {@code target} in the list with {@code editedJobOffer}.
      * {@code target} must exist in the list.
      * The job offer identity of {@code editedJobOffer} must not be the same as another existing job offer in the list.
+     * Returns the instance that was replaced, which may not be {@code target} itself.
      */
-    public void setJobOffer(JobOffer target, JobOffer editedJobOffer) {
+    public JobOffer setJobOffer(JobOffer target, JobOffer editedJobOffer) {
         requireAllNonNull(target, editedJobOffer);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new JobNotFoundException();
         }
 
-        if (!target.isSameJobOffer(editedJobOffer) && contains(editedJobOffer)) {
+        JobOffer sameJobOffer = jobOffersByIdentity.get(new IdentityKey(editedJobOffer));
+        if (sameJobOffer != null && sameJobOffer != internalList.get(index)) {
             throw new DuplicateJobException();
         }
 
-        internalList.set(index, editedJobOffer);
+        snapshot = snapshot.with(index, editedJobOffer);
+        return replace(index, editedJobOffer);
     }
 
     public void setJobOffers(UniqueJobList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setAll(replacement.internalList, replacement.snapshot);
+    }
+
+    /**
+     * Replaces the contents of this list with the job offers in {@code snapshot}, which must have been taken with
+     * {@link #snapshot()}, and returns the changes made.
+     * Only the job offers that differ between the two snapshots are removed, added and indexed.
+     */
+    public List<PersistentList.Change<JobOffer>> setJobOffers(PersistentList<JobOffer> snapshot) {
+        requireNonNull(snapshot);
+        List<PersistentList.Change<JobOffer>> changes = this.snapshot.changesTo(snapshot);
+        for (PersistentList.Change<JobOffer> change : changes) {
+            apply(change);
+        }
+        this.snapshot = snapshot;
+        return changes;
     }
 
     /**
@@ -195,11 +270,38 @@ public class UniqueJobList implements Iterable<JobOffer> {
      */
     public void setJobOffers(List<JobOffer> jobOffers) {
         requireAllNonNull(jobOffers);
-        if (!jobsAreUnique(jobOffers)) {
-            throw new DuplicateJobException();
+        setAll(jobOffers, PersistentList.of(jobOffers));
+    }
+
+    private void setAll(List<JobOffer> jobOffers, PersistentList<JobOffer> snapshot) {
+        Map<IdentityKey, JobOffer> newJobOffersByIdentity = new HashMap<>();
+        for (JobOffer jobOffer : jobOffers) {
+            if (newJobOffersByIdentity.putIfAbsent(new IdentityKey(jobOffer), jobOffer) != null) {
+                throw new DuplicateJobException();
+            }
         }
 
+        insertionOrder.setAll(jobOffers);
         internalList.setAll(jobOffers);
+        this.snapshot = snapshot;
+        jobOffersByIdentity.clear();
+        jobOffersByIdentity.putAll(newJobOffersByIdentity);
+        jobOffersById.clear();
+        jobOfferIdsByCompanyName.clear();
+        jobOfferIdsByShortlistedCandidateId.clear();
+        for (JobOffer jobOffer : jobOffers) {
+            jobOffersById.put(jobOffer.getId(), jobOffer);
+            addToIndex(jobOfferIdsByCompanyName, jobOffer.getCompanyName(), jobOffer);
+            indexShortlist(jobOffer);
+        }
+    }
+
+    /**
+     * Returns the contents of this list as they are now. The snapshot shares its structure with the snapshots
+     * taken before it, and is not affected by later changes to this list.
+     */
+    public PersistentList<JobOffer> snapshot() {
+        return snapshot;
     }
 
     /**
@@ -226,18 +328,193 @@ public class UniqueJobList implements Iterable<JobOffer> {
                 && internalList.equals(((UniqueJobList) other).internalList));
     }
 
+    private void apply(PersistentList.Change<JobOffer> change) {
+        int index = change.getIndex();
+        List<JobOffer> removed = change.getRemoved();
+        List<JobOffer> added = change.getAdded();
+        if (removed.size() == added.size()) {
+            for (int i = 0; i < added.size(); i++) {
+                replace(index + i, added.get(i));
+            }
+            return;
+        }
+
+        if (!removed.isEmpty()) {
+            internalList.remove(index, index + removed.size());
+        }
+        for (JobOffer jobOffer : removed) {
+            insertionOrder.remove(jobOffer);
+            unindex(jobOffer);
+        }
+        insertionOrder.insertAll(internalList, index, added);
+        if (!added.isEmpty()) {
+            internalList.addAll(index, added);
+        }
+        added.forEach(this::index);
+    }
+
     /**
-     * Returns true if {@code jobOffers} contains only unique jobs.
+     * Replaces the job offer at {@code index} with {@code editedJobOffer}, leaving the snapshot as it is, and
+     * returns the job offer replaced.
      */
-    private boolean jobsAreUnique(List<JobOffer> jobOffers) {
-        for (int i = 0; i < jobOffers.size() - 1; i++) {
-            for (int j = i + 1; j < jobOffers.size(); j++) {
-                if (jobOffers.get(i).isSameJobOffer(jobOffers.get(j))) {
-                    return false;
-                }
+    private JobOffer replace(int index, JobOffer editedJobOffer) {
+        JobOffer replaced = internalList.get(index);
+        insertionOrder.replace(replaced, editedJobOffer);
+        internalList.set(index, editedJobOffer);
+        if (replaced != editedJobOffer) {
+            insertionOrder.remove(replaced);
+        }
+        reindex(replaced, editedJobOffer);
+        return replaced;
+    }
+
+    /**
+     * Returns the index of the job offer equal to {@code jobOffer} in the list, or -1 if there is none.
+     */
+    private int indexOf(JobOffer jobOffer) {
+        JobOffer indexed = jobOffersByIdentity.get(new IdentityKey(jobOffer));
+        return indexed != null && indexed.equals(jobOffer) ? insertionOrder.indexOf(internalList, indexed) : -1;
+    }
+
+    private List<JobOffer> jobOffersWithIds(Set<Long> ids) {
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        List<JobOffer> jobOffers = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            jobOffers.add(jobOffersById.get(id));
+        }
+        return Collections.unmodifiableList(jobOffers);
+    }
+
+    /**
+     * Removes {@code toRemove}, which must be the instances held by this list, in a single pass over the list.
+     */
+    private void removeIndexedJobOffers(List<JobOffer> toRemove) {
+        if (toRemove.isEmpty()) {
+            return;
+        }
+        Set<JobOffer> removalSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        removalSet.addAll(toRemove);
+        for (int index = internalList.size() - 1; index >= 0; index--) {
+            if (removalSet.contains(internalList.get(index))) {
+                snapshot = snapshot.minus(index);
             }
         }
-        return true;
+        internalList.removeAll(removalSet);
+        for (JobOffer jobOffer : toRemove) {
+            insertionOrder.remove(jobOffer);
+            unindex(jobOffer);
+        }
+    }
+
+    private void index(JobOffer jobOffer) {
+        jobOffersByIdentity.put(new IdentityKey(jobOffer), jobOffer);
+        jobOffersById.put(jobOffer.getId(), jobOffer);
+        addToIndex(jobOfferIdsByCompanyName, jobOffer.getCompanyName(), jobOffer);
+        indexShortlist(jobOffer);
+    }
+
+    private void indexShortlist(JobOffer jobOffer) {
+        for (Candidate candidate : jobOffer.getShortlist()) {
+            addToIndex(jobOfferIdsByShortlistedCandidateId, candidate.getId(), jobOffer);
+        }
+    }
+
+    private void unindex(JobOffer jobOffer) {
+        jobOffersByIdentity.remove(new IdentityKey(jobOffer), jobOffer);
+        if (!jobOffersById.remove(jobOffer.getId(), jobOffer)) {
+            // the id is now held by another job offer, which the indexes below refer to
+            return;
+        }
+        removeFromIndex(jobOfferIdsByCompanyName, jobOffer.getCompanyName(), jobOffer);
+        for (Candidate candidate : jobOffer.getShortlist()) {
+            removeFromIndex(jobOfferIdsByShortlistedCandidateId, candidate.getId(), jobOffer);
+        }
+    }
+
+    /**
+     * Updates the indexes after {@code replaced} has been replaced with {@code editedJobOffer}. If the two have the
+     * same id, only the parts of the indexes for a changed company name or shortlist are updated.
+     */
+    private void reindex(JobOffer replaced, JobOffer editedJobOffer) {
+        if (replaced.getId() != editedJobOffer.getId()) {
+            unindex(replaced);
+            index(editedJobOffer);
+            return;
+        }
+
+        jobOffersByIdentity.remove(new IdentityKey(replaced), replaced);
+        jobOffersByIdentity.put(new IdentityKey(editedJobOffer), editedJobOffer);
+        jobOffersById.put(editedJobOffer.getId(), editedJobOffer);
+        if (!replaced.getCompanyName().equals(editedJobOffer.getCompanyName())) {
+            removeFromIndex(jobOfferIdsByCompanyName, replaced.getCompanyName(), replaced);
+            addToIndex(jobOfferIdsByCompanyName, editedJobOffer.getCompanyName(), editedJobOffer);
+        }
+        for (long candidateId : replaced.getShortlist().idsNotOn(editedJobOffer.getShortlist())) {
+            removeFromIndex(jobOfferIdsByShortlistedCandidateId, candidateId, replaced);
+        }
+        for (long candidateId : editedJobOffer.getShortlist().idsNotOn(replaced.getShortlist())) {
+            addToIndex(jobOfferIdsByShortlistedCandidateId, candidateId, editedJobOffer);
+        }
+    }
+
+    /**
+     * Adds the id of {@code jobOffer} to the ids indexed under {@code key} in {@code index}.
+     */
+    private static <K> void addToIndex(Map<K, Set<Long>> index, K key, JobOffer jobOffer) {
+        index.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(jobOffer.getId());
+    }
+
+    /**
+     * Removes the id of {@code jobOffer} from the ids indexed under {@code key} in {@code index}.
+     */
+    private static <K> void removeFromIndex(Map<K, Set<Long>> index, K key, JobOffer jobOffer) {
+        Set<Long> ids = index.get(key);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(jobOffer.getId());
+        if (ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Hash key made up of the identity fields of a job offer, as compared by {@code JobOffer#isSameJobOffer}.
+     * The job title is lowercased as {@code Job#equals} ignores case.
+     */
+    private static final class IdentityKey {
+        private final CompanyName companyName;
+        private final String job;
+        private final Gender gender;
+
+        IdentityKey(JobOffer jobOffer) {
+            this.companyName = jobOffer.getCompanyName();
+            this.job = jobOffer.getJob().value.toLowerCase();
+            this.gender = jobOffer.getGender();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return companyName.equals(otherKey.companyName)
+                    && job.equals(otherKey.job)
+                    && gender.equals(otherKey.gender);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(companyName, job, gender);
+        }
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.recruit.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.recruit.commons.util.AppUtil.checkArgument;
 
+import seedu.recruit.model.util.Interner;
+
 /**
  * Represents a Tag in the recruit book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +14,8 @@ public class Tag {
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> POOL = new Interner<>(Tag::new);
+
     public final String tagName;
 
     /**
@@ -25,6 +29,13 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}, which must be valid.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
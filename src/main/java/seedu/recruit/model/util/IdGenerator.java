@@ -0,0 +1,30 @@
+package seedu.recruit.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the ids of candidates, companies and job offers.
+ *
+ * Ids are unique across all entities of a session. An entity keeps its id when it is edited, so that other parts
+ * of the model can refer to it by a primitive key. Ids read back from storage are reserved so that the ids handed
+ * out afterwards never clash with them.
+ */
+public class IdGenerator {
+
+    private static final AtomicLong lastId = new AtomicLong();
+
+    /**
+     * Returns an id that has not been handed out or reserved before.
+     */
+    public static long nextId() {
+        return lastId.incrementAndGet();
+    }
+
+    /**
+     * Marks {@code id}, and every id before it, as taken, and returns {@code id}.
+     */
+    public static long reserve(long id) {
+        lastId.accumulateAndGet(id, Math::max);
+        return id;
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.recruit.model.util;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} that can be answered from a {@code TokenIndex} instead of being tested on every item.
+ */
+public interface IndexablePredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns a predicate that accepts exactly the same items as this one, answering from {@code index}.
+     */
+    Predicate<T> withIndex(TokenIndex<T> index);
+}
@@ -0,0 +1,118 @@
+package seedu.recruit.model.util;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks the order of the items in a list by giving each item a sequence number, so that views of the list can
+ * be sorted back into, or against, the list's own order without looking up positions.
+ *
+ * An added item is numbered after every other item and an edited item takes over the number of the item it
+ * replaces, so ordering by number is the list's order. Numbers are spaced apart so that items inserted into the
+ * middle of the list can be numbered between their neighbours, and the items are only renumbered when there is
+ * no number left between them. Items are compared by identity. Views sorted with
+ * {@link #comparator()} may compare an item while it is being added to or removed from the list, so an item must
+ * be added here before it is added to the list, and removed from here only after it is removed from the list.
+ */
+public class InsertionOrder<T> {
+
+    private static final long SPACING = 1L << 20;
+
+    private final Map<T, Long> sequences = new IdentityHashMap<>();
+    private long nextSequence;
+
+    /**
+     * Numbers {@code item}, which is about to be appended to the list.
+     */
+    public void add(T item) {
+        sequences.put(item, nextSequence);
+        nextSequence += SPACING;
+    }
+
+    /**
+     * Numbers {@code items}, which are about to be inserted into {@code list} at {@code index}.
+     */
+    public void insertAll(List<? extends T> list, int index, List<? extends T> items) {
+        if (index == list.size()) {
+            items.forEach(this::add);
+            return;
+        }
+        long next = sequences.get(list.get(index));
+        long previous = index == 0 ? next - SPACING * (items.size() + 1) : sequences.get(list.get(index - 1));
+        long step = (next - previous) / (items.size() + 1);
+        if (step == 0) {
+            renumber(list, index, items);
+            return;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            sequences.put(items.get(i), previous + step * (i + 1));
+        }
+    }
+
+    /**
+     * Gives {@code editedItem}, which is about to replace {@code target} in the list, the number of {@code target}.
+     */
+    public void replace(T target, T editedItem) {
+        sequences.put(editedItem, sequences.get(target));
+    }
+
+    /**
+     * Forgets {@code item}, which has been removed from the list.
+     */
+    public void remove(T item) {
+        sequences.remove(item);
+    }
+
+    /**
+     * Renumbers the items in the order of {@code items}, which are about to replace the contents of the list.
+     */
+    public void setAll(Iterable<? extends T> items) {
+        sequences.clear();
+        nextSequence = 0;
+        for (T item : items) {
+            add(item);
+        }
+    }
+
+    /**
+     * Returns the index of {@code item} in {@code list}, or -1 if it is not there, by binary search on the numbers.
+     */
+    public int indexOf(List<? extends T> list, T item) {
+        Long sequence = sequences.get(item);
+        if (sequence == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleSequence = sequences.get(list.get(middle));
+            if (middleSequence < sequence) {
+                low = middle + 1;
+            } else if (middleSequence > sequence) {
+                high = middle - 1;
+            } else {
+                return list.get(middle) == item ? middle : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Numbers every item of {@code list} anew, with {@code items} inserted at {@code index}.
+     */
+    private void renumber(List<? extends T> list, int index, List<? extends T> items) {
+        setAll(list.subList(0, index));
+        items.forEach(this::add);
+        list.subList(index, list.size()).forEach(this::add);
+    }
+
+    /**
+     * Returns a comparator ordering items as they are ordered in the list.
+     */
+    public Comparator<T> comparator() {
+        return Comparator.comparingLong(sequences::get);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.recruit.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of shared instances of an immutable value class, keyed by the string each instance holds.
+ *
+ * Fields that take only a few distinct values, such as genders and education levels, are repeated across many
+ * candidates and job offers. Getting them from a pool keeps one instance per value instead of one per row, and
+ * lets equality checks between them succeed on identity. Instances are held weakly, so that a value no longer used
+ * anywhere is dropped from the pool. An instance must hold the very string it was made from, which keeps its entry
+ * alive for as long as the instance is.
+ */
+public class Interner<T> {
+
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+    private final Function<String, T> constructor;
+
+    /**
+     * Creates a pool that makes instances it does not yet hold with {@code constructor}.
+     */
+    public Interner(Function<String, T> constructor) {
+        requireNonNull(constructor);
+        this.constructor = constructor;
+    }
+
+    /**
+     * Returns the pooled instance for {@code value}, making and pooling one if there is none.
+     * Exceptions thrown by the constructor, such as for an invalid value, are passed on and nothing is pooled.
+     */
+    public synchronized T intern(String value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T instance = reference == null ? null : reference.get();
+        if (instance == null) {
+            instance = constructor.apply(value);
+            pool.put(value, new WeakReference<>(instance));
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,569 @@
+package seedu.recruit.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * An immutable list that is changed by making a new version of it. The new version shares all but O(log n) of
+ * its nodes with the old one, so that old versions can be kept cheaply, such as one per committed state of a book.
+ *
+ * The elements are held in a weight-balanced binary tree ordered by position, where every node records the size
+ * of its subtree. Getting, setting, inserting and removing an element each visit, and copy, only the nodes on the
+ * path to it.
+ *
+ * Every node and every version is stamped with a generation that only grows, so a node of a version made from an
+ * older one is shared with the older version iff its generation is no later than that version's. This lets
+ * {@link #changesTo(PersistentList)} find the changes between two such versions without visiting the nodes they
+ * share.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final AtomicLong GENERATION = new AtomicLong();
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    /** A subtree is rebalanced when it is more than this many times the weight of its sibling. */
+    private static final int DELTA = 3;
+    /** Rebalancing rotates once if the inner grandchild is less than this many times lighter, and twice if not. */
+    private static final int RATIO = 2;
+
+    private final Node<T> root;
+    private final long generation;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+        this.generation = GENERATION.getAndIncrement();
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code items}, in order, in time linear in their number.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> items) {
+        requireNonNull(items);
+        return items.isEmpty() ? empty() : new PersistentList<>(build(items, 0, items.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this list with {@code item} appended.
+     */
+    public PersistentList<T> plus(T item) {
+        return new PersistentList<>(append(root, item));
+    }
+
+    /**
+     * Returns a copy of this list with {@code item} inserted at {@code index}.
+     */
+    public PersistentList<T> plus(int index, T item) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, item));
+    }
+
+    /**
+     * Returns the index of the element with the given {@code key}, in a list whose elements are in ascending order
+     * of {@code keyOf}. If there is none, returns {@code -(insertion point) - 1} as
+     * {@link Collections#binarySearch(List, Object)} does. Takes time logarithmic in the size of the list.
+     */
+    public int binarySearch(long key, ToLongFunction<? super T> keyOf) {
+        requireNonNull(keyOf);
+        Node<T> node = root;
+        int offset = 0;
+        while (node != null) {
+            long nodeKey = keyOf.applyAsLong(node.value);
+            if (key < nodeKey) {
+                node = node.left;
+            } else if (key > nodeKey) {
+                offset += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return offset + size(node.left);
+            }
+        }
+        return -offset - 1;
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code item}.
+     */
+    public PersistentList<T> with(int index, T item) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, item));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(removeAt(root, index));
+    }
+
+    /**
+     * Returns the changes that turn this list into {@code other}. Applied in order, each to the list as left by
+     * the ones before it, they replace the elements removed at the change's index with the elements added there.
+     * Elements are compared by identity, and no element is both removed and added by the same change.
+     *
+     * If one list was made from the other by adding, setting and removing elements, this takes time proportional
+     * to the number of nodes they do not share, which is O(k log n) for k such changes. Otherwise it takes time
+     * linear in the sizes of the lists.
+     */
+    public List<Change<T>> changesTo(PersistentList<T> other) {
+        requireNonNull(other);
+        List<Change<T>> changes = new ArrayList<>();
+        if (root == other.root) {
+            return changes;
+        }
+
+        boolean isOlder = generation <= other.generation;
+        PersistentList<T> older = isOlder ? this : other;
+        PersistentList<T> newer = isOlder ? other : this;
+        List<Node<T>> sharedNodes = new ArrayList<>();
+        List<List<T>> newerRuns = newRuns();
+        splitAtOlderNodes(newer.root, older.generation, sharedNodes, newerRuns);
+        Set<Node<T>> sharedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        sharedSet.addAll(sharedNodes);
+        List<Node<T>> foundNodes = new ArrayList<>();
+        List<List<T>> olderRuns = newRuns();
+        splitAtSharedNodes(older.root, sharedSet, foundNodes, olderRuns);
+        if (!foundNodes.equals(sharedNodes)) {
+            // the newer list was not made from the older one, so their older nodes are not all shared
+            return replacementOf(older, newer, isOlder);
+        }
+
+        List<List<T>> fromRuns = isOlder ? olderRuns : newerRuns;
+        List<List<T>> toRuns = isOlder ? newerRuns : olderRuns;
+        int index = 0;
+        for (int i = 0; i < fromRuns.size(); i++) {
+            index = addChanges(fromRuns.get(i), toRuns.get(i), index, changes);
+            if (i < sharedNodes.size()) {
+                index += sharedNodes.get(i).size;
+            }
+        }
+
+        Set<T> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Change<T> change : changes) {
+            removed.addAll(change.getRemoved());
+        }
+        for (Change<T> change : changes) {
+            for (T item : change.getAdded()) {
+                if (removed.contains(item)) {
+                    // an element moved, which adding, setting and removing elements never does
+                    return replacementOf(older, newer, isOlder);
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this list, made in constant time.
+     */
+    public List<T> asList() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return PersistentList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentList.this.size();
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return PersistentList.this.iterator();
+            }
+        };
+    }
+
+    /**
+     * Returns the elements of this list in a new mutable list.
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        for (T item : this) {
+            list.add(item);
+        }
+        return list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftSpine(node.right);
+                return node.value;
+            }
+
+            private void pushLeftSpine(Node<T> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (root == otherList.root) {
+            return true;
+        }
+        if (size() != otherList.size()) {
+            return false;
+        }
+        Iterator<?> otherItems = otherList.iterator();
+        for (T item : this) {
+            if (!Objects.equals(item, otherItems.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (T item : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(item);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <T> List<List<T>> newRuns() {
+        List<List<T>> runs = new ArrayList<>();
+        runs.add(new ArrayList<>());
+        return runs;
+    }
+
+    /**
+     * Adds to {@code sharedNodes} the topmost nodes under {@code node} that are no later than {@code generation},
+     * and to the last of {@code runs} the elements of the later nodes, starting a new run after each shared node.
+     */
+    private static <T> void splitAtOlderNodes(Node<T> node, long generation, List<Node<T>> sharedNodes,
+            List<List<T>> runs) {
+        if (node == null) {
+            return;
+        }
+        if (node.generation <= generation) {
+            sharedNodes.add(node);
+            runs.add(new ArrayList<>());
+            return;
+        }
+        splitAtOlderNodes(node.left, generation, sharedNodes, runs);
+        runs.get(runs.size() - 1).add(node.value);
+        splitAtOlderNodes(node.right, generation, sharedNodes, runs);
+    }
+
+    /**
+     * As {@link #splitAtOlderNodes}, but splits at the nodes under {@code node} that are in {@code sharedSet}.
+     */
+    private static <T> void splitAtSharedNodes(Node<T> node, Set<Node<T>> sharedSet, List<Node<T>> foundNodes,
+            List<List<T>> runs) {
+        if (node == null) {
+            return;
+        }
+        if (sharedSet.contains(node)) {
+            foundNodes.add(node);
+            runs.add(new ArrayList<>());
+            return;
+        }
+        splitAtSharedNodes(node.left, sharedSet, foundNodes, runs);
+        runs.get(runs.size() - 1).add(node.value);
+        splitAtSharedNodes(node.right, sharedSet, foundNodes, runs);
+    }
+
+    /**
+     * Adds the changes that turn the run {@code from} at {@code index} into the run {@code to}, keeping the
+     * elements of {@code from} that are also in {@code to} in the same order, and returns the index after the run.
+     */
+    private static <T> int addChanges(List<T> from, List<T> to, int index, List<Change<T>> changes) {
+        Map<T, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < to.size(); i++) {
+            positions.put(to.get(i), i);
+        }
+        int fromStart = 0;
+        int toStart = 0;
+        for (int i = 0; i < from.size(); i++) {
+            Integer position = positions.get(from.get(i));
+            if (position == null || position < toStart) {
+                continue;
+            }
+            index = addChange(from.subList(fromStart, i), to.subList(toStart, position), index, changes) + 1;
+            fromStart = i + 1;
+            toStart = position + 1;
+        }
+        return addChange(from.subList(fromStart, from.size()), to.subList(toStart, to.size()), index, changes);
+    }
+
+    private static <T> int addChange(List<T> removed, List<T> added, int index, List<Change<T>> changes) {
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            changes.add(new Change<>(index, new ArrayList<>(removed), new ArrayList<>(added)));
+        }
+        return index + added.size();
+    }
+
+    /**
+     * Returns the changes that remove every element of the list turned from and then add every element of the
+     * list turned into.
+     */
+    private static <T> List<Change<T>> replacementOf(PersistentList<T> older, PersistentList<T> newer,
+            boolean isOlder) {
+        List<T> from = isOlder ? older.toList() : newer.toList();
+        List<T> to = isOlder ? newer.toList() : older.toList();
+        List<Change<T>> changes = new ArrayList<>();
+        addChange(from, Collections.emptyList(), 0, changes);
+        addChange(Collections.emptyList(), to, 0, changes);
+        return changes;
+    }
+
+    private static <T> Node<T> build(List<? extends T> items, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(items, from, middle), items.get(middle), build(items, middle + 1, to));
+    }
+
+    private static <T> Node<T> append(Node<T> node, T item) {
+        if (node == null) {
+            return new Node<>(null, item, null);
+        }
+        return balance(node.left, node.value, append(node.right, item));
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T item) {
+        if (node == null) {
+            return new Node<>(null, item, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, item), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, item));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T item) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, item), node.value, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, item, node.right);
+        } else {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, item));
+        }
+    }
+
+    private static <T> Node<T> removeAt(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(removeAt(node.left, index), node.value, node.right);
+        } else if (index == leftSize) {
+            return glue(node.left, node.right);
+        } else {
+            return balance(node.left, node.value, removeAt(node.right, index - leftSize - 1));
+        }
+    }
+
+    /**
+     * Joins two balanced subtrees that were siblings, moving an element from the larger one up to be their parent.
+     */
+    private static <T> Node<T> glue(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.size > right.size) {
+            return balance(removeAt(left, left.size - 1), last(left), right);
+        }
+        return balance(left, first(right), removeAt(right, 0));
+    }
+
+    private static <T> T first(Node<T> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    private static <T> T last(Node<T> node) {
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns a node of {@code left}, {@code value} and {@code right}, rotated if one subtree has outgrown the other
+     * after an element was added to or removed from it.
+     */
+    private static <T> Node<T> balance(Node<T> left, T value, Node<T> right) {
+        int leftWeight = size(left) + 1;
+        int rightWeight = size(right) + 1;
+        if (rightWeight > DELTA * leftWeight) {
+            return rotateLeft(left, value, right);
+        }
+        if (leftWeight > DELTA * rightWeight) {
+            return rotateRight(left, value, right);
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> left, T value, Node<T> right) {
+        Node<T> inner = right.left;
+        if (size(inner) + 1 < RATIO * (size(right.right) + 1)) {
+            return new Node<>(new Node<>(left, value, inner), right.value, right.right);
+        }
+        return new Node<>(new Node<>(left, value, inner.left), inner.value,
+                new Node<>(inner.right, right.value, right.right));
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> left, T value, Node<T> right) {
+        Node<T> inner = left.right;
+        if (size(inner) + 1 < RATIO * (size(left.left) + 1)) {
+            return new Node<>(left.left, left.value, new Node<>(inner, value, right));
+        }
+        return new Node<>(new Node<>(left.left, left.value, inner.left), inner.value,
+                new Node<>(inner.right, value, right));
+    }
+
+    /**
+     * A run of consecutive elements replaced by another, as returned by {@link #changesTo(PersistentList)}.
+     */
+    public static final class Change<T> {
+        private final int index;
+        private final List<T> removed;
+        private final List<T> added;
+
+        private Change(int index, List<T> removed, List<T> added) {
+            this.index = index;
+            this.removed = Collections.unmodifiableList(removed);
+            this.added = Collections.unmodifiableList(added);
+        }
+
+        /**
+         * Returns the index of the first element removed or added.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public List<T> getRemoved() {
+            return removed;
+        }
+
+        public List<T> getAdded() {
+            return added;
+        }
+
+        @Override
+        public String toString() {
+            return "at " + index + ": " + removed + " -> " + added;
+        }
+    }
+
+    private static final class Node<T> {
+        private final Node<T> left;
+        private final T value;
+        private final Node<T> right;
+        private final int size;
+        private final long generation;
+
+        Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.generation = GENERATION.get();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.recruit.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * A predicate whose results for the items of a list have been evaluated up front, in parallel.
+ *
+ * The list is split across the common {@link ForkJoinPool} and the results are collected into a bitset, so that
+ * a filtered view of a large list can be refiltered with one cheap lookup per item instead of evaluating the
+ * predicate on the calling thread. Once the view has been refiltered, {@link #expire()} should be called so
+ * that items tested later, such as newly added or edited ones, are tested with the original predicate.
+ */
+public class PrecomputedPredicate<T> implements Predicate<T> {
+
+    /** Number of items evaluated by one task, a multiple of 64 so that no two tasks write the same word. */
+    private static final int ITEMS_PER_TASK = 64 * 64;
+
+    private final Predicate<? super T> predicate;
+    private final Set<T> matches;
+    private boolean isExpired;
+
+    private PrecomputedPredicate(Predicate<? super T> predicate, Set<T> matches) {
+        this.predicate = predicate;
+        this.matches = matches;
+    }
+
+    /**
+     * Evaluates {@code predicate} on every item of {@code items} in parallel.
+     * {@code predicate} must be safe to test from several threads at once, and {@code items} must not be
+     * modified until this method returns.
+     */
+    public static <T> PrecomputedPredicate<T> evaluate(List<T> items, Predicate<? super T> predicate) {
+        requireNonNull(items);
+        requireNonNull(predicate);
+        long[] words = new long[(items.size() + 63) / 64];
+        ForkJoinPool.commonPool().invoke(new EvaluationTask<>(items, predicate, words, 0, items.size()));
+
+        BitSet bits = BitSet.valueOf(words);
+        Set<T> matches = TokenIndex.newIdentitySet();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            matches.add(items.get(i));
+        }
+        return new PrecomputedPredicate<>(predicate, matches);
+    }
+
+    /**
+     * Makes every later test evaluate the original predicate.
+     */
+    public void expire() {
+        isExpired = true;
+    }
+
+    @Override
+    public boolean test(T item) {
+        return isExpired ? predicate.test(item) : matches.contains(item);
+    }
+
+    /**
+     * Sets the bits of the items from {@code start} (inclusive) to {@code end} (exclusive) that match.
+     */
+    private static class EvaluationTask<T> extends RecursiveAction {
+        private final List<T> items;
+        private final Predicate<? super T> predicate;
+        private final long[] words;
+        private final int start;
+        private final int end;
+
+        EvaluationTask(List<T> items, Predicate<? super T> predicate, long[] words, int start, int end) {
+            this.items = items;
+            this.predicate = predicate;
+            this.words = words;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > ITEMS_PER_TASK) {
+                int middle = start + Math.max(1, (end - start) / 2 / ITEMS_PER_TASK) * ITEMS_PER_TASK;
+                invokeAll(new EvaluationTask<>(items, predicate, words, start, middle),
+                        new EvaluationTask<>(items, predicate, words, middle, end));
+                return;
+            }
+            for (int i = start; i < end; i++) {
+                if (predicate.test(items.get(i))) {
+                    words[i >> 6] |= 1L << i;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.recruit.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.recruit.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * A find or filter query compiled from its keywords, for testing many items without re-reading the keywords.
+ *
+ * Each searched field becomes a clause holding the field's accessor and its keywords, trimmed once, or parsed
+ * once for range fields. A keyword matches a text field exactly when
+ * {@code StringUtil#containsWordIgnoreCase(field, keyword)} is true, without splitting or copying the field.
+ * Clauses are ordered by the expected selectivity of their field so that evaluation short-circuits early:
+ * the most selective clauses come first when every clause must match, and the least selective when any may.
+ */
+public class QueryPlan<T> implements Predicate<T> {
+
+    private final Clause<T>[] clauses;
+    private final boolean isMatchingEveryClause;
+
+    private QueryPlan(Clause<T>[] clauses, boolean isMatchingEveryClause) {
+        this.clauses = clauses;
+        this.isMatchingEveryClause = isMatchingEveryClause;
+    }
+
+    /**
+     * Compiles a query accepting the items that match any of the keywords of at least one field in
+     * {@code keywordsByField}. Keywords for fields that are not in {@code fields} are ignored.
+     */
+    public static <T> QueryPlan<T> matchingAnyField(Map<String, List<String>> keywordsByField,
+                                                    List<Field<T>> fields) {
+        return compile(keywordsByField, fields, false);
+    }
+
+    /**
+     * Compiles a query accepting the items that match any of the keywords of every field in
+     * {@code keywordsByField}. Keywords for fields that are not in {@code fields} are ignored.
+     */
+    public static <T> QueryPlan<T> matchingEveryField(Map<String, List<String>> keywordsByField,
+                                                      List<Field<T>> fields) {
+        return compile(keywordsByField, fields, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> QueryPlan<T> compile(Map<String, List<String>> keywordsByField, List<Field<T>> fields,
+                                            boolean isMatchingEveryClause) {
+        requireNonNull(keywordsByField);
+        requireNonNull(fields);
+        List<Clause<T>> clauses = new ArrayList<>();
+        for (Field<T> field : fields) {
+            List<String> keywords = keywordsByField.get(field.name);
+            if (keywords != null) {
+                clauses.add(field.compile(keywords));
+            }
+        }
+
+        Comparator<Clause<T>> mostSelectiveFirst = Comparator.<Clause<T>>comparingInt(clause -> clause.selectivity)
+                .thenComparingInt(Clause::size);
+        clauses.sort(isMatchingEveryClause ? mostSelectiveFirst : mostSelectiveFirst.reversed());
+        return new QueryPlan<>(clauses.toArray(new Clause[0]), isMatchingEveryClause);
+    }
+
+    @Override
+    public boolean test(T item) {
+        for (Clause<T> clause : clauses) {
+            if (clause.test(item) != isMatchingEveryClause) {
+                return !isMatchingEveryClause;
+            }
+        }
+        return isMatchingEveryClause;
+    }
+
+    /**
+     * A searchable field of {@code T}.
+     */
+    public static class Field<T> {
+        private final String name;
+        private final int selectivity;
+        private final Function<T, String> textAccessor;
+        private final ToIntFunction<T> lowAccessor;
+        private final ToIntFunction<T> highAccessor;
+
+        private Field(String name, int selectivity, Function<T, String> textAccessor,
+                      ToIntFunction<T> lowAccessor, ToIntFunction<T> highAccessor) {
+            this.name = requireNonNull(name);
+            this.selectivity = selectivity;
+            this.textAccessor = textAccessor;
+            this.lowAccessor = lowAccessor;
+            this.highAccessor = highAccessor;
+        }
+
+        /**
+         * Returns a text field matched word by word, like {@code StringUtil#containsWordIgnoreCase}.
+         *
+         * @param selectivity how few items a keyword is expected to match, lowest for the most selective fields
+         */
+        public static <T> Field<T> words(String name, int selectivity, Function<T, String> textAccessor) {
+            return new Field<>(name, selectivity, requireNonNull(textAccessor), null, null);
+        }
+
+        /**
+         * Returns an integer field where each item covers the integers from {@code lowAccessor} to
+         * {@code highAccessor} inclusive, and a keyword matches the items whose range contains its value.
+         *
+         * @param selectivity how few items a keyword is expected to match, lowest for the most selective fields
+         */
+        public static <T> Field<T> range(String name, int selectivity, ToIntFunction<T> lowAccessor,
+                                         ToIntFunction<T> highAccessor) {
+            return new Field<>(name, selectivity, null, requireNonNull(lowAccessor), requireNonNull(highAccessor));
+        }
+
+        String getName() {
+            return name;
+        }
+
+        boolean isRange() {
+            return textAccessor == null;
+        }
+
+        Function<T, String> getTextAccessor() {
+            return textAccessor;
+        }
+
+        ToIntFunction<T> getLowAccessor() {
+            return lowAccessor;
+        }
+
+        ToIntFunction<T> getHighAccessor() {
+            return highAccessor;
+        }
+
+        private Clause<T> compile(List<String> keywords) {
+            if (textAccessor != null) {
+                return new WordsClause<>(selectivity, textAccessor, keywords);
+            }
+            return new RangeClause<>(selectivity, lowAccessor, highAccessor, keywords);
+        }
+    }
+
+    /**
+     * Tests one field of an item against all the keywords given for it.
+     */
+    private abstract static class Clause<T> {
+        private final int selectivity;
+
+        Clause(int selectivity) {
+            this.selectivity = selectivity;
+        }
+
+        abstract int size();
+
+        abstract boolean test(T item);
+    }
+
+    private static class WordsClause<T> extends Clause<T> {
+        private final Function<T, String> accessor;
+        private final String[] preppedWords;
+
+        WordsClause(int selectivity, Function<T, String> accessor, List<String> keywords) {
+            super(selectivity);
+            this.accessor = accessor;
+            this.preppedWords = keywords.stream().map(String::trim).toArray(String[]::new);
+        }
+
+        @Override
+        int size() {
+            return preppedWords.length;
+        }
+
+        @Override
+        boolean test(T item) {
+            String sentence = accessor.apply(item);
+            for (String preppedWord : preppedWords) {
+                checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+                if (preppedWord.equalsIgnoreCase(sentence) || containsWordIgnoreCase(sentence, preppedWord)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns true if one of the words of {@code sentence}, split as by {@code sentence.split("\\s+")},
+         * is equal to {@code word} ignoring case.
+         */
+        private static boolean containsWordIgnoreCase(String sentence, String word) {
+            int length = sentence.length();
+            int start = 0;
+            while (start < length) {
+                while (start < length && isSeparator(sentence.charAt(start))) {
+                    start++;
+                }
+                int end = start;
+                while (end < length && !isSeparator(sentence.charAt(end))) {
+                    end++;
+                }
+                if (end - start == word.length() && sentence.regionMatches(true, start, word, 0, word.length())) {
+                    return true;
+                }
+                start = end;
+            }
+            return false;
+        }
+
+        /**
+         * Returns true if {@code c} is matched by the regular expression {@code \s}.
+         */
+        private static boolean isSeparator(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+        }
+    }
+
+    private static class RangeClause<T> extends Clause<T> {
+        private final ToIntFunction<T> lowAccessor;
+        private final ToIntFunction<T> highAccessor;
+        private final String[] keywords;
+        private final Integer[] points;
+
+        RangeClause(int selectivity, ToIntFunction<T> lowAccessor, ToIntFunction<T> highAccessor,
+                    List<String> keywords) {
+            super(selectivity);
+            this.lowAccessor = lowAccessor;
+            this.highAccessor = highAccessor;
+            this.keywords = keywords.toArray(new String[0]);
+            this.points = new Integer[this.keywords.length];
+            for (int i = 0; i < points.length; i++) {
+                try {
+                    points[i] = Integer.parseInt(this.keywords[i]);
+                } catch (NumberFormatException nfe) {
+                    // left null so that testing an item fails as it would have without compiling the query
+                }
+            }
+        }
+
+        @Override
+        int size() {
+            return points.length;
+        }
+
+        @Override
+        boolean test(T item) {
+            int low = lowAccessor.applyAsInt(item);
+            int high = highAccessor.applyAsInt(item);
+            for (int i = 0; i < points.length; i++) {
+                int point = points[i] == null ? Integer.parseInt(keywords[i]) : points[i];
+                if (low <= point && point <= high) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.recruit.model.util;
+
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * An index over an integer interval of {@code T} that answers stabbing queries,
+ * i.e. which items have an interval containing a given point.
+ *
+ * Items are kept in a map sorted by the lower bound of their interval and then by its upper bound, so a query
+ * visits one entry per distinct lower bound below the point and only the matching upper bounds after that.
+ */
+class RangeIndex<T> {
+
+    private final ToIntFunction<T> lowAccessor;
+    private final ToIntFunction<T> highAccessor;
+    private final TreeMap<Integer, TreeMap<Integer, Set<T>>> itemsByLowAndHigh = new TreeMap<>();
+
+    RangeIndex(ToIntFunction<T> lowAccessor, ToIntFunction<T> highAccessor) {
+        this.lowAccessor = lowAccessor;
+        this.highAccessor = highAccessor;
+    }
+
+    void add(T item) {
+        itemsByLowAndHigh.computeIfAbsent(lowAccessor.applyAsInt(item), unused -> new TreeMap<>())
+                .computeIfAbsent(highAccessor.applyAsInt(item), unused -> TokenIndex.newIdentitySet())
+                .add(item);
+    }
+
+    void remove(T item) {
+        int low = lowAccessor.applyAsInt(item);
+        TreeMap<Integer, Set<T>> itemsByHigh = itemsByLowAndHigh.get(low);
+        if (itemsByHigh == null) {
+            return;
+        }
+        int high = highAccessor.applyAsInt(item);
+        Set<T> items = itemsByHigh.get(high);
+        if (items != null && items.remove(item) && items.isEmpty()) {
+            itemsByHigh.remove(high);
+            if (itemsByHigh.isEmpty()) {
+                itemsByLowAndHigh.remove(low);
+            }
+        }
+    }
+
+    void clear() {
+        itemsByLowAndHigh.clear();
+    }
+
+    /**
+     * Adds the items whose interval contains {@code point} to {@code matches}.
+     */
+    void addItemsContaining(int point, Set<T> matches) {
+        for (NavigableMap<Integer, Set<T>> itemsByHigh : itemsByLowAndHigh.headMap(point, true).values()) {
+            for (Set<T> items : itemsByHigh.tailMap(point, true).values()) {
+                matches.addAll(items);
+            }
+        }
+    }
+}
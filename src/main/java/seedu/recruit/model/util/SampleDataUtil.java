@@ -13,7 +13,6 @@ import seedu.recruit.model.candidate.Candidate;
 import seedu.recruit.model.candidate.Education;
 import seedu.recruit.model.candidate.Gender;
 import seedu.recruit.model.candidate.Name;
-import seedu.recruit.model.candidate.UniqueCandidateList;
 import seedu.recruit.model.commons.Address;
 import seedu.recruit.model.commons.Email;
 import seedu.recruit.model.commons.Phone;
@@ -23,6 +22,7 @@ import seedu.recruit.model.joboffer.AgeRange;
 import seedu.recruit.model.joboffer.Job;
 import seedu.recruit.model.joboffer.JobOffer;
 import seedu.recruit.model.joboffer.Salary;
+import seedu.recruit.model.joboffer.Shortlist;
 
 import seedu.recruit.model.tag.Tag;
 
@@ -102,61 +102,61 @@ public class SampleDataUtil {
         return new JobOffer[] {
             new JobOffer(new CompanyName("McDonalds"), new Job("Cleaner"), new Gender("F"),
                     new AgeRange("20-35"), new Education("OLEVELS"),
-                    new Salary("1000"), new UniqueCandidateList()),
+                    new Salary("1000"), Shortlist.empty()),
             new JobOffer(new CompanyName("McDonalds"), new Job("Cook"), new Gender("F"),
                     new AgeRange("20-35"), new Education("OLEVELS"),
-                    new Salary("1000"), new UniqueCandidateList()),
+                    new Salary("1000"), Shortlist.empty()),
             new JobOffer(new CompanyName("Fish & Co."), new Job("Cashier"), new Gender("M"),
                     new AgeRange("20-40"), new Education("OLEVELS"),
-                    new Salary("1100"), new UniqueCandidateList()),
+                    new Salary("1100"), Shortlist.empty()),
             new JobOffer(new CompanyName("Fish & Co."), new Job("Cook"), new Gender("M"),
                     new AgeRange("20-40"), new Education("PRIMARY"),
-                    new Salary("1000"), new UniqueCandidateList()),
+                    new Salary("1000"), Shortlist.empty()),
             new JobOffer(new CompanyName("Fish & Co."), new Job("Cleaner"), new Gender("F"),
                     new AgeRange("20-60"), new Education("PRIMARY"),
-                    new Salary("1000"), new UniqueCandidateList()),
+                    new Salary("1000"), Shortlist.empty()),
             new JobOffer(new CompanyName("FaceBook"), new Job("Software Engineer"),
                     new Gender("M"), new AgeRange("25-35"), new Education("BACHELOR"),
-                    new Salary("4000"), new UniqueCandidateList()),
+                    new Salary("4000"), Shortlist.empty()),
             new JobOffer(new CompanyName("FaceBook"), new Job("Designer"),
                     new Gender("F"), new AgeRange("25-35"), new Education("BACHELOR"),
-                    new Salary("3500"), new UniqueCandidateList()),
+                    new Salary("3500"), Shortlist.empty()),
             new JobOffer(new CompanyName("FaceBook"), new Job("Receptionist"),
                     new Gender("F"), new AgeRange("25-35"), new Education("OLEVELS"),
-                    new Salary("2500"), new UniqueCandidateList()),
+                    new Salary("2500"), Shortlist.empty()),
             new JobOffer(new CompanyName("Microsoft"), new Job("Software Engineer"),
                     new Gender("F"), new AgeRange("25-35"), new Education("BACHELOR"),
-                    new Salary("3800"), new UniqueCandidateList()),
+                    new Salary("3800"), Shortlist.empty()),
             new JobOffer(new CompanyName("Microsoft"), new Job("Software Tester"),
                     new Gender("M"), new AgeRange("25-45"), new Education("ALEVELS"),
-                    new Salary("2500"), new UniqueCandidateList()),
+                    new Salary("2500"), Shortlist.empty()),
             new JobOffer(new CompanyName("Microsoft"), new Job("Sales Representative"),
                     new Gender("M"), new AgeRange("25-35"), new Education("DIPLOMA"),
-                    new Salary("2500"), new UniqueCandidateList()),
+                    new Salary("2500"), Shortlist.empty()),
             new JobOffer(new CompanyName("Microsoft"), new Job("Finance Executive"),
                     new Gender("M"), new AgeRange("25-35"), new Education("DIPLOMA"),
-                    new Salary("2800"), new UniqueCandidateList()),
+                    new Salary("2800"), Shortlist.empty()),
             new JobOffer(new CompanyName("Microsoft"), new Job("Account Executive"),
                     new Gender("F"), new AgeRange("25-35"), new Education("DIPLOMA"),
-                    new Salary("3000"), new UniqueCandidateList()),
+                    new Salary("3000"), Shortlist.empty()),
             new JobOffer(new CompanyName("Prudential"), new Job("Insurance Agent"),
                     new Gender("M"), new AgeRange("25-35"), new Education("DIPLOMA"),
-                    new Salary("1800"), new UniqueCandidateList()),
+                    new Salary("1800"), Shortlist.empty()),
             new JobOffer(new CompanyName("Prudential"), new Job("Financial Consultant"),
                     new Gender("F"), new AgeRange("25-35"), new Education("ALEVELS"),
-                    new Salary("1800"), new UniqueCandidateList()),
+                    new Salary("1800"), Shortlist.empty()),
             new JobOffer(new CompanyName("Prudential"), new Job("Accounts Executive"),
                     new Gender("F"), new AgeRange("25-35"), new Education("DIPLOMA"),
-                    new Salary("2500"), new UniqueCandidateList()),
+                    new Salary("2500"), Shortlist.empty()),
             new JobOffer(new CompanyName("DBS"), new Job("Accounts Executive"),
                     new Gender("M"), new AgeRange("25-35"), new Education("DIPLOMA"),
-                    new Salary("2800"), new UniqueCandidateList()),
+                    new Salary("2800"), Shortlist.empty()),
             new JobOffer(new CompanyName("DBS"), new Job("Bank Teller"),
                     new Gender("M"), new AgeRange("25-35"), new Education("DIPLOMA"),
-                    new Salary("3000"), new UniqueCandidateList()),
+                    new Salary("3000"), Shortlist.empty()),
             new JobOffer(new CompanyName("DBS"), new Job("Data Entry Assistant"),
                     new Gender("M"), new AgeRange("17-50"), new Education("OLEVELS"),
-                    new Salary("1200"), new UniqueCandidateList())
+                    new Salary("1200"), Shortlist.empty())
         };
     }
 
@@ -0,0 +1,280 @@
+package seedu.recruit.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.recruit.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * An inverted index from the words in some text fields of {@code T} to the items containing them.
+ *
+ * A field is indexed under each of its words and under its whole value, both normalised so that a lookup
+ * matches exactly the items for which {@code StringUtil#containsWordIgnoreCase(field, keyword)} is true.
+ * Items are compared by identity, so the index must be told about every item that is added to, removed from
+ * or replaced in the list it mirrors.
+ *
+ * Integer fields can instead be added as range fields with {@link #addRangeField}. A keyword then matches the
+ * items whose range for that field contains the keyword's integer value.
+ *
+ * The index is only built on the first lookup, so copies of a book that are never searched do not pay for it.
+ */
+public class TokenIndex<T> {
+
+    private final Map<String, Function<T, String>> fieldAccessors;
+    private final Supplier<? extends Iterable<T>> source;
+    private final Map<String, Map<String, Set<T>>> postingsByField = new HashMap<>();
+    private final Map<String, RangeIndex<T>> rangeIndexes = new HashMap<>();
+    private final Map<T, Long> stamps = new IdentityHashMap<>();
+    private long nextStamp;
+    private boolean isBuilt;
+
+    /**
+     * @param fieldAccessors maps each indexed field name to the accessor of its text
+     * @param source supplies the current items, used when the index has to be (re)built
+     */
+    public TokenIndex(Map<String, Function<T, String>> fieldAccessors, Supplier<? extends Iterable<T>> source) {
+        requireNonNull(fieldAccessors);
+        requireNonNull(source);
+        this.fieldAccessors = fieldAccessors;
+        this.source = source;
+    }
+
+    /**
+     * Returns an index of {@code fields}, the fields a {@link QueryPlan} finds or filters {@code T} by, so that the
+     * index and the plans answered from it read each field the same way.
+     * @param source supplies the current items, used when the index has to be (re)built
+     */
+    public static <T> TokenIndex<T> of(List<QueryPlan.Field<T>> fields, Supplier<? extends Iterable<T>> source) {
+        requireNonNull(fields);
+        Map<String, Function<T, String>> fieldAccessors = new LinkedHashMap<>();
+        for (QueryPlan.Field<T> field : fields) {
+            if (!field.isRange()) {
+                fieldAccessors.put(field.getName(), field.getTextAccessor());
+            }
+        }
+        TokenIndex<T> index = new TokenIndex<>(fieldAccessors, source);
+        for (QueryPlan.Field<T> field : fields) {
+            if (field.isRange()) {
+                index.addRangeField(field.getName(), field.getLowAccessor(), field.getHighAccessor());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds a range field named {@code field}, where each item covers the integers from {@code lowAccessor}
+     * to {@code highAccessor} inclusive.
+     */
+    public void addRangeField(String field, ToIntFunction<T> lowAccessor, ToIntFunction<T> highAccessor) {
+        requireNonNull(field);
+        checkArgument(!hasField(field), "Field is already indexed: " + field);
+        RangeIndex<T> rangeIndex = new RangeIndex<>(lowAccessor, highAccessor);
+        rangeIndexes.put(field, rangeIndex);
+        if (isBuilt) {
+            source.get().forEach(rangeIndex::add);
+        }
+    }
+
+    /**
+     * Returns true if {@code field} is indexed.
+     */
+    public boolean hasField(String field) {
+        return fieldAccessors.containsKey(field) || rangeIndexes.containsKey(field);
+    }
+
+    /**
+     * Indexes {@code item}, which has just been added to the list.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        if (!isBuilt) {
+            return;
+        }
+        stamps.put(item, nextStamp++);
+        for (Map.Entry<String, Function<T, String>> field : fieldAccessors.entrySet()) {
+            Map<String, Set<T>> postings = postingsByField.computeIfAbsent(field.getKey(), unused -> new HashMap<>());
+            for (String token : tokensOf(field.getValue().apply(item))) {
+                postings.computeIfAbsent(token, unused -> newIdentitySet()).add(item);
+            }
+        }
+        for (RangeIndex<T> rangeIndex : rangeIndexes.values()) {
+            rangeIndex.add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item}, which has just been removed from the list, from the index.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        if (!isBuilt || stamps.remove(item) == null) {
+            return;
+        }
+        for (Map.Entry<String, Function<T, String>> field : fieldAccessors.entrySet()) {
+            Map<String, Set<T>> postings = postingsByField.get(field.getKey());
+            for (String token : tokensOf(field.getValue().apply(item))) {
+                Set<T> items = postings.get(token);
+                if (items != null && items.remove(item) && items.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+        for (RangeIndex<T> rangeIndex : rangeIndexes.values()) {
+            rangeIndex.remove(item);
+        }
+    }
+
+    /**
+     * Updates the index after {@code target} has been replaced with {@code editedItem} in the list.
+     */
+    public void replace(T target, T editedItem) {
+        remove(target);
+        add(editedItem);
+    }
+
+    /**
+     * Discards the index after the contents of the list have been replaced wholesale.
+     * It is rebuilt from the source on the next lookup.
+     */
+    public void invalidate() {
+        isBuilt = false;
+        postingsByField.clear();
+        rangeIndexes.values().forEach(RangeIndex::clear);
+        stamps.clear();
+    }
+
+    /**
+     * Returns the items whose {@code field} contains any of {@code keywords}, as defined by
+     * {@code StringUtil#containsWordIgnoreCase}, or for a range field, whose range contains any of them.
+     * The returned set compares items by identity and may be modified.
+     *
+     * @throws NumberFormatException if {@code field} is a range field and a keyword is not an integer.
+     */
+    public Set<T> lookupAny(String field, List<String> keywords) {
+        requireNonNull(keywords);
+        checkArgument(hasField(field), "Field is not indexed: " + field);
+        buildIfNeeded();
+
+        Set<T> matches = newIdentitySet();
+        RangeIndex<T> rangeIndex = rangeIndexes.get(field);
+        if (rangeIndex != null) {
+            for (String keyword : keywords) {
+                rangeIndex.addItemsContaining(Integer.parseInt(keyword), matches);
+            }
+            return matches;
+        }
+
+        Map<String, Set<T>> postings = postingsByField.getOrDefault(field, Collections.emptyMap());
+        for (String keyword : keywords) {
+            String preppedWord = keyword.trim();
+            checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+            matches.addAll(postings.getOrDefault(normalise(preppedWord), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the items whose field contains any of the keywords given for it, for any indexed field in
+     * {@code keywordsByField}. Fields that are not indexed are ignored.
+     */
+    public Set<T> lookupAnyField(Map<String, List<String>> keywordsByField) {
+        Set<T> matches = newIdentitySet();
+        for (Map.Entry<String, List<String>> entry : keywordsByField.entrySet()) {
+            if (hasField(entry.getKey())) {
+                matches.addAll(lookupAny(entry.getKey(), entry.getValue()));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the items whose field contains any of the keywords given for it, for every indexed field in
+     * {@code keywordsByField}. Fields that are not indexed are ignored.
+     * Returns null if none of the fields are indexed.
+     */
+    public Set<T> lookupEveryField(Map<String, List<String>> keywordsByField) {
+        Set<T> matches = null;
+        for (Map.Entry<String, List<String>> entry : keywordsByField.entrySet()) {
+            if (!hasField(entry.getKey())) {
+                continue;
+            }
+            Set<T> fieldMatches = lookupAny(entry.getKey(), entry.getValue());
+            if (matches == null) {
+                matches = fieldMatches;
+            } else if (fieldMatches.size() < matches.size()) {
+                fieldMatches.retainAll(matches);
+                matches = fieldMatches;
+            } else {
+                matches.retainAll(fieldMatches);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that accepts the items currently in the index that are in {@code matches}.
+     * Items that are indexed later, such as newly added or edited ones, are tested with {@code fallback},
+     * so that a filtered view using the returned predicate stays correct as the list changes.
+     */
+    public Predicate<T> asPredicate(Set<T> matches, Predicate<T> fallback) {
+        requireNonNull(matches);
+        requireNonNull(fallback);
+        long stamp = nextStamp;
+        return item -> {
+            Long itemStamp = stamps.get(item);
+            return itemStamp != null && itemStamp < stamp ? matches.contains(item) : fallback.test(item);
+        };
+    }
+
+    /**
+     * Returns a new, empty set that compares items by identity.
+     */
+    public static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private void buildIfNeeded() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        for (T item : source.get()) {
+            add(item);
+        }
+    }
+
+    /**
+     * Returns the keys {@code text} is indexed under: each of its whitespace separated words and the whole text.
+     */
+    private static Set<String> tokensOf(String text) {
+        Set<String> tokens = new HashSet<>();
+        tokens.add(normalise(text));
+        for (String word : text.split("\\s+")) {
+            tokens.add(normalise(word));
+        }
+        return tokens;
+    }
+
+    /**
+     * Folds the case of {@code text} the same way {@code String#equalsIgnoreCase} compares characters,
+     * so that two strings are equal ignoring case iff their normalised forms are equal.
+     */
+    private static String normalise(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads a book written by {@link BinaryBookWriter} from a file read into memory.
+ *
+ * The file starts with a header of {@value #HEADER_SIZE} bytes: a magic number, the version of the format, the type
+ * of book, the number of strings in the string table and the number of sections. The header is followed by the
+ * number of records in each section and where its index starts, then by the string table, then by each section.
+ * A section is an index of where each of its records starts, followed by the records. Every record is preceded by its
+ * length, and refers to strings by their place in the string table. All numbers are big-endian.
+ *
+ * The file is read into a buffer on the heap in one go rather than mapped, as a mapped file stays open until the
+ * mapping is garbage collected, which keeps the file from being replaced on some platforms. The string table is read
+ * once the file is opened, and a record only when it is asked for, straight from the buffer. A book may also follow
+ * other data in a file, in which case its offsets count from its own start.
+ */
+class BinaryBookReader {
+
+    static final int MAGIC = 0x52424B42;
+    static final int VERSION = 2;
+    static final int FIRST_VERSION = 1;
+    static final int HEADER_SIZE = 5 * Integer.BYTES;
+    static final int SECTION_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int version;
+    private final String[] strings;
+    private final int[] recordCounts;
+    private final int[] indexOffsets;
+    private int recordEnd;
+
+    /**
+     * Opens the book of type {@code bookType} in {@code file}.
+     *
+     * @throws DataConversionException if the file is not such a book in this or an earlier version of the format.
+     */
+    BinaryBookReader(Path file, int bookType) throws DataConversionException, IOException {
+        this(file, 0, bookType);
+    }
+
+    /**
+     * Opens the book of type {@code bookType} that starts {@code start} bytes into {@code file}.
+     *
+     * @throws DataConversionException if the file holds no such book in this or an earlier version of the format
+     *     there.
+     */
+    BinaryBookReader(Path file, long start, int bookType) throws DataConversionException, IOException {
+        requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < start || channel.size() - start > Integer.MAX_VALUE) {
+                throw formatError("File is too small or too large to hold a book: " + file);
+            }
+            buffer = ByteBuffer.allocate((int) (channel.size() - start));
+            channel.position(start);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read until the buffer is full or the file ends
+            }
+            buffer.flip();
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw formatError("Not a binary book: " + file);
+            }
+            version = buffer.getInt();
+            if (version < FIRST_VERSION || version > VERSION) {
+                throw formatError("Unsupported version " + version + " of binary book: " + file);
+            }
+            if (buffer.getInt() != bookType) {
+                throw formatError("Binary book of another type: " + file);
+            }
+            strings = new String[buffer.getInt()];
+            int sectionCount = buffer.getInt();
+            recordCounts = new int[sectionCount];
+            indexOffsets = new int[sectionCount];
+            for (int i = 0; i < sectionCount; i++) {
+                recordCounts[i] = buffer.getInt();
+                indexOffsets[i] = buffer.getInt();
+            }
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the version of the format the book was written in.
+     */
+    int getVersion() {
+        return version;
+    }
+
+    int getSectionCount() {
+        return recordCounts.length;
+    }
+
+    int getRecordCount(int section) {
+        return recordCounts[section];
+    }
+
+    /**
+     * Moves to the start of record {@code index} of {@code section}, found through the index of the section.
+     */
+    void startRecord(int section, int index) {
+        if (index < 0 || index >= recordCounts[section]) {
+            throw new IndexOutOfBoundsException("No record " + index + " in section " + section);
+        }
+        buffer.position(buffer.getInt(indexOffsets[section] + index * Integer.BYTES));
+        int length = buffer.getInt();
+        recordEnd = buffer.position() + length;
+    }
+
+    int readInt() {
+        return buffer.getInt();
+    }
+
+    long readLong() {
+        return buffer.getLong();
+    }
+
+    String readString() {
+        return strings[buffer.getInt()];
+    }
+
+    /**
+     * Checks that all of the current record has been read, and no more.
+     */
+    void endRecord() {
+        if (buffer.position() != recordEnd) {
+            throw new IllegalStateException("Record ends at " + recordEnd + " but was read to " + buffer.position());
+        }
+    }
+
+    private static DataConversionException formatError(String message) {
+        return new DataConversionException(new IllegalValueException(message));
+    }
+}
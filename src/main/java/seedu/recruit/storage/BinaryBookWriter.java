@@ -0,0 +1,147 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.recruit.commons.util.FileUtil;
+
+/**
+ * Builds a book in the binary format read by {@link BinaryBookReader} and writes it to a file.
+ *
+ * A book is made of sections, such as its companies and its job offers, each of which is a list of records. The
+ * strings in the records are written once each to a table at the start of the file and referred to by their place in
+ * it, so values shared by many records, such as genders or tags, take up little space.
+ */
+class BinaryBookWriter {
+
+    private final int bookType;
+    private final Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+    private final List<Section> sections = new ArrayList<>();
+    private Section section;
+    private ByteArrayOutputStream recordBytes;
+    private DataOutputStream record;
+
+    BinaryBookWriter(int bookType) {
+        this.bookType = bookType;
+    }
+
+    /**
+     * Starts the next section, which holds the records written until another one is started.
+     */
+    void startSection() {
+        assert record == null : "The last record must be ended first";
+        section = new Section();
+        sections.add(section);
+    }
+
+    void startRecord() {
+        assert section != null : "A section must be started first";
+        recordBytes = new ByteArrayOutputStream();
+        record = new DataOutputStream(recordBytes);
+    }
+
+    void writeInt(int value) throws IOException {
+        record.writeInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        record.writeLong(value);
+    }
+
+    void writeString(String value) throws IOException {
+        requireNonNull(value);
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = stringIndexes.size();
+            stringIndexes.put(value, index);
+        }
+        record.writeInt(index);
+    }
+
+    void endRecord() throws IOException {
+        section.recordOffsets.add(section.bytes.size());
+        section.records.writeInt(recordBytes.size());
+        recordBytes.writeTo(section.records);
+        record = null;
+    }
+
+    /**
+     * Writes the book to {@code file}, replacing it only once the whole book has been written.
+     */
+    void writeTo(Path file) throws IOException {
+        requireNonNull(file);
+        FileUtil.createParentDirsOfFile(file);
+        Path tempFile = Paths.get(file.toString() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            writeTo(out);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes the book to {@code out}.
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        assert record == null : "The last record must be ended first";
+
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        DataOutputStream stringTable = new DataOutputStream(strings);
+        for (String value : stringIndexes.keySet()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            stringTable.writeInt(bytes.length);
+            stringTable.write(bytes);
+        }
+
+        int headerSize = BinaryBookReader.HEADER_SIZE + sections.size() * BinaryBookReader.SECTION_HEADER_SIZE;
+        out.writeInt(BinaryBookReader.MAGIC);
+        out.writeInt(BinaryBookReader.VERSION);
+        out.writeInt(bookType);
+        out.writeInt(stringIndexes.size());
+        out.writeInt(sections.size());
+        int offset = headerSize + strings.size();
+        for (Section s : sections) {
+            out.writeInt(s.recordOffsets.size());
+            out.writeInt(offset);
+            offset += s.size();
+        }
+        strings.writeTo(out);
+        offset = headerSize + strings.size();
+        for (Section s : sections) {
+            int recordsOffset = offset + s.recordOffsets.size() * Integer.BYTES;
+            for (int recordOffset : s.recordOffsets) {
+                out.writeInt(recordsOffset + recordOffset);
+            }
+            s.bytes.writeTo(out);
+            offset += s.size();
+        }
+    }
+
+    /**
+     * The records of a section, with where each of them starts within the section.
+     */
+    private static class Section {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream records = new DataOutputStream(bytes);
+        private final List<Integer> recordOffsets = new ArrayList<>();
+
+        /**
+         * Returns the size of the section in the file, which is its index followed by its records.
+         */
+        private int size() {
+            return recordOffsets.size() * Integer.BYTES + bytes.size();
+        }
+    }
+}
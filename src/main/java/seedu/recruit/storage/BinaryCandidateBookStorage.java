@@ -0,0 +1,111 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.recruit.commons.core.LogsCenter;
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.exceptions.IllegalValueException;
+import seedu.recruit.model.ReadOnlyCandidateBook;
+
+/**
+ * A class to access CandidateBook data stored as a binary file on the hard disk.
+ *
+ * The book is imported from an xml file the first time it is read, if there is no binary file yet, and can be
+ * exported to that xml file again.
+ */
+public class BinaryCandidateBookStorage implements CandidateBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCandidateBookStorage.class);
+
+    private final Path filePath;
+    private final CandidateBookStorage xmlStorage;
+
+    /**
+     * Creates a storage with its data in {@code filePath}, which imports from and exports to {@code xmlStorage}.
+     */
+    public BinaryCandidateBookStorage(Path filePath, CandidateBookStorage xmlStorage) {
+        requireNonNull(filePath);
+        requireNonNull(xmlStorage);
+        this.filePath = filePath;
+        this.xmlStorage = xmlStorage;
+    }
+
+    @Override
+    public Path getCandidateBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCandidateBook> readCandidateBook() throws DataConversionException, IOException {
+        return readCandidateBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCandidateBook()}, but the book is only imported if {@code filePath} is the file of
+     * this storage.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyCandidateBook> readCandidateBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("CandidateBook file " + filePath + " not found");
+            return filePath.equals(this.filePath) ? importFromXml() : Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryFileStorage.loadCandidateBookFromSaveFile(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveCandidateBook(ReadOnlyCandidateBook candidateBook) throws IOException {
+        saveCandidateBook(candidateBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCandidateBook(ReadOnlyCandidateBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveCandidateBook(ReadOnlyCandidateBook candidateBook, Path filePath) throws IOException {
+        requireNonNull(candidateBook);
+        requireNonNull(filePath);
+        BinaryFileStorage.saveCandidateBookToFile(filePath, candidateBook);
+    }
+
+    /**
+     * Reads the book from the xml file and saves it to the binary file, returning it.
+     * Returns {@code Optional.empty()}, saving nothing, if there is no xml file.
+     */
+    public Optional<ReadOnlyCandidateBook> importFromXml() throws DataConversionException, IOException {
+        Optional<ReadOnlyCandidateBook> candidateBook = xmlStorage.readCandidateBook();
+        if (candidateBook.isPresent()) {
+            logger.info("Importing CandidateBook from " + xmlStorage.getCandidateBookFilePath());
+            saveCandidateBook(candidateBook.get());
+        }
+        return candidateBook;
+    }
+
+    /**
+     * Saves {@code candidateBook}, as last saved to this storage, to the xml file, so that the xml file can be read
+     * again if the binary format is no longer used.
+     */
+    public void exportToXml(ReadOnlyCandidateBook candidateBook) throws IOException {
+        requireNonNull(candidateBook);
+        logger.info("Exporting CandidateBook to " + xmlStorage.getCandidateBookFilePath());
+        xmlStorage.saveCandidateBook(candidateBook);
+    }
+}
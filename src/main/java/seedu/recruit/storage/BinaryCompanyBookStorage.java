@@ -0,0 +1,116 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.recruit.commons.core.LogsCenter;
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.exceptions.IllegalValueException;
+import seedu.recruit.model.ReadOnlyCandidateBook;
+import seedu.recruit.model.ReadOnlyCompanyBook;
+
+/**
+ * A class to access CompanyBook data stored as a binary file on the hard disk.
+ *
+ * The book is imported from an xml file the first time it is read, if there is no binary file yet, and can be
+ * exported to that xml file again.
+ */
+public class BinaryCompanyBookStorage implements CompanyBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCompanyBookStorage.class);
+
+    private final Path filePath;
+    private final CompanyBookStorage xmlStorage;
+
+    /**
+     * Creates a storage with its data in {@code filePath}, which imports from and exports to {@code xmlStorage}.
+     */
+    public BinaryCompanyBookStorage(Path filePath, CompanyBookStorage xmlStorage) {
+        requireNonNull(filePath);
+        requireNonNull(xmlStorage);
+        this.filePath = filePath;
+        this.xmlStorage = xmlStorage;
+    }
+
+    @Override
+    public Path getCompanyBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCompanyBook> readCompanyBook(ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException {
+        return readCompanyBook(filePath, candidateBook);
+    }
+
+    /**
+     * Similar to {@link #readCompanyBook(ReadOnlyCandidateBook)}, but the book is only imported if
+     * {@code filePath} is the file of this storage.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyCompanyBook> readCompanyBook(Path filePath, ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(candidateBook);
+
+        if (!Files.exists(filePath)) {
+            logger.info("CompanyBook file " + filePath + " not found");
+            return filePath.equals(this.filePath) ? importFromXml(candidateBook) : Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryFileStorage.loadCompanyBookFromSaveFile(filePath, candidateBook));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveCompanyBook(ReadOnlyCompanyBook companyBook) throws IOException {
+        saveCompanyBook(companyBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCompanyBook(ReadOnlyCompanyBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveCompanyBook(ReadOnlyCompanyBook companyBook, Path filePath) throws IOException {
+        requireNonNull(companyBook);
+        requireNonNull(filePath);
+        BinaryFileStorage.saveCompanyBookToFile(filePath, companyBook);
+    }
+
+    /**
+     * Reads the book from the xml file and saves it to the binary file, returning it.
+     * Returns {@code Optional.empty()}, saving nothing, if there is no xml file.
+     * @param candidateBook the book of the candidates shortlisted for the job offers in the book.
+     */
+    public Optional<ReadOnlyCompanyBook> importFromXml(ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyCompanyBook> companyBook = xmlStorage.readCompanyBook(candidateBook);
+        if (companyBook.isPresent()) {
+            logger.info("Importing CompanyBook from " + xmlStorage.getCompanyBookFilePath());
+            saveCompanyBook(companyBook.get());
+        }
+        return companyBook;
+    }
+
+    /**
+     * Saves {@code companyBook}, as last saved to this storage, to the xml file, so that the xml file can be read
+     * again if the binary format is no longer used.
+     */
+    public void exportToXml(ReadOnlyCompanyBook companyBook) throws IOException {
+        requireNonNull(companyBook);
+        logger.info("Exporting CompanyBook to " + xmlStorage.getCompanyBookFilePath());
+        xmlStorage.saveCompanyBook(companyBook);
+    }
+}
@@ -0,0 +1,279 @@
+package seedu.recruit.storage;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.exceptions.IllegalValueException;
+import seedu.recruit.model.CandidateBook;
+import seedu.recruit.model.CompanyBook;
+import seedu.recruit.model.ReadOnlyCandidateBook;
+import seedu.recruit.model.ReadOnlyCompanyBook;
+import seedu.recruit.model.candidate.Age;
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.candidate.Education;
+import seedu.recruit.model.candidate.Gender;
+import seedu.recruit.model.candidate.Name;
+import seedu.recruit.model.commons.Address;
+import seedu.recruit.model.commons.Email;
+import seedu.recruit.model.commons.Phone;
+import seedu.recruit.model.company.Company;
+import seedu.recruit.model.company.CompanyName;
+import seedu.recruit.model.joboffer.AgeRange;
+import seedu.recruit.model.joboffer.Job;
+import seedu.recruit.model.joboffer.JobOffer;
+import seedu.recruit.model.joboffer.Salary;
+import seedu.recruit.model.joboffer.Shortlist;
+import seedu.recruit.model.tag.Tag;
+
+/**
+ * Stores RecruitBook data in a binary file
+ *
+ * A candidate book has one section, of candidates. A company book has two, of companies and then of job offers,
+ * with the ids of the candidates shortlisted for a job offer written within its record. Company books of the first
+ * version of the format have a full copy of each shortlisted candidate there instead.
+ */
+public class BinaryFileStorage {
+
+    static final int CANDIDATE_BOOK = 1;
+    static final int COMPANY_BOOK = 2;
+
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+    private static final String XML_FILE_EXTENSION = ".xml";
+
+    private static final int CANDIDATE_SECTION = 0;
+    private static final int COMPANY_SECTION = 0;
+    private static final int JOB_OFFER_SECTION = 1;
+
+    /**
+     * Returns the path of the binary file kept in place of the xml file at {@code xmlFilePath}, which is the same
+     * path with its extension changed.
+     */
+    public static Path getBinaryFilePath(Path xmlFilePath) {
+        String fileName = xmlFilePath.getFileName().toString();
+        if (fileName.endsWith(XML_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - XML_FILE_EXTENSION.length());
+        }
+        return xmlFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Saves the given CandidateBook data to the specified file.
+     */
+    public static void saveCandidateBookToFile(Path path, ReadOnlyCandidateBook candidateBook) throws IOException {
+        writerFor(candidateBook).writeTo(path);
+    }
+
+    /**
+     * Returns CandidateBook in the file.
+     *
+     * @throws DataConversionException if the file is not a candidate book in the binary format.
+     * @throws IllegalValueException if there are duplicates in the file.
+     */
+    public static CandidateBook loadCandidateBookFromSaveFile(Path file) throws DataConversionException,
+            IllegalValueException, IOException {
+        return readCandidateBook(new BinaryBookReader(file, CANDIDATE_BOOK));
+    }
+
+    /**
+     * Saves the given CompanyBook data to the specified file.
+     */
+    public static void saveCompanyBookToFile(Path path, ReadOnlyCompanyBook companyBook) throws IOException {
+        writerFor(companyBook).writeTo(path);
+    }
+
+    /**
+     * Returns CompanyBook in the file, with the candidates shortlisted for its job offers taken from
+     * {@code candidateBook}.
+     *
+     * @throws DataConversionException if the file is not a company book in the binary format.
+     * @throws IllegalValueException if there are duplicates in the file.
+     */
+    public static CompanyBook loadCompanyBookFromSaveFile(Path file, ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IllegalValueException, IOException {
+        return readCompanyBook(new BinaryBookReader(file, COMPANY_BOOK), candidateBook);
+    }
+
+    /**
+     * Returns a writer holding {@code candidateBook}, ready to be written to a file.
+     */
+    static BinaryBookWriter writerFor(ReadOnlyCandidateBook candidateBook) throws IOException {
+        BinaryBookWriter writer = new BinaryBookWriter(CANDIDATE_BOOK);
+        writer.startSection();
+        for (Candidate candidate : candidateBook.getCandidateList()) {
+            writer.startRecord();
+            writeCandidate(writer, candidate);
+            writer.endRecord();
+        }
+        return writer;
+    }
+
+    /**
+     * Returns the candidate book read by {@code reader}.
+     *
+     * @throws DataConversionException if the book cannot be read.
+     * @throws IllegalValueException if there are duplicates in the book.
+     */
+    static CandidateBook readCandidateBook(BinaryBookReader reader) throws DataConversionException,
+            IllegalValueException {
+        CandidateBook candidateBook = new CandidateBook();
+        try {
+            for (int i = 0; i < reader.getRecordCount(CANDIDATE_SECTION); i++) {
+                reader.startRecord(CANDIDATE_SECTION, i);
+                Candidate candidate = readCandidate(reader);
+                reader.endRecord();
+                if (candidateBook.hasCandidate(candidate)) {
+                    throw new IllegalValueException(XmlSerializableCandidateBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                candidateBook.addCandidate(candidate);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | IllegalStateException e) {
+            throw new DataConversionException(e);
+        }
+        return candidateBook;
+    }
+
+    /**
+     * Returns a writer holding {@code companyBook}, ready to be written to a file.
+     */
+    static BinaryBookWriter writerFor(ReadOnlyCompanyBook companyBook) throws IOException {
+        BinaryBookWriter writer = new BinaryBookWriter(COMPANY_BOOK);
+        writer.startSection();
+        for (Company company : companyBook.getCompanyList()) {
+            writer.startRecord();
+            writer.writeLong(company.getId());
+            writer.writeString(company.getName().value);
+            writer.writeString(company.getAddress().value);
+            writer.writeString(company.getEmail().value);
+            writer.writeString(company.getPhone().value);
+            writer.endRecord();
+        }
+        writer.startSection();
+        for (JobOffer jobOffer : companyBook.getCompanyJobList()) {
+            writer.startRecord();
+            writer.writeLong(jobOffer.getId());
+            writer.writeString(jobOffer.getCompanyName().value);
+            writer.writeString(jobOffer.getJob().value);
+            writer.writeString(jobOffer.getGender().value);
+            writer.writeString(jobOffer.getAgeRange().value);
+            writer.writeString(jobOffer.getEducation().value);
+            writer.writeString(jobOffer.getSalary().value);
+            writer.writeInt(jobOffer.getShortlist().size());
+            for (Candidate candidate : jobOffer.getShortlist()) {
+                writer.writeLong(candidate.getId());
+            }
+            writer.endRecord();
+        }
+        return writer;
+    }
+
+    /**
+     * Returns the company book read by {@code reader}, with the candidates shortlisted for its job offers taken from
+     * {@code candidateBook}, which is only read once all companies are.
+     *
+     * @throws DataConversionException if the book cannot be read.
+     * @throws IllegalValueException if there are duplicates in the book.
+     */
+    static CompanyBook readCompanyBook(BinaryBookReader reader, ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IllegalValueException {
+        CompanyBook companyBook = new CompanyBook();
+        try {
+            for (int i = 0; i < reader.getRecordCount(COMPANY_SECTION); i++) {
+                reader.startRecord(COMPANY_SECTION, i);
+                Company company = new Company(reader.readLong(), CompanyName.of(reader.readString()),
+                        new Address(reader.readString()), new Email(reader.readString()),
+                        new Phone(reader.readString()));
+                reader.endRecord();
+                if (companyBook.hasCompany(company)) {
+                    throw new IllegalValueException(XmlSerializableCompanyBook.MESSAGE_DUPLICATE_COMPANY);
+                }
+                companyBook.addCompany(company);
+            }
+            ShortlistResolver shortlistResolver = new ShortlistResolver(candidateBook);
+            for (int i = 0; i < reader.getRecordCount(JOB_OFFER_SECTION); i++) {
+                reader.startRecord(JOB_OFFER_SECTION, i);
+                JobOffer jobOffer = readJobOffer(reader, shortlistResolver);
+                reader.endRecord();
+                if (companyBook.hasJobOffer(jobOffer)) {
+                    throw new IllegalValueException(XmlSerializableCompanyBook.MESSAGE_DUPLICATE_JOB_OFFERS);
+                }
+                companyBook.addJobOffer(jobOffer);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | IllegalStateException e) {
+            throw new DataConversionException(e);
+        }
+        return companyBook;
+    }
+
+    private static void writeCandidate(BinaryBookWriter writer, Candidate candidate) throws IOException {
+        writer.writeLong(candidate.getId());
+        writer.writeString(candidate.getName().fullName);
+        writer.writeString(candidate.getGender().value);
+        writer.writeString(candidate.getAge().value);
+        writer.writeString(candidate.getPhone().value);
+        writer.writeString(candidate.getEmail().value);
+        writer.writeString(candidate.getAddress().value);
+        writer.writeString(candidate.getDesiredJob().value);
+        writer.writeString(candidate.getEducation().value);
+        writer.writeString(candidate.getExpectedSalary().value);
+        writer.writeInt(candidate.getTags().size());
+        for (Tag tag : candidate.getTags()) {
+            writer.writeString(tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a candidate written by {@link #writeCandidate}, checking its fields as the model does.
+     */
+    private static Candidate readCandidate(BinaryBookReader reader) {
+        long id = reader.readLong();
+        Name name = new Name(reader.readString());
+        Gender gender = Gender.of(reader.readString());
+        Age age = new Age(reader.readString());
+        Phone phone = new Phone(reader.readString());
+        Email email = new Email(reader.readString());
+        Address address = new Address(reader.readString());
+        Job job = Job.of(reader.readString());
+        Education education = Education.of(reader.readString());
+        Salary salary = Salary.of(reader.readString());
+        int tagCount = reader.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of(reader.readString()));
+        }
+        return new Candidate(id, name, gender, age, phone, email, address, job, education, salary, tags);
+    }
+
+    private static JobOffer readJobOffer(BinaryBookReader reader, ShortlistResolver shortlistResolver) {
+        long id = reader.readLong();
+        CompanyName companyName = CompanyName.of(reader.readString());
+        Job job = Job.of(reader.readString());
+        Gender gender = Gender.of(reader.readString());
+        AgeRange ageRange = new AgeRange(reader.readString());
+        Education education = Education.of(reader.readString());
+        Salary salary = Salary.of(reader.readString());
+        int candidateCount = reader.readInt();
+        Shortlist shortlist;
+        if (reader.getVersion() == BinaryBookReader.FIRST_VERSION) {
+            List<Candidate> savedCandidates = new ArrayList<>();
+            for (int i = 0; i < candidateCount; i++) {
+                savedCandidates.add(readCandidate(reader));
+            }
+            shortlist = shortlistResolver.resolveCopies(savedCandidates);
+        } else {
+            List<Long> candidateIds = new ArrayList<>();
+            for (int i = 0; i < candidateCount; i++) {
+                candidateIds.add(reader.readLong());
+            }
+            shortlist = shortlistResolver.resolveIds(candidateIds);
+        }
+        return new JobOffer(id, companyName, job, gender, ageRange, education, salary, shortlist);
+    }
+}
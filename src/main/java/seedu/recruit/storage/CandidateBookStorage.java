@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.util.FileUtil;
 import seedu.recruit.model.CandidateBook;
 import seedu.recruit.model.ReadOnlyCandidateBook;
 
@@ -43,4 +44,13 @@ public interface CandidateBookStorage {
      */
     void saveCandidateBook(ReadOnlyCandidateBook candidateBook, Path filePath) throws IOException;
 
+    /**
+     * Returns a checksum of the book saved at {@code filePath}, which changes whenever the saved book does.
+     * By default the CRC32 checksum of the contents of the file.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default long getCandidateBookChecksum(Path filePath) throws IOException {
+        return FileUtil.getChecksum(filePath);
+    }
+
 }
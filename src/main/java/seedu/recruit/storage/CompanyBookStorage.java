@@ -5,7 +5,9 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.util.FileUtil;
 import seedu.recruit.model.CompanyBook;
+import seedu.recruit.model.ReadOnlyCandidateBook;
 import seedu.recruit.model.ReadOnlyCompanyBook;
 
 /**
@@ -19,17 +21,20 @@ public interface CompanyBookStorage {
     Path getCompanyBookFilePath();
 
     /**
-     * Returns CompanyBook data as a {@link ReadOnlyCompanyBook}.
+     * Returns CompanyBook data as a {@link ReadOnlyCompanyBook}, with the candidates shortlisted for its job offers
+     * taken from {@code candidateBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException if there was any problem when reading from the storage.
      */
-    Optional<ReadOnlyCompanyBook> readCompanyBook() throws DataConversionException, IOException;
+    Optional<ReadOnlyCompanyBook> readCompanyBook(ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException;
 
     /**
      * @see #getCompanyBookFilePath()
      */
-    Optional<ReadOnlyCompanyBook> readCompanyBook(Path filePath) throws DataConversionException, IOException;
+    Optional<ReadOnlyCompanyBook> readCompanyBook(Path filePath, ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException;
 
     /**
      * Saves the given {@link ReadOnlyCompanyBook} to the storage.
@@ -43,4 +48,13 @@ public interface CompanyBookStorage {
      */
     void saveCompanyBook(ReadOnlyCompanyBook companyBook, Path filePath) throws IOException;
 
+    /**
+     * Returns a checksum of the book saved at {@code filePath}, which changes whenever the saved book does.
+     * By default the CRC32 checksum of the contents of the file.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default long getCompanyBookChecksum(Path filePath) throws IOException {
+        return FileUtil.getChecksum(filePath);
+    }
+
 }
@@ -0,0 +1,152 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.recruit.commons.util.FileUtil;
+
+/**
+ * A file of text records, one per line, that is only ever appended to or emptied.
+ *
+ * Each batch of records is written with a single synchronised write, so that it is on the disk once
+ * {@link #append(List)} returns. A record is only complete once its line ends, so a record cut short by a crash
+ * is left out when the file is read back.
+ *
+ * A checkpoint is a record holding the checksum of a full copy of the book. The file starts with one for the copy
+ * the records after it were made on top of, and one is appended once a new copy holding every record has been
+ * saved, before the file is emptied. A crash before the file is emptied leaves it started for an older copy or
+ * ending with a checkpoint for the new one, either of which tells that the new copy already has every record.
+ */
+public class JournalFile {
+
+    private static final String CHECKPOINT_PREFIX = "@ ";
+
+    private final Path filePath;
+    private int recordCount;
+
+    public JournalFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of records appended since the file was last read or emptied.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the complete records in the file, in the order they were appended, or none if there is no file.
+     */
+    public List<String> read() throws IOException {
+        List<String> records = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            recordCount = 0;
+            return records;
+        }
+
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        int start = 0;
+        for (int end = content.indexOf('\n'); end >= 0; end = content.indexOf('\n', start)) {
+            records.add(content.substring(start, end));
+            start = end + 1;
+        }
+        recordCount = records.size();
+        return records;
+    }
+
+    /**
+     * Returns the records of {@code records} to replay onto the full copy of the book with checksum
+     * {@code copyChecksum}: those after the last checkpoint for the copy, none if there are checkpoints but none for
+     * the copy, or every record if there are no checkpoints.
+     */
+    public static List<String> recordsToReplay(List<String> records, long copyChecksum) {
+        requireNonNull(records);
+        String copyCheckpoint = checkpoint(copyChecksum);
+        List<String> recordsToReplay = new ArrayList<>();
+        boolean hasCheckpoint = false;
+        boolean isCopyFound = false;
+        for (String record : records) {
+            if (!isCheckpoint(record)) {
+                recordsToReplay.add(record);
+                continue;
+            }
+            hasCheckpoint = true;
+            if (record.equals(copyCheckpoint)) {
+                isCopyFound = true;
+                recordsToReplay.clear();
+            }
+        }
+        return hasCheckpoint && !isCopyFound ? Collections.emptyList() : recordsToReplay;
+    }
+
+    /**
+     * Appends {@code records}, none of which may contain a line break, made on top of the full copy of the book with
+     * checksum {@code copyChecksum}. An empty file is started with a checkpoint for the copy.
+     */
+    public void append(long copyChecksum, List<String> records) throws IOException {
+        requireNonNull(records);
+        if (records.isEmpty()) {
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        if (recordCount == 0) {
+            lines.add(checkpoint(copyChecksum));
+        }
+        lines.addAll(records);
+        writeLines(lines);
+    }
+
+    /**
+     * Appends a checkpoint for the full copy of the book with checksum {@code copyChecksum}, which has just been
+     * saved with every record appended before it.
+     */
+    public void appendCheckpoint(long copyChecksum) throws IOException {
+        writeLines(Collections.singletonList(checkpoint(copyChecksum)));
+    }
+
+    /**
+     * Removes every record.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+        recordCount = 0;
+    }
+
+    private void writeLines(List<String> lines) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String record : lines) {
+            assert record.indexOf('\n') < 0 : "A record must fit on one line";
+            content.append(record).append('\n');
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        try (OutputStream out = Files.newOutputStream(filePath, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+            out.write(content.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        recordCount += lines.size();
+    }
+
+    private static String checkpoint(long checksum) {
+        return CHECKPOINT_PREFIX + Long.toHexString(checksum);
+    }
+
+    private static boolean isCheckpoint(String record) {
+        return record.startsWith(CHECKPOINT_PREFIX);
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import seedu.recruit.commons.exceptions.IllegalValueException;
+
+/**
+ * The journal records of one list in a book, such as the candidates or the job offers.
+ *
+ * A list changes in the ways a unique list of the model changes it: items are appended, replaced in place or
+ * removed, and every item keeps its id across edits. The changes since the list was last saved can then be written
+ * as one record per item that was put, meaning appended or replaced, and one per item that was removed. Records are
+ * told apart by the tag of their section, followed by {@value #PUT} or {@value #REMOVE}, a space and either the
+ * item or its id.
+ */
+class JournalSection<E> {
+
+    static final char PUT = '+';
+    static final char REMOVE = '-';
+
+    private final char tag;
+    private final ToLongFunction<E> idOf;
+    private Map<Long, E> savedItems;
+
+    JournalSection(char tag, ToLongFunction<E> idOf) {
+        requireNonNull(idOf);
+        this.tag = tag;
+        this.idOf = idOf;
+    }
+
+    /**
+     * Turns an item read back from a record into a model object.
+     */
+    @FunctionalInterface
+    interface Decoder<E> {
+        E decode(String encodedItem) throws IllegalValueException;
+    }
+
+    /**
+     * Remembers {@code items} as the list that was last saved, so that later changes to it can be found.
+     */
+    void markSaved(List<? extends E> items) {
+        savedItems = new LinkedHashMap<>();
+        for (E item : items) {
+            savedItems.put(idOf.applyAsLong(item), item);
+        }
+    }
+
+    /**
+     * Returns the records that turn the list last saved into {@code items}, with each item written by
+     * {@code encoder}, or null if the change cannot be written as records. That is the case if no list has been
+     * saved yet or the items have been reordered, such as by an undo that puts a deleted item back in place.
+     * Items are compared with those last saved by identity, so an item counts as changed if it has been replaced.
+     */
+    List<String> recordsFor(List<? extends E> items, Function<? super E, String> encoder) {
+        if (savedItems == null) {
+            return null;
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (E item : items) {
+            ids.add(idOf.applyAsLong(item));
+        }
+        List<String> records = new ArrayList<>();
+        for (Long savedId : savedItems.keySet()) {
+            if (!ids.contains(savedId)) {
+                records.add(record(REMOVE, savedId.toString()));
+            }
+        }
+
+        // items kept from the saved list must come first and in the same order, followed by the appended ones
+        Iterator<Long> savedIds = savedItems.keySet().iterator();
+        boolean isAppending = false;
+        for (E item : items) {
+            long id = idOf.applyAsLong(item);
+            E savedItem = savedItems.get(id);
+            if (savedItem == null) {
+                isAppending = true;
+                records.add(record(PUT, encoder.apply(item)));
+                continue;
+            }
+            Long keptId = nextKeptId(savedIds, ids);
+            if (isAppending || keptId == null || keptId != id) {
+                return null;
+            }
+            if (savedItem != item) {
+                records.add(record(PUT, encoder.apply(item)));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Applies {@code record} to {@code items}, which are keyed by id in list order, if the record is of this
+     * section. Returns false, leaving {@code items} unchanged, if it is not.
+     *
+     * @throws IllegalValueException if the record is of this section but cannot be read.
+     */
+    boolean replay(String record, Map<Long, E> items, Decoder<E> decoder) throws IllegalValueException {
+        if (record.length() < 3 || record.charAt(0) != tag) {
+            return false;
+        }
+
+        String content = record.substring(3);
+        switch (record.charAt(1)) {
+        case PUT:
+            E item = decoder.decode(content);
+            items.put(idOf.applyAsLong(item), item);
+            return true;
+        case REMOVE:
+            try {
+                items.remove(Long.parseLong(content));
+            } catch (NumberFormatException nfe) {
+                throw new IllegalValueException("Invalid id in journal record: " + content, nfe);
+            }
+            return true;
+        default:
+            throw new IllegalValueException("Unknown journal record: " + record);
+        }
+    }
+
+    private String record(char operation, String content) {
+        return tag + String.valueOf(operation) + ' ' + content;
+    }
+
+    private static Long nextKeptId(Iterator<Long> savedIds, Set<Long> ids) {
+        while (savedIds.hasNext()) {
+            Long savedId = savedIds.next();
+            if (ids.contains(savedId)) {
+                return savedId;
+            }
+        }
+        return null;
+    }
+}
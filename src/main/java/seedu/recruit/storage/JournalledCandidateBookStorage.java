@@ -0,0 +1,184 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.recruit.commons.core.LogsCenter;
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.exceptions.IllegalValueException;
+import seedu.recruit.commons.util.XmlUtil;
+import seedu.recruit.model.CandidateBook;
+import seedu.recruit.model.ReadOnlyCandidateBook;
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.candidate.exceptions.DuplicateCandidateException;
+
+/**
+ * A {@code CandidateBookStorage} that saves each change to the candidate book as records appended to a journal,
+ * kept next to a full copy of the book saved by another {@code CandidateBookStorage}.
+ *
+ * A full copy is saved instead of records the first time the book is saved after it is read, when a change is
+ * larger than half the book and when the journal grows beyond {@value #MAX_JOURNAL_RECORDS} records, after which
+ * the journal is emptied. Reading the book reads the full copy and replays the journal on top of it. The journal
+ * holds checkpoints with the checksum of the full copy its records were made on top of and of the copy saved after
+ * them, as found by the other storage while saving the copy, so that after a crash between saving a new copy and
+ * emptying the journal, the journal is found to be older than the copy and is not replayed onto it, which could undo
+ * later changes or delete a candidate that was put back. {@link #compact} saves a full copy holding every change on
+ * its own, for when the book is next read without the journal.
+ */
+public class JournalledCandidateBookStorage implements CandidateBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    static final int MAX_JOURNAL_RECORDS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalledCandidateBookStorage.class);
+    private static final char CANDIDATE_RECORD_TAG = 'c';
+
+    private final CandidateBookStorage bookStorage;
+    private final JournalFile journal;
+    private final JournalSection<Candidate> candidates = new JournalSection<>(CANDIDATE_RECORD_TAG,
+            Candidate::getId);
+    private long copyChecksum;
+
+    public JournalledCandidateBookStorage(CandidateBookStorage bookStorage) {
+        requireNonNull(bookStorage);
+        this.bookStorage = bookStorage;
+        this.journal = new JournalFile(getJournalFilePath(bookStorage.getCandidateBookFilePath()));
+    }
+
+    /**
+     * Returns the path of the journal kept next to the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getCandidateBookFilePath() {
+        return bookStorage.getCandidateBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyCandidateBook> readCandidateBook() throws DataConversionException, IOException {
+        return readCandidateBook(getCandidateBookFilePath());
+    }
+
+    /**
+     * Reads the book at {@code filePath} with the journal replayed on top of it, if it is the file of this storage.
+     */
+    @Override
+    public Optional<ReadOnlyCandidateBook> readCandidateBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyCandidateBook> savedBook = bookStorage.readCandidateBook(filePath);
+        if (!filePath.equals(getCandidateBookFilePath()) || !savedBook.isPresent()) {
+            return savedBook;
+        }
+
+        List<String> journalRecords = journal.read();
+        if (journalRecords.isEmpty()) {
+            return savedBook;
+        }
+        List<String> records = JournalFile.recordsToReplay(journalRecords,
+                bookStorage.getCandidateBookChecksum(filePath));
+        if (records.isEmpty()) {
+            return savedBook;
+        }
+        logger.fine("Replaying " + records.size() + " records from " + journal.getFilePath());
+        Map<Long, Candidate> candidatesById = new LinkedHashMap<>();
+        for (Candidate candidate : savedBook.get().getCandidateList()) {
+            candidatesById.put(candidate.getId(), candidate);
+        }
+        try {
+            for (String record : records) {
+                if (!candidates.replay(record, candidatesById, JournalledCandidateBookStorage::decode)) {
+                    throw new IllegalValueException("Unknown journal record: " + record);
+                }
+            }
+            CandidateBook candidateBook = new CandidateBook();
+            candidateBook.setCandidates(new ArrayList<>(candidatesById.values()));
+            return Optional.of(candidateBook);
+        } catch (IllegalValueException | DuplicateCandidateException e) {
+            logger.info("Illegal values found in " + journal.getFilePath() + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveCandidateBook(ReadOnlyCandidateBook candidateBook) throws IOException {
+        saveCandidateBook(candidateBook, getCandidateBookFilePath());
+    }
+
+    /**
+     * Saves the changes to {@code candidateBook} since it was last saved to the journal, if {@code filePath} is the
+     * file of this storage, or the whole book to {@code filePath} if not.
+     */
+    @Override
+    public void saveCandidateBook(ReadOnlyCandidateBook candidateBook, Path filePath) throws IOException {
+        requireNonNull(candidateBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getCandidateBookFilePath())) {
+            bookStorage.saveCandidateBook(candidateBook, filePath);
+            return;
+        }
+
+        List<Candidate> candidateList = candidateBook.getCandidateList();
+        List<String> records = candidates.recordsFor(candidateList, JournalledCandidateBookStorage::encode);
+        if (records == null || records.size() > candidateList.size() / 2
+                || journal.getRecordCount() + records.size() > MAX_JOURNAL_RECORDS) {
+            saveFullCopy(candidateBook);
+        } else {
+            journal.append(copyChecksum, records);
+            candidates.markSaved(candidateList);
+        }
+    }
+
+    /**
+     * Saves the whole of {@code candidateBook} and empties the journal, if the journal has any records, so that the
+     * full copy holds every change on its own. Called when the app stops, as the book may next be read without the
+     * journal.
+     */
+    public void compact(ReadOnlyCandidateBook candidateBook) throws IOException {
+        requireNonNull(candidateBook);
+        if (journal.getRecordCount() > 0) {
+            saveFullCopy(candidateBook);
+        }
+    }
+
+    private void saveFullCopy(ReadOnlyCandidateBook candidateBook) throws IOException {
+        Path filePath = getCandidateBookFilePath();
+        bookStorage.saveCandidateBook(candidateBook, filePath);
+        copyChecksum = bookStorage.getCandidateBookChecksum(filePath);
+        if (journal.getRecordCount() > 0) {
+            journal.appendCheckpoint(copyChecksum);
+            journal.clear();
+        }
+        candidates.markSaved(candidateBook.getCandidateList());
+    }
+
+    private static String encode(Candidate candidate) {
+        try {
+            return XmlUtil.toXmlLine(new XmlAdaptedCandidate(candidate), XmlAdaptedCandidate.class, "candidates");
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    private static Candidate decode(String line) throws IllegalValueException {
+        try {
+            return XmlUtil.fromXmlLine(line, XmlAdaptedCandidate.class).toModelType();
+        } catch (JAXBException e) {
+            throw new IllegalValueException("Unreadable journal record: " + line, e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.recruit.commons.core.LogsCenter;
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.exceptions.IllegalValueException;
+import seedu.recruit.commons.util.XmlUtil;
+import seedu.recruit.model.CompanyBook;
+import seedu.recruit.model.ReadOnlyCandidateBook;
+import seedu.recruit.model.ReadOnlyCompanyBook;
+import seedu.recruit.model.company.Company;
+import seedu.recruit.model.company.exceptions.DuplicateCompanyException;
+import seedu.recruit.model.joboffer.JobOffer;
+import seedu.recruit.model.joboffer.exceptions.DuplicateJobException;
+
+/**
+ * A {@code CompanyBookStorage} that saves each change to the company book as records appended to a journal,
+ * kept next to a full copy of the book saved by another {@code CompanyBookStorage}.
+ * Companies and job offers are journalled alike. See {@link JournalledCandidateBookStorage} for when a full copy
+ * is saved instead and how a journal older than the copy is told apart.
+ */
+public class JournalledCompanyBookStorage implements CompanyBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalledCompanyBookStorage.class);
+    private static final char COMPANY_RECORD_TAG = 'c';
+    private static final char JOB_OFFER_RECORD_TAG = 'j';
+
+    private final CompanyBookStorage bookStorage;
+    private final JournalFile journal;
+    private final JournalSection<Company> companies = new JournalSection<>(COMPANY_RECORD_TAG, Company::getId);
+    private final JournalSection<JobOffer> jobOffers = new JournalSection<>(JOB_OFFER_RECORD_TAG, JobOffer::getId);
+    private long copyChecksum;
+
+    public JournalledCompanyBookStorage(CompanyBookStorage bookStorage) {
+        requireNonNull(bookStorage);
+        this.bookStorage = bookStorage;
+        this.journal = new JournalFile(
+                JournalledCandidateBookStorage.getJournalFilePath(bookStorage.getCompanyBookFilePath()));
+    }
+
+    @Override
+    public Path getCompanyBookFilePath() {
+        return bookStorage.getCompanyBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyCompanyBook> readCompanyBook(ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException {
+        return readCompanyBook(getCompanyBookFilePath(), candidateBook);
+    }
+
+    /**
+     * Reads the book at {@code filePath} with the journal replayed on top of it, if it is the file of this storage.
+     */
+    @Override
+    public Optional<ReadOnlyCompanyBook> readCompanyBook(Path filePath, ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyCompanyBook> savedBook = bookStorage.readCompanyBook(filePath, candidateBook);
+        if (!filePath.equals(getCompanyBookFilePath()) || !savedBook.isPresent()) {
+            return savedBook;
+        }
+
+        List<String> journalRecords = journal.read();
+        if (journalRecords.isEmpty()) {
+            return savedBook;
+        }
+        List<String> records = JournalFile.recordsToReplay(journalRecords,
+                bookStorage.getCompanyBookChecksum(filePath));
+        if (records.isEmpty()) {
+            return savedBook;
+        }
+        logger.fine("Replaying " + records.size() + " records from " + journal.getFilePath());
+        Map<Long, Company> companiesById = new LinkedHashMap<>();
+        for (Company company : savedBook.get().getCompanyList()) {
+            companiesById.put(company.getId(), company);
+        }
+        Map<Long, JobOffer> jobOffersById = new LinkedHashMap<>();
+        for (JobOffer jobOffer : savedBook.get().getCompanyJobList()) {
+            jobOffersById.put(jobOffer.getId(), jobOffer);
+        }
+        ShortlistResolver shortlistResolver = new ShortlistResolver(candidateBook);
+        try {
+            for (String record : records) {
+                if (!companies.replay(record, companiesById, JournalledCompanyBookStorage::decodeCompany)
+                        && !jobOffers.replay(record, jobOffersById, line -> decodeJobOffer(line, shortlistResolver))) {
+                    throw new IllegalValueException("Unknown journal record: " + record);
+                }
+            }
+            CompanyBook companyBook = new CompanyBook();
+            companyBook.setCompanyList(new ArrayList<>(companiesById.values()));
+            companyBook.setCompanyJobList(new ArrayList<>(jobOffersById.values()));
+            return Optional.of(companyBook);
+        } catch (IllegalValueException | DuplicateCompanyException | DuplicateJobException e) {
+            logger.info("Illegal values found in " + journal.getFilePath() + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveCompanyBook(ReadOnlyCompanyBook companyBook) throws IOException {
+        saveCompanyBook(companyBook, getCompanyBookFilePath());
+    }
+
+    /**
+     * Saves the changes to {@code companyBook} since it was last saved to the journal, if {@code filePath} is the
+     * file of this storage, or the whole book to {@code filePath} if not.
+     */
+    @Override
+    public void saveCompanyBook(ReadOnlyCompanyBook companyBook, Path filePath) throws IOException {
+        requireNonNull(companyBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getCompanyBookFilePath())) {
+            bookStorage.saveCompanyBook(companyBook, filePath);
+            return;
+        }
+
+        List<Company> companyList = companyBook.getCompanyList();
+        List<JobOffer> jobOfferList = companyBook.getCompanyJobList();
+        List<String> companyRecords = companies.recordsFor(companyList, JournalledCompanyBookStorage::encode);
+        List<String> jobOfferRecords = jobOffers.recordsFor(jobOfferList, JournalledCompanyBookStorage::encode);
+        if (companyRecords == null || jobOfferRecords == null
+                || companyRecords.size() + jobOfferRecords.size() > (companyList.size() + jobOfferList.size()) / 2
+                || journal.getRecordCount() + companyRecords.size() + jobOfferRecords.size()
+                        > JournalledCandidateBookStorage.MAX_JOURNAL_RECORDS) {
+            saveFullCopy(companyBook);
+        } else {
+            List<String> records = new ArrayList<>(companyRecords);
+            records.addAll(jobOfferRecords);
+            journal.append(copyChecksum, records);
+            companies.markSaved(companyList);
+            jobOffers.markSaved(jobOfferList);
+        }
+    }
+
+    /**
+     * Saves the whole of {@code companyBook} and empties the journal, if the journal has any records.
+     * See {@link JournalledCandidateBookStorage#compact}.
+     */
+    public void compact(ReadOnlyCompanyBook companyBook) throws IOException {
+        requireNonNull(companyBook);
+        if (journal.getRecordCount() > 0) {
+            saveFullCopy(companyBook);
+        }
+    }
+
+    private void saveFullCopy(ReadOnlyCompanyBook companyBook) throws IOException {
+        Path filePath = getCompanyBookFilePath();
+        bookStorage.saveCompanyBook(companyBook, filePath);
+        copyChecksum = bookStorage.getCompanyBookChecksum(filePath);
+        if (journal.getRecordCount() > 0) {
+            journal.appendCheckpoint(copyChecksum);
+            journal.clear();
+        }
+        companies.markSaved(companyBook.getCompanyList());
+        jobOffers.markSaved(companyBook.getCompanyJobList());
+    }
+
+    private static String encode(Company company) {
+        try {
+            return XmlUtil.toXmlLine(new XmlAdaptedCompany(company), XmlAdaptedCompany.class, "companies");
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    private static String encode(JobOffer jobOffer) {
+        try {
+            return XmlUtil.toXmlLine(new XmlAdaptedJobOffer(jobOffer), XmlAdaptedJobOffer.class, "jobList");
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    private static Company decodeCompany(String line) throws IllegalValueException {
+        try {
+            return XmlUtil.fromXmlLine(line, XmlAdaptedCompany.class).toModelType();
+        } catch (JAXBException e) {
+            throw new IllegalValueException("Unreadable journal record: " + line, e);
+        }
+    }
+
+    private static JobOffer decodeJobOffer(String line, ShortlistResolver shortlistResolver)
+            throws IllegalValueException {
+        try {
+            return XmlUtil.fromXmlLine(line, XmlAdaptedJobOffer.class).toModelType(shortlistResolver);
+        } catch (JAXBException e) {
+            throw new IllegalValueException("Unreadable journal record: " + line, e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.recruit.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts items read from storage into the model on all cores, while passing the converted items on one at a time
+ * in the order they were read.
+ *
+ * Items are converted a batch at a time. An item that cannot be converted is reported when its turn comes, after all
+ * items before it have been passed on, so a book is built, and fails, just as it would if its items were converted
+ * one by one.
+ */
+class ParallelConverter<S, T> {
+
+    static final int BATCH_SIZE = 1024;
+
+    private final Conversion<S, T> conversion;
+    private final Sink<T> sink;
+    private final List<S> batch = new ArrayList<>();
+
+    /**
+     * Creates a converter that converts items with {@code conversion} and passes them on to {@code sink}.
+     */
+    ParallelConverter(Conversion<S, T> conversion, Sink<T> sink) {
+        requireNonNull(conversion);
+        requireNonNull(sink);
+        this.conversion = conversion;
+        this.sink = sink;
+    }
+
+    /**
+     * Converts {@code items}, passing each on to {@code sink} in turn.
+     */
+    static <S, T> void convertAll(List<S> items, Conversion<S, T> conversion, Sink<T> sink)
+            throws IllegalValueException {
+        ParallelConverter<S, T> converter = new ParallelConverter<>(conversion, sink);
+        for (S item : items) {
+            converter.add(item);
+        }
+        converter.flush();
+    }
+
+    /**
+     * Adds {@code item} to be converted, converting the items added so far once there is a full batch of them.
+     */
+    void add(S item) throws IllegalValueException {
+        requireNonNull(item);
+        batch.add(item);
+        if (batch.size() >= BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Converts the items added since the last flush and passes them on.
+     *
+     * @throws IllegalValueException if an item cannot be converted or is not accepted, as thrown for the first such
+     *     item.
+     */
+    void flush() throws IllegalValueException {
+        List<T> results = new ArrayList<>(Collections.nCopies(batch.size(), null));
+        List<Exception> errors = new ArrayList<>(Collections.nCopies(batch.size(), null));
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            try {
+                results.set(i, conversion.convert(batch.get(i)));
+            } catch (IllegalValueException | RuntimeException e) {
+                errors.set(i, e);
+            }
+        });
+        batch.clear();
+
+        for (int i = 0; i < results.size(); i++) {
+            Exception error = errors.get(i);
+            if (error instanceof IllegalValueException) {
+                throw (IllegalValueException) error;
+            } else if (error != null) {
+                throw (RuntimeException) error;
+            }
+            sink.accept(results.get(i));
+        }
+    }
+
+    /**
+     * Converts an item read from storage into the model. Called on several threads at once.
+     */
+    @FunctionalInterface
+    interface Conversion<S, T> {
+        T convert(S item) throws IllegalValueException;
+    }
+
+    /**
+     * Takes the converted items, one at a time and in order.
+     */
+    @FunctionalInterface
+    interface Sink<T> {
+        void accept(T item) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,305 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.recruit.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.recruit.commons.core.LogsCenter;
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.exceptions.IllegalValueException;
+import seedu.recruit.commons.util.FileUtil;
+import seedu.recruit.commons.util.XmlUtil;
+import seedu.recruit.model.CandidateBook;
+import seedu.recruit.model.ReadOnlyCandidateBook;
+import seedu.recruit.model.candidate.Candidate;
+
+/**
+ * A class to access CandidateBook data split over several xml files on the hard disk, so that saving a change only
+ * rewrites the files holding the candidates that changed.
+ *
+ * Each candidate is kept in one of a fixed number of segment files, chosen by its id, which a candidate keeps across
+ * edits. The segments are kept next to a manifest holding the number of segments and the order of the candidates in
+ * the book, which is only rewritten when candidates are added, removed or reordered. Segments are written before the
+ * manifest. A candidate found in a segment but not in the manifest is put at the end of the book, and one in the
+ * manifest but in no segment is left out, so a save that is cut short loses no more than the changes it was saving.
+ *
+ * The book is imported from an xml file the first time it is read, if there is no manifest yet, and can be exported
+ * back to it so that the xml file is up to date if the segments are no longer used.
+ */
+public class ShardedCandidateBookStorage implements CandidateBookStorage {
+
+    public static final String MESSAGE_SEGMENT_COUNT_CONSTRAINTS = "The number of segments must be positive";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedCandidateBookStorage.class);
+    private static final String SEGMENT_DIRECTORY_EXTENSION = ".segments";
+    private static final String XML_FILE_EXTENSION = ".xml";
+    private static final String MANIFEST_FILE_NAME = "manifest.xml";
+    private static final String SEGMENT_FILE_NAME_FORMAT = "segment-%d.xml";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    private final Path manifestFilePath;
+    private final int segmentCount;
+    private final CandidateBookStorage xmlStorage;
+    // the candidates last read from or saved to the manifest of this storage, by id in the order of the book
+    private Map<Long, Candidate> savedCandidates;
+
+    /**
+     * Creates a storage with its manifest at {@code manifestFilePath}, which spreads the candidates over
+     * {@code segmentCount} segments and imports from {@code xmlStorage}.
+     */
+    public ShardedCandidateBookStorage(Path manifestFilePath, int segmentCount, CandidateBookStorage xmlStorage) {
+        requireNonNull(manifestFilePath);
+        requireNonNull(xmlStorage);
+        checkArgument(segmentCount > 0, MESSAGE_SEGMENT_COUNT_CONSTRAINTS);
+        this.manifestFilePath = manifestFilePath;
+        this.segmentCount = segmentCount;
+        this.xmlStorage = xmlStorage;
+    }
+
+    /**
+     * Returns the path of the manifest kept in place of the xml file at {@code xmlFilePath}, in a directory next to
+     * it named after the file.
+     */
+    public static Path getManifestFilePath(Path xmlFilePath) {
+        String fileName = xmlFilePath.getFileName().toString();
+        if (fileName.endsWith(XML_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - XML_FILE_EXTENSION.length());
+        }
+        return xmlFilePath.resolveSibling(fileName + SEGMENT_DIRECTORY_EXTENSION).resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the path of segment {@code segment} of the book with its manifest at {@code manifestFilePath}.
+     */
+    static Path getSegmentFilePath(Path manifestFilePath, int segment) {
+        return manifestFilePath.resolveSibling(String.format(SEGMENT_FILE_NAME_FORMAT, segment));
+    }
+
+    @Override
+    public Path getCandidateBookFilePath() {
+        return manifestFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCandidateBook> readCandidateBook() throws DataConversionException, IOException {
+        return readCandidateBook(manifestFilePath);
+    }
+
+    /**
+     * Similar to {@link #readCandidateBook()}, but the book is only imported if {@code filePath} is the manifest of
+     * this storage.
+     * @param filePath location of the manifest. Cannot be null
+     * @throws DataConversionException if the manifest or a segment is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyCandidateBook> readCandidateBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("CandidateBook manifest " + filePath + " not found");
+            return filePath.equals(manifestFilePath) ? importFromXml() : Optional.empty();
+        }
+
+        XmlSerializableSegmentManifest manifest;
+        try {
+            manifest = XmlUtil.getDataFromFile(filePath, XmlSerializableSegmentManifest.class);
+        } catch (JAXBException e) {
+            logger.info("Manifest " + filePath + " is not in the correct format: " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        try {
+            if (manifest.getSegmentCount() <= 0) {
+                throw new IllegalValueException(MESSAGE_SEGMENT_COUNT_CONSTRAINTS);
+            }
+            Map<Long, Candidate> segmentCandidates = new LinkedHashMap<>();
+            for (int segment = 0; segment < manifest.getSegmentCount(); segment++) {
+                Path segmentFilePath = getSegmentFilePath(filePath, segment);
+                if (!Files.exists(segmentFilePath)) {
+                    continue;
+                }
+                for (Candidate candidate
+                        : XmlFileStorage.loadCandidateBookFromSaveFile(segmentFilePath).getCandidateList()) {
+                    segmentCandidates.put(candidate.getId(), candidate);
+                }
+            }
+
+            CandidateBook candidateBook = new CandidateBook();
+            for (Long id : manifest.getOrder()) {
+                Candidate candidate = segmentCandidates.remove(id);
+                if (candidate != null) {
+                    addCandidate(candidateBook, candidate);
+                }
+            }
+            // candidates added by a save that was cut short before the manifest was written
+            for (Candidate candidate : segmentCandidates.values()) {
+                addCandidate(candidateBook, candidate);
+            }
+
+            if (filePath.equals(manifestFilePath)) {
+                // a book read with another number of segments is saved in full, spread over the new segments
+                savedCandidates = manifest.getSegmentCount() == segmentCount ? byId(candidateBook) : null;
+            }
+            return Optional.of(candidateBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveCandidateBook(ReadOnlyCandidateBook candidateBook) throws IOException {
+        saveCandidateBook(candidateBook, manifestFilePath);
+    }
+
+    /**
+     * Saves the segments holding candidates that changed since the book was last read from or saved to
+     * {@code filePath}, if it is the manifest of this storage, or every segment if not.
+     * @param filePath location of the manifest. Cannot be null
+     */
+    @Override
+    public void saveCandidateBook(ReadOnlyCandidateBook candidateBook, Path filePath) throws IOException {
+        requireNonNull(candidateBook);
+        requireNonNull(filePath);
+
+        Map<Long, Candidate> candidates = byId(candidateBook);
+        Map<Long, Candidate> lastSaved = filePath.equals(manifestFilePath) ? savedCandidates : null;
+        SortedMap<Integer, List<Candidate>> changedSegments = new TreeMap<>();
+        if (lastSaved == null) {
+            for (int segment = 0; segment < segmentCount; segment++) {
+                changedSegments.put(segment, new ArrayList<>());
+            }
+        } else {
+            for (Candidate candidate : candidates.values()) {
+                if (lastSaved.get(candidate.getId()) != candidate) {
+                    changedSegments.put(segmentOf(candidate.getId()), new ArrayList<>());
+                }
+            }
+            for (Long savedId : lastSaved.keySet()) {
+                if (!candidates.containsKey(savedId)) {
+                    changedSegments.put(segmentOf(savedId), new ArrayList<>());
+                }
+            }
+        }
+        for (Candidate candidate : candidates.values()) {
+            List<Candidate> segmentCandidates = changedSegments.get(segmentOf(candidate.getId()));
+            if (segmentCandidates != null) {
+                segmentCandidates.add(candidate);
+            }
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        for (Map.Entry<Integer, List<Candidate>> segment : changedSegments.entrySet()) {
+            CandidateBook segmentBook = new CandidateBook();
+            segmentBook.setCandidates(segment.getValue());
+            saveSegment(getSegmentFilePath(filePath, segment.getKey()), segmentBook);
+        }
+        List<Long> order = new ArrayList<>(candidates.keySet());
+        if (lastSaved == null || !order.equals(new ArrayList<>(lastSaved.keySet()))) {
+            saveManifest(filePath, new XmlSerializableSegmentManifest(segmentCount, order));
+        }
+        logger.fine("Saved " + changedSegments.size() + " of " + segmentCount + " segments of " + filePath);
+
+        if (filePath.equals(manifestFilePath)) {
+            savedCandidates = candidates;
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the contents of the manifest at {@code filePath} followed by those of its
+     * segments, as a save can change the segments without rewriting the manifest.
+     */
+    @Override
+    public long getCandidateBookChecksum(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        CRC32 checksum = new CRC32();
+        FileUtil.updateChecksum(checksum, filePath);
+        for (int segment = 0; segment < segmentCount; segment++) {
+            Path segmentFilePath = getSegmentFilePath(filePath, segment);
+            if (Files.exists(segmentFilePath)) {
+                FileUtil.updateChecksum(checksum, segmentFilePath);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Reads the book from the xml file and saves it to the segments, returning it.
+     * Returns {@code Optional.empty()}, saving nothing, if there is no xml file.
+     */
+    public Optional<ReadOnlyCandidateBook> importFromXml() throws DataConversionException, IOException {
+        Optional<ReadOnlyCandidateBook> candidateBook = xmlStorage.readCandidateBook();
+        if (candidateBook.isPresent()) {
+            logger.info("Importing CandidateBook from " + xmlStorage.getCandidateBookFilePath());
+            saveCandidateBook(candidateBook.get());
+        }
+        return candidateBook;
+    }
+
+    /**
+     * Saves {@code candidateBook}, as last saved to this storage, to the xml file, so that the xml file can be read
+     * again if the segments are no longer used.
+     */
+    public void exportToXml(ReadOnlyCandidateBook candidateBook) throws IOException {
+        requireNonNull(candidateBook);
+        logger.info("Exporting CandidateBook to " + xmlStorage.getCandidateBookFilePath());
+        xmlStorage.saveCandidateBook(candidateBook);
+    }
+
+    private int segmentOf(long id) {
+        return Math.floorMod(Long.hashCode(id), segmentCount);
+    }
+
+    private static Map<Long, Candidate> byId(ReadOnlyCandidateBook candidateBook) {
+        Map<Long, Candidate> candidates = new LinkedHashMap<>();
+        for (Candidate candidate : candidateBook.getCandidateList()) {
+            candidates.put(candidate.getId(), candidate);
+        }
+        return candidates;
+    }
+
+    private static void addCandidate(CandidateBook candidateBook, Candidate candidate) throws IllegalValueException {
+        if (candidateBook.hasCandidate(candidate)) {
+            throw new IllegalValueException(XmlSerializableCandidateBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        candidateBook.addCandidate(candidate);
+    }
+
+    /**
+     * Replaces the segment at {@code segmentFilePath} with {@code segmentBook}, written in full to a temporary
+     * file first so that the segment is never left half written.
+     */
+    private static void saveSegment(Path segmentFilePath, ReadOnlyCandidateBook segmentBook) throws IOException {
+        Path tempFile = segmentFilePath.resolveSibling(segmentFilePath.getFileName() + TEMPORARY_FILE_EXTENSION);
+        XmlFileStorage.saveCandidateBookToFile(tempFile, segmentBook);
+        Files.move(tempFile, segmentFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void saveManifest(Path manifestFilePath, XmlSerializableSegmentManifest manifest)
+            throws IOException {
+        Path tempFile = manifestFilePath.resolveSibling(manifestFilePath.getFileName() + TEMPORARY_FILE_EXTENSION);
+        FileUtil.createIfMissing(tempFile);
+        try {
+            XmlUtil.saveDataToFile(tempFile, manifest);
+        } catch (JAXBException e) {
+            throw new IOException("Failed to write manifest " + manifestFilePath, e);
+        }
+        Files.move(tempFile, manifestFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.recruit.commons.core.LogsCenter;
+import seedu.recruit.model.ReadOnlyCandidateBook;
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.joboffer.Shortlist;
+
+/**
+ * Finds the candidates shortlisted for saved job offers in the candidate book, so that a job offer read from storage
+ * shares its candidates with the candidate book instead of holding copies of them.
+ *
+ * Job offers are saved with the ids of their shortlisted candidates, but may also have been saved with a full copy of
+ * each, as they were before. A copy may be out of date, as edits were not always carried over to every shortlist, so
+ * it is matched to the candidate with the same identity if there is none with the same details.
+ * A shortlisted candidate that is not in the candidate book, such as one deleted before deleting a candidate took
+ * them off every shortlist, is left out of the shortlist with a warning, so that the rest of the book still loads.
+ */
+public class ShortlistResolver {
+
+    private static final Logger logger = LogsCenter.getLogger(ShortlistResolver.class);
+
+    private final Map<Long, Candidate> candidatesById = new HashMap<>();
+    private final Map<Candidate, Candidate> candidatesByValue = new HashMap<>();
+    // candidates by the fields of isSameCandidate, which matches either the phone or the email
+    private final Map<List<Object>, Candidate> candidatesByPhone = new HashMap<>();
+    private final Map<List<Object>, Candidate> candidatesByEmail = new HashMap<>();
+
+    public ShortlistResolver(ReadOnlyCandidateBook candidateBook) {
+        requireNonNull(candidateBook);
+        for (Candidate candidate : candidateBook.getCandidateList()) {
+            candidatesById.put(candidate.getId(), candidate);
+            candidatesByValue.put(candidate, candidate);
+            candidatesByPhone.put(phoneKey(candidate), candidate);
+            candidatesByEmail.put(emailKey(candidate), candidate);
+        }
+    }
+
+    /**
+     * Returns the shortlist of the candidates with {@code candidateIds} in the candidate book.
+     */
+    public Shortlist resolveIds(List<Long> candidateIds) {
+        requireNonNull(candidateIds);
+        List<Candidate> shortlist = new ArrayList<>();
+        Set<Long> shortlistedIds = new HashSet<>();
+        for (long candidateId : candidateIds) {
+            addToShortlist(shortlist, shortlistedIds, candidatesById.get(candidateId), candidateId);
+        }
+        return Shortlist.of(shortlist);
+    }
+
+    /**
+     * Returns the shortlist of the candidates in the candidate book that {@code savedCandidates} are copies of.
+     * A copy is matched to the candidate with the same details, or else to the candidate with the same identity,
+     * as defined by {@link Candidate#isSameCandidate(Candidate)}. Copies were saved without ids, so they are never
+     * matched by id.
+     */
+    public Shortlist resolveCopies(List<Candidate> savedCandidates) {
+        requireNonNull(savedCandidates);
+        List<Candidate> shortlist = new ArrayList<>();
+        Set<Long> shortlistedIds = new HashSet<>();
+        for (Candidate savedCandidate : savedCandidates) {
+            Candidate candidate = candidatesByValue.get(savedCandidate);
+            if (candidate == null) {
+                candidate = candidatesByPhone.get(phoneKey(savedCandidate));
+            }
+            if (candidate == null) {
+                candidate = candidatesByEmail.get(emailKey(savedCandidate));
+            }
+            addToShortlist(shortlist, shortlistedIds, candidate, savedCandidate.getName());
+        }
+        return Shortlist.of(shortlist);
+    }
+
+    private static List<Object> phoneKey(Candidate candidate) {
+        return Arrays.asList(candidate.getName(), candidate.getGender(), candidate.getPhone());
+    }
+
+    private static List<Object> emailKey(Candidate candidate) {
+        return Arrays.asList(candidate.getName(), candidate.getGender(), candidate.getEmail());
+    }
+
+    private static void addToShortlist(List<Candidate> shortlist, Set<Long> shortlistedIds, Candidate candidate,
+            Object savedCandidate) {
+        if (candidate == null) {
+            logger.warning("Shortlisted candidate " + savedCandidate + " is not in the candidate book and is left out");
+            return;
+        }
+        if (shortlistedIds.add(candidate.getId())) {
+            shortlist.add(candidate);
+        }
+    }
+}
@@ -58,7 +58,8 @@ public interface Storage extends CandidateBookStorage, CompanyBookStorage, UserP
     Path getCompanyBookFilePath();
 
     @Override
-    Optional<ReadOnlyCompanyBook> readCompanyBook() throws DataConversionException, IOException;
+    Optional<ReadOnlyCompanyBook> readCompanyBook(ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException;
 
     @Override
     void saveCompanyBook(ReadOnlyCompanyBook companyBook) throws IOException;
@@ -69,4 +70,9 @@ public interface Storage extends CandidateBookStorage, CompanyBookStorage, UserP
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleCompanyBookChangedEvent(CompanyBookChangedEvent event);
+
+    /**
+     * Saves the changes that are waiting to be saved in the background, and waits until they are.
+     */
+    void flush();
 }
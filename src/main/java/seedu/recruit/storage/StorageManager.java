@@ -4,6 +4,11 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -12,15 +17,22 @@ import seedu.recruit.commons.core.ComponentManager;
 import seedu.recruit.commons.core.LogsCenter;
 import seedu.recruit.commons.events.model.CandidateBookChangedEvent;
 import seedu.recruit.commons.events.model.CompanyBookChangedEvent;
+import seedu.recruit.commons.events.storage.CandidateBookSavedEvent;
+import seedu.recruit.commons.events.storage.CompanyBookSavedEvent;
 import seedu.recruit.commons.events.storage.DataSavingExceptionEvent;
 import seedu.recruit.commons.events.storage.UserPrefsChangedEvent;
 import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.util.StringUtil;
 import seedu.recruit.model.ReadOnlyCandidateBook;
 import seedu.recruit.model.ReadOnlyCompanyBook;
 import seedu.recruit.model.UserPrefs;
 
 /**
  * Manages storage of CandidateBook data in local storage.
+ *
+ * Changed books are saved either at once, on the thread that raised the change, or after a write delay on a single
+ * background thread. In the latter case a snapshot of the book is saved, so the book can keep changing meanwhile,
+ * and every change made during the delay is saved by the same write.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -28,14 +40,33 @@ public class StorageManager extends ComponentManager implements Storage {
     private CandidateBookStorage candidateBookStorage;
     private CompanyBookStorage companyBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final long writeDelay;
+    private final ScheduledExecutorService writer;
+    private final AtomicReference<ReadOnlyCandidateBook> pendingCandidateBook = new AtomicReference<>();
+    private final AtomicReference<ReadOnlyCompanyBook> pendingCompanyBook = new AtomicReference<>();
 
 
     public StorageManager(CandidateBookStorage candidateBookStorage, CompanyBookStorage companyBookStorage,
                           UserPrefsStorage userPrefsStorage) {
+        this(candidateBookStorage, companyBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changed books {@code writeDelay} milliseconds after they change,
+     * or at once if {@code writeDelay} is 0.
+     */
+    public StorageManager(CandidateBookStorage candidateBookStorage, CompanyBookStorage companyBookStorage,
+                          UserPrefsStorage userPrefsStorage, long writeDelay) {
         super();
         this.companyBookStorage = companyBookStorage;
         this.candidateBookStorage = candidateBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writeDelay = writeDelay;
+        this.writer = writeDelay > 0 ? Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "Storage writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ============================= File Permission methods ============================= //
@@ -121,14 +152,41 @@ public class StorageManager extends ComponentManager implements Storage {
         candidateBookStorage.saveCandidateBook(addressBook, filePath);
     }
 
+    @Override
+    public long getCandidateBookChecksum(Path filePath) throws IOException {
+        return candidateBookStorage.getCandidateBookChecksum(filePath);
+    }
+
 
     @Override
     @Subscribe
     public void handleCandidateBookChangedEvent(CandidateBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event,
                 "Local candidatebook changed, saving to file"));
+        if (writer == null) {
+            writeCandidateBook(event.data);
+        } else if (pendingCandidateBook.getAndSet(event.data.snapshot()) == null) {
+            writer.schedule(this::savePendingCandidateBook, writeDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the candidate book waiting to be saved, if any.
+     */
+    private void savePendingCandidateBook() {
+        ReadOnlyCandidateBook candidateBook = pendingCandidateBook.getAndSet(null);
+        if (candidateBook != null) {
+            writeCandidateBook(candidateBook);
+        }
+    }
+
+    /**
+     * Saves {@code candidateBook}, raising an event to tell whether it was saved.
+     */
+    private void writeCandidateBook(ReadOnlyCandidateBook candidateBook) {
         try {
-            saveCandidateBook(event.data);
+            saveCandidateBook(candidateBook);
+            raise(new CandidateBookSavedEvent());
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
@@ -142,14 +200,16 @@ public class StorageManager extends ComponentManager implements Storage {
     };
 
     @Override
-    public Optional<ReadOnlyCompanyBook> readCompanyBook() throws DataConversionException, IOException {
-        return readCompanyBook(companyBookStorage.getCompanyBookFilePath());
+    public Optional<ReadOnlyCompanyBook> readCompanyBook(ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException {
+        return readCompanyBook(companyBookStorage.getCompanyBookFilePath(), candidateBook);
     };
 
     @Override
-    public Optional<ReadOnlyCompanyBook> readCompanyBook(Path filePath) throws DataConversionException, IOException {
+    public Optional<ReadOnlyCompanyBook> readCompanyBook(Path filePath, ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException {
         logger.fine("Attempting to read companybook data from file: " + filePath);
-        return companyBookStorage.readCompanyBook(filePath);
+        return companyBookStorage.readCompanyBook(filePath, candidateBook);
     }
 
     @Override
@@ -163,6 +223,11 @@ public class StorageManager extends ComponentManager implements Storage {
         companyBookStorage.saveCompanyBook(companyBook, filePath);
     }
 
+    @Override
+    public long getCompanyBookChecksum(Path filePath) throws IOException {
+        return companyBookStorage.getCompanyBookChecksum(filePath);
+    }
+
 
 
     /**
@@ -175,11 +240,51 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleCompanyBookChangedEvent(CompanyBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local CompanyBook changed, saving to file"));
+        if (writer == null) {
+            writeCompanyBook(event.data);
+        } else if (pendingCompanyBook.getAndSet(event.data.snapshot()) == null) {
+            writer.schedule(this::savePendingCompanyBook, writeDelay, TimeUnit.MILLISECONDS);
+        }
+    };
+
+    /**
+     * Saves the company book waiting to be saved, if any.
+     */
+    private void savePendingCompanyBook() {
+        ReadOnlyCompanyBook companyBook = pendingCompanyBook.getAndSet(null);
+        if (companyBook != null) {
+            writeCompanyBook(companyBook);
+        }
+    }
+
+    /**
+     * Saves {@code companyBook}, raising an event to tell whether it was saved.
+     */
+    private void writeCompanyBook(ReadOnlyCompanyBook companyBook) {
         try {
-            saveCompanyBook(event.data);
+            saveCompanyBook(companyBook);
+            raise(new CompanyBookSavedEvent());
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
-    };
+    }
+
+    @Override
+    public void flush() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.submit(() -> {
+                savePendingCandidateBook();
+                savePendingCompanyBook();
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while saving pending changes");
+        } catch (ExecutionException e) {
+            logger.warning("Failed to save pending changes " + StringUtil.getDetails(e));
+        }
+    }
 
 }
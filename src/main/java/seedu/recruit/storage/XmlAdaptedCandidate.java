@@ -21,6 +21,7 @@ import seedu.recruit.model.commons.Phone;
 import seedu.recruit.model.joboffer.Job;
 import seedu.recruit.model.joboffer.Salary;
 import seedu.recruit.model.tag.Tag;
+import seedu.recruit.model.util.IdGenerator;
 
 
 /**
@@ -31,6 +32,8 @@ public class XmlAdaptedCandidate {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Candidate's %s field is missing!";
 
 
+    @XmlElement
+    private Long id;
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -86,6 +89,7 @@ public class XmlAdaptedCandidate {
      */
 
     public XmlAdaptedCandidate(Candidate source) {
+        id = source.getId();
         name = source.getName().fullName;
         gender = source.getGender().value;
         age = source.getAge().value;
@@ -101,6 +105,17 @@ public class XmlAdaptedCandidate {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gives this candidate a new id if it was saved without one, as candidates were before ids were stored.
+     * Called on the items of a file one at a time, in the order they were read, so that the ids given do not depend
+     * on the order in which the items are then converted.
+     */
+    void assignMissingId() {
+        if (id == null) {
+            id = IdGenerator.nextId();
+        }
+    }
+
     /**
      * Converts this jaxb-friendly adapted candidate object into the model's Candidate object.
      *
@@ -130,7 +145,7 @@ public class XmlAdaptedCandidate {
             throw new IllegalValueException(Gender.MESSAGE_GENDER_CONSTRAINTS);
         }
 
-        final Gender modelGender = new Gender(gender);
+        final Gender modelGender = Gender.of(gender);
 
         if (age == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Age.class.getSimpleName()));
@@ -174,7 +189,7 @@ public class XmlAdaptedCandidate {
             throw new IllegalValueException(Job.MESSAGE_JOB_CONSTRAINTS);
         }
 
-        final Job modelJob = new Job(job);
+        final Job modelJob = Job.of(job);
 
         if (education == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -185,7 +200,7 @@ public class XmlAdaptedCandidate {
             throw new IllegalValueException(Education.MESSAGE_EDUCATION_CONSTRAINTS);
         }
 
-        final Education modelEducation = new Education(education);
+        final Education modelEducation = Education.of(education);
 
         if (salary == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Salary.class.getSimpleName()));
@@ -195,10 +210,12 @@ public class XmlAdaptedCandidate {
             throw new IllegalValueException(Salary.MESSAGE_SALARY_CONSTRAINTS);
         }
 
-        final Salary modelSalary = new Salary(salary);
+        final Salary modelSalary = Salary.of(salary);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Candidate(modelName, modelGender, modelAge, modelPhone, modelEmail, modelAddress, modelJob,
+        // candidates saved before ids were stored are given new ones
+        final long modelId = id == null ? IdGenerator.nextId() : id;
+        return new Candidate(modelId, modelName, modelGender, modelAge, modelPhone, modelEmail, modelAddress, modelJob,
             modelEducation, modelSalary, modelTags);
     }
 
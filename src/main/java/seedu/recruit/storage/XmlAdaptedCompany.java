@@ -10,6 +10,7 @@ import seedu.recruit.model.commons.Email;
 import seedu.recruit.model.commons.Phone;
 import seedu.recruit.model.company.Company;
 import seedu.recruit.model.company.CompanyName;
+import seedu.recruit.model.util.IdGenerator;
 
 /**
  * JAXB-friendly version of the Company.
@@ -19,6 +20,8 @@ public class XmlAdaptedCompany {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Company's %s field is missing!";
 
+    @XmlElement
+    private Long id;
     @XmlElement(required = true)
     private String companyName;
     @XmlElement(required = true)
@@ -52,12 +55,24 @@ public class XmlAdaptedCompany {
      */
 
     public XmlAdaptedCompany(Company source) {
+        id = source.getId();
         companyName = source.getName().value;
         address = source.getAddress().value;
         email = source.getEmail().value;
         phone = source.getPhone().value;
     }
 
+    /**
+     * Gives this company a new id if it was saved without one, as companies were before ids were stored.
+     * Called on the items of a file one at a time, in the order they were read, so that the ids given do not depend
+     * on the order in which the items are then converted.
+     */
+    void assignMissingId() {
+        if (id == null) {
+            id = IdGenerator.nextId();
+        }
+    }
+
     /**
      * Converts this jaxb-friendly adapted job offer object into the model's Company object.
      *
@@ -75,7 +90,7 @@ public class XmlAdaptedCompany {
             throw new IllegalValueException(CompanyName.MESSAGE_COMPANY_CONSTRAINTS);
         }
 
-        final CompanyName modelCompanyName = new CompanyName(companyName);
+        final CompanyName modelCompanyName = CompanyName.of(companyName);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -101,7 +116,9 @@ public class XmlAdaptedCompany {
         }
         final Address modelAddress = new Address(address);
 
-        return new Company (modelCompanyName, modelAddress, modelEmail, modelPhone);
+        // companies saved before ids were stored are given new ones
+        final long modelId = id == null ? IdGenerator.nextId() : id;
+        return new Company (modelId, modelCompanyName, modelAddress, modelEmail, modelPhone);
     }
 
 
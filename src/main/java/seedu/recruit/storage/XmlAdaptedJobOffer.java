@@ -1,6 +1,7 @@
 package seedu.recruit.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -11,12 +12,13 @@ import seedu.recruit.commons.exceptions.IllegalValueException;
 import seedu.recruit.model.candidate.Candidate;
 import seedu.recruit.model.candidate.Education;
 import seedu.recruit.model.candidate.Gender;
-import seedu.recruit.model.candidate.UniqueCandidateList;
 import seedu.recruit.model.company.CompanyName;
 import seedu.recruit.model.joboffer.AgeRange;
 import seedu.recruit.model.joboffer.Job;
 import seedu.recruit.model.joboffer.JobOffer;
 import seedu.recruit.model.joboffer.Salary;
+import seedu.recruit.model.joboffer.Shortlist;
+import seedu.recruit.model.util.IdGenerator;
 
 /**
  * JAXB-friendly version of the JobOffer.
@@ -25,6 +27,8 @@ public class XmlAdaptedJobOffer {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Job offer's %s field is missing!";
 
+    @XmlElement
+    private Long id;
     @XmlElement(required = true)
     private String job;
     @XmlElement(required = true)
@@ -37,7 +41,9 @@ public class XmlAdaptedJobOffer {
     private String education;
     @XmlElement(required = true)
     private String salary;
-    @XmlElement(required = true)
+    @XmlElement
+    private List<Long> shortlisted;
+    @XmlElement
     private List<XmlAdaptedCandidate> candidateList;
     private int minAge;
     private int maxAge;
@@ -72,7 +78,7 @@ public class XmlAdaptedJobOffer {
      */
 
     public XmlAdaptedJobOffer(JobOffer source) {
-
+        id = source.getId();
         companyName = source.getCompanyName().value;
         job = source.getJob().value;
         gender = source.getGender().value;
@@ -81,18 +87,29 @@ public class XmlAdaptedJobOffer {
         maxAge = source.getAgeRange().getMaxAge();
         education = source.getEducation().value;
         salary = source.getSalary().value;
-        candidateList = source.getUniqueCandidateList().asUnmodifiableObservableList()
-                .stream().map(XmlAdaptedCandidate::new).collect(Collectors.toList());
+        shortlisted = source.getShortlist().asList().stream().map(Candidate::getId).collect(Collectors.toList());
     }
 
 
     /**
-     * Converts this jaxb-friendly adapted job offer object into the model's JobOffer object.
+     * Gives this job offer a new id if it was saved without one, as job offers were before ids were stored.
+     * Called on the items of a file one at a time, in the order they were read, so that the ids given do not depend
+     * on the order in which the items are then converted.
+     */
+    void assignMissingId() {
+        if (id == null) {
+            id = IdGenerator.nextId();
+        }
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted job offer object into the model's JobOffer object, with its shortlisted
+     * candidates found by {@code shortlistResolver}.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted job offer
      */
 
-    public JobOffer toModelType() throws IllegalValueException {
+    public JobOffer toModelType(ShortlistResolver shortlistResolver) throws IllegalValueException {
         final List<Candidate> jobCandidateList = new ArrayList<>();
         if (candidateList != null) {
             for (XmlAdaptedCandidate candidate : candidateList) {
@@ -108,7 +125,7 @@ public class XmlAdaptedJobOffer {
             throw new IllegalValueException(CompanyName.MESSAGE_COMPANY_CONSTRAINTS);
         }
 
-        final CompanyName modelCompanyName = new CompanyName(companyName);
+        final CompanyName modelCompanyName = CompanyName.of(companyName);
 
 
         if (job == null) {
@@ -119,7 +136,7 @@ public class XmlAdaptedJobOffer {
             throw new IllegalValueException(Job.MESSAGE_JOB_CONSTRAINTS);
         }
 
-        final Job modelJob = new Job(job);
+        final Job modelJob = Job.of(job);
 
         if (gender == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Gender.class.getSimpleName()));
@@ -129,7 +146,7 @@ public class XmlAdaptedJobOffer {
             throw new IllegalValueException(Gender.MESSAGE_GENDER_CONSTRAINTS);
         }
 
-        final Gender modelGender = new Gender(gender);
+        final Gender modelGender = Gender.of(gender);
 
         if (ageRange == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -151,7 +168,7 @@ public class XmlAdaptedJobOffer {
             throw new IllegalValueException(Education.MESSAGE_EDUCATION_CONSTRAINTS);
         }
 
-        final Education modelEducation = new Education(education);
+        final Education modelEducation = Education.of(education);
 
         if (salary == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Salary.class.getSimpleName()));
@@ -161,15 +178,17 @@ public class XmlAdaptedJobOffer {
             throw new IllegalValueException(Salary.MESSAGE_SALARY_CONSTRAINTS);
         }
 
-        final Salary modelSalary = new Salary(salary);
-
-        final UniqueCandidateList modelCandidateList = new UniqueCandidateList();
-
-        modelCandidateList.setCandidates(jobCandidateList);
+        final Salary modelSalary = Salary.of(salary);
 
+        // job offers saved before shortlists were saved by id hold a copy of each shortlisted candidate instead
+        final Shortlist modelShortlist = candidateList != null
+                ? shortlistResolver.resolveCopies(jobCandidateList)
+                : shortlistResolver.resolveIds(shortlisted != null ? shortlisted : Collections.emptyList());
 
-        return new JobOffer(modelCompanyName, modelJob, modelGender, modelAgeRange, modelEducation, modelSalary,
-                modelCandidateList);
+        // job offers saved before ids were stored are given new ones
+        final long modelId = id == null ? IdGenerator.nextId() : id;
+        return new JobOffer(modelId, modelCompanyName, modelJob, modelGender, modelAgeRange, modelEducation,
+                modelSalary, modelShortlist);
     }
 
 
@@ -0,0 +1,176 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.util.FileUtil;
+import seedu.recruit.commons.util.XmlUtil;
+
+/**
+ * Reads the items of a book saved as an xml file one at a time, without reading the rest of the file.
+ *
+ * The items are the elements directly within the root element of the file. An item read with {@link #readItem}
+ * is converted by JAXB on its own, so a book can be built up from the items as they are read.
+ */
+class XmlBookReader implements AutoCloseable {
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    private final InputStream in;
+    private final XMLStreamReader reader;
+    private final Map<Class<?>, Unmarshaller> unmarshallers = new HashMap<>();
+    private final Map<String, String> rootAttributes = new HashMap<>();
+
+    /**
+     * Opens the file at {@code file}, which must have a root element named {@code rootName}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file cannot be read or has another root element.
+     */
+    XmlBookReader(Path file, String rootName) throws DataConversionException, FileNotFoundException {
+        requireNonNull(file);
+        requireNonNull(rootName);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try {
+            in = new BufferedInputStream(Files.newInputStream(file));
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+        try {
+            reader = inputFactory.createXMLStreamReader(in);
+        } catch (XMLStreamException xse) {
+            closeQuietly(in);
+            throw new DataConversionException(xse);
+        }
+        try {
+            if (toNextTag() != XMLStreamConstants.START_ELEMENT || !reader.getLocalName().equals(rootName)) {
+                throw new XMLStreamException("Expected root element " + rootName, reader.getLocation());
+            }
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                rootAttributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+            reader.next();
+        } catch (XMLStreamException xse) {
+            close();
+            throw new DataConversionException(xse);
+        }
+    }
+
+    /**
+     * Returns the value of the attribute {@code name} of the root element, or null if it has no such attribute.
+     */
+    String getRootAttribute(String name) {
+        return rootAttributes.get(name);
+    }
+
+    /**
+     * Moves to the next item, returning false if there are no more.
+     */
+    boolean nextItem() throws DataConversionException {
+        try {
+            return toNextTag() == XMLStreamConstants.START_ELEMENT;
+        } catch (XMLStreamException xse) {
+            throw new DataConversionException(xse);
+        }
+    }
+
+    /**
+     * Returns the element name of the current item.
+     */
+    String getItemName() {
+        return reader.getLocalName();
+    }
+
+    /**
+     * Returns the current item as an object of the specified type, and moves past it.
+     */
+    <T> T readItem(Class<T> type) throws DataConversionException {
+        try {
+            Unmarshaller unmarshaller = unmarshallers.get(type);
+            if (unmarshaller == null) {
+                unmarshaller = XmlUtil.createUnmarshaller(type);
+                unmarshallers.put(type, unmarshaller);
+            }
+            return unmarshaller.unmarshal(reader, type).getValue();
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Moves past the current item without reading it.
+     */
+    void skipItem() throws DataConversionException {
+        try {
+            for (int depth = 1; depth > 0;) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+            reader.next();
+        } catch (XMLStreamException xse) {
+            throw new DataConversionException(xse);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (XMLStreamException xse) {
+            // nothing more is read from the file, so there is nothing to recover
+        }
+        closeQuietly(in);
+    }
+
+    /**
+     * Moves to the next start or end tag, skipping text, comments and the like, and returns its event type.
+     */
+    private int toNextTag() throws XMLStreamException {
+        int event = reader.getEventType();
+        while (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+            if (!reader.hasNext()) {
+                throw new XMLStreamException("Unexpected end of file", reader.getLocation());
+            }
+            event = reader.next();
+        }
+        return event;
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ioe) {
+            // nothing more is read from the file, so there is nothing to recover
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import seedu.recruit.commons.util.XmlUtil;
+
+/**
+ * Writes a book to an xml file one element at a time, laid out as JAXB lays out formatted output.
+ *
+ * The items of a book are marshalled by JAXB from their {@code XmlAdapted} classes, so that those classes alone
+ * define how an item is written. Each element starts on a new line, indented by four spaces for each element it is
+ * within, and an element holding other elements ends on a line of its own. The file is written as it would be by
+ * {@link seedu.recruit.commons.util.XmlUtil#saveDataToFile}, byte for byte. A checksum of the bytes is kept as they
+ * are written, so that the file need not be read back to find it.
+ */
+class XmlBookWriter implements AutoCloseable {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String INDENT = "    ";
+
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    private final CRC32 checksum = new CRC32();
+    private final OutputStream out;
+    private final XMLStreamWriter writer;
+    private final Map<Class<?>, Marshaller> marshallers = new HashMap<>();
+    private final ItemHandler itemHandler = new ItemHandler();
+    private int depth;
+
+    /**
+     * Creates or replaces the file at {@code file}, starting it with the xml declaration.
+     */
+    XmlBookWriter(Path file) throws IOException {
+        requireNonNull(file);
+        out = new BufferedOutputStream(new CheckedOutputStream(Files.newOutputStream(file), checksum));
+        try {
+            out.write(XML_DECLARATION.getBytes(StandardCharsets.UTF_8));
+            writer = outputFactory.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+        } catch (IOException | XMLStreamException e) {
+            out.close();
+            throw asIoException(e);
+        }
+    }
+
+    /**
+     * Writes the root element of a book with no items.
+     */
+    void emptyRoot(String name) throws IOException {
+        try {
+            writer.writeEmptyElement(name);
+        } catch (XMLStreamException xse) {
+            throw asIoException(xse);
+        }
+    }
+
+    /**
+     * Writes the start tag of an element that holds other elements.
+     */
+    void startElement(String name) throws IOException {
+        try {
+            indent();
+            writer.writeStartElement(name);
+            depth++;
+        } catch (XMLStreamException xse) {
+            throw asIoException(xse);
+        }
+    }
+
+    /**
+     * Writes the end tag of the element last started.
+     */
+    void endElement() throws IOException {
+        try {
+            depth--;
+            writer.writeCharacters("\n");
+            writer.writeCharacters(indentation());
+            writer.writeEndElement();
+        } catch (XMLStreamException xse) {
+            throw asIoException(xse);
+        }
+    }
+
+    /**
+     * Writes an attribute of the element last started, or of the empty root, before anything else is written.
+     */
+    void attribute(String name, String value) throws IOException {
+        requireNonNull(value);
+        try {
+            writer.writeAttribute(name, value);
+        } catch (XMLStreamException xse) {
+            throw asIoException(xse);
+        }
+    }
+
+    /**
+     * Writes {@code item} as an element named {@code name}, marshalled by JAXB as an object of {@code type}.
+     */
+    <T> void item(String name, Class<T> type, T item) throws IOException {
+        requireNonNull(item);
+        try {
+            Marshaller marshaller = marshallers.get(type);
+            if (marshaller == null) {
+                marshaller = XmlUtil.createFragmentMarshaller(type);
+                marshallers.put(type, marshaller);
+            }
+            marshaller.marshal(new JAXBElement<>(new QName(name), type, item), itemHandler);
+        } catch (JAXBException e) {
+            throw asIoException(e);
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the bytes written, which is that of the whole file once it is closed.
+     */
+    long getChecksum() {
+        return checksum.getValue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            // the file ends with a line break after the root element
+            writer.writeCharacters("\n");
+            writer.close();
+        } catch (XMLStreamException xse) {
+            throw asIoException(xse);
+        } finally {
+            out.close();
+        }
+    }
+
+    private void indent() throws XMLStreamException {
+        if (depth > 0) {
+            writer.writeCharacters("\n");
+            writer.writeCharacters(indentation());
+        }
+    }
+
+    private String indentation() {
+        StringBuilder indentation = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            indentation.append(INDENT);
+        }
+        return indentation.toString();
+    }
+
+    private static IOException asIoException(Exception e) {
+        return e instanceof IOException ? (IOException) e : new IOException(e);
+    }
+
+    /**
+     * Writes the elements of an item as JAXB marshals them, laid out as above.
+     */
+    private class ItemHandler extends DefaultHandler {
+        /** Whether the element being written holds other elements, found once one of them has ended. */
+        private boolean hasElements;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+            try {
+                indent();
+                writer.writeStartElement(qName);
+                for (int i = 0; i < attributes.getLength(); i++) {
+                    writer.writeAttribute(attributes.getQName(i), attributes.getValue(i));
+                }
+                depth++;
+                hasElements = false;
+            } catch (XMLStreamException xse) {
+                throw new SAXException(xse);
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            try {
+                writer.writeCharacters(ch, start, length);
+            } catch (XMLStreamException xse) {
+                throw new SAXException(xse);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            try {
+                depth--;
+                if (hasElements) {
+                    writer.writeCharacters("\n");
+                    writer.writeCharacters(indentation());
+                }
+                writer.writeEndElement();
+                hasElements = true;
+            } catch (XMLStreamException xse) {
+                throw new SAXException(xse);
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package seedu.recruit.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -13,19 +12,35 @@ import seedu.recruit.commons.core.LogsCenter;
 import seedu.recruit.commons.exceptions.DataConversionException;
 import seedu.recruit.commons.exceptions.IllegalValueException;
 import seedu.recruit.commons.util.FileUtil;
+import seedu.recruit.model.CandidateBook;
 import seedu.recruit.model.ReadOnlyCandidateBook;
 
 /**
  * A class to access CandidateBook data stored as an xml file on the hard disk.
+ *
+ * The book can also be kept in a cache next to the file, which is read instead of the file for as long as the file
+ * is unchanged since the book was last read from or saved to it.
  */
 public class XmlCandidateBookStorage implements CandidateBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlCandidateBookStorage.class);
 
     private Path filePath;
+    private final XmlFileCache cache;
+    // the key of the file of this storage as it was last read or saved, if its checksum was found then
+    private XmlFileCache.Key savedKey;
 
     public XmlCandidateBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which keeps a cache of the book next to it if
+     * {@code isCached} is true.
+     */
+    public XmlCandidateBookStorage(Path filePath, boolean isCached) {
         this.filePath = filePath;
+        this.cache = isCached ? new XmlFileCache(filePath) : null;
     }
 
     public Path getCandidateBookFilePath() {
@@ -43,7 +58,7 @@ public class XmlCandidateBookStorage implements CandidateBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyCandidateBook> readCandidateBook(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+            IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -51,9 +66,24 @@ public class XmlCandidateBookStorage implements CandidateBookStorage {
             return Optional.empty();
         }
 
-        XmlSerializableCandidateBook xmlAddressBook = XmlFileStorage.loadCandidateBookFromSaveFile(filePath);
+        // the cache is only kept for the file of this storage
+        XmlFileCache.Key key = cache != null && filePath.equals(this.filePath) ? cache.readKey() : null;
+        if (filePath.equals(this.filePath)) {
+            savedKey = key;
+        }
+        if (key != null) {
+            CandidateBook cachedBook = cache.readCandidateBook(key);
+            if (cachedBook != null) {
+                return Optional.of(cachedBook);
+            }
+        }
+
         try {
-            return Optional.of(xmlAddressBook.toModelType());
+            CandidateBook candidateBook = XmlFileStorage.loadCandidateBookFromSaveFile(filePath);
+            if (key != null) {
+                cache.saveCandidateBook(key, candidateBook);
+            }
+            return Optional.of(candidateBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +104,27 @@ public class XmlCandidateBookStorage implements CandidateBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveCandidateBookToFile(filePath, new XmlSerializableCandidateBook(addressBook));
+        long checksum = XmlFileStorage.saveCandidateBookToFile(filePath, addressBook);
+        if (filePath.equals(this.filePath)) {
+            savedKey = XmlFileCache.Key.of(filePath, checksum);
+            if (cache != null) {
+                cache.saveCandidateBook(savedKey, addressBook);
+            }
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the contents of the file at {@code filePath}, as found while the file of this
+     * storage was last read or saved if it has not changed since.
+     */
+    @Override
+    public long getCandidateBookChecksum(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (savedKey != null && filePath.equals(this.filePath)
+                && savedKey.equals(XmlFileCache.Key.of(filePath, savedKey.getChecksum()))) {
+            return savedKey.getChecksum();
+        }
+        return FileUtil.getChecksum(filePath);
     }
 
 }
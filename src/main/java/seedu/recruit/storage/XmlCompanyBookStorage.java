@@ -2,7 +2,6 @@ package seedu.recruit.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -13,19 +12,36 @@ import seedu.recruit.commons.core.LogsCenter;
 import seedu.recruit.commons.exceptions.DataConversionException;
 import seedu.recruit.commons.exceptions.IllegalValueException;
 import seedu.recruit.commons.util.FileUtil;
+import seedu.recruit.model.CompanyBook;
+import seedu.recruit.model.ReadOnlyCandidateBook;
 import seedu.recruit.model.ReadOnlyCompanyBook;
 
 /**
  * A class to access CompanyBook data stored as an xml file on the hard disk.
+ *
+ * The book can also be kept in a cache next to the file, which is read instead of the file for as long as the file
+ * is unchanged since the book was last read from or saved to it.
  */
 public class XmlCompanyBookStorage implements CompanyBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlCompanyBookStorage.class);
 
     private Path filePath;
+    private final XmlFileCache cache;
+    // the key of the file of this storage as it was last read or saved, if its checksum was found then
+    private XmlFileCache.Key savedKey;
 
     public XmlCompanyBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which keeps a cache of the book next to it if
+     * {@code isCached} is true.
+     */
+    public XmlCompanyBookStorage(Path filePath, boolean isCached) {
         this.filePath = filePath;
+        this.cache = isCached ? new XmlFileCache(filePath) : null;
     }
 
     @Override
@@ -34,28 +50,45 @@ public class XmlCompanyBookStorage implements CompanyBookStorage {
     }
 
     @Override
-    public Optional<ReadOnlyCompanyBook> readCompanyBook() throws DataConversionException, IOException {
-        return readCompanyBook(filePath);
+    public Optional<ReadOnlyCompanyBook> readCompanyBook(ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException {
+        return readCompanyBook(filePath, candidateBook);
     }
 
     /**
-     * Similar to {@link #readCompanyBook()}
+     * Similar to {@link #readCompanyBook(ReadOnlyCandidateBook)}
      * @param filePath location of the data. Cannot be null
      * @throws DataConversionException if the file is not in the correct format.
      */
     @Override
-    public Optional<ReadOnlyCompanyBook> readCompanyBook(Path filePath) throws DataConversionException,
-            FileNotFoundException {
+    public Optional<ReadOnlyCompanyBook> readCompanyBook(Path filePath, ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IOException {
         requireNonNull(filePath);
+        requireNonNull(candidateBook);
 
         if (!Files.exists(filePath)) {
             logger.info("CompanyBook file "  + filePath + " not found");
             return Optional.empty();
         }
 
-        XmlSerializableCompanyBook xmlAddressBook = XmlFileStorage.loadCompanyBookFromSaveFile(filePath);
+        // the cache is only kept for the file of this storage
+        XmlFileCache.Key key = cache != null && filePath.equals(this.filePath) ? cache.readKey() : null;
+        if (filePath.equals(this.filePath)) {
+            savedKey = key;
+        }
+        if (key != null) {
+            CompanyBook cachedBook = cache.readCompanyBook(key, candidateBook);
+            if (cachedBook != null) {
+                return Optional.of(cachedBook);
+            }
+        }
+
         try {
-            return Optional.of(xmlAddressBook.toModelType());
+            CompanyBook companyBook = XmlFileStorage.loadCompanyBookFromSaveFile(filePath, candidateBook);
+            if (key != null) {
+                cache.saveCompanyBook(key, companyBook);
+            }
+            return Optional.of(companyBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -76,7 +109,27 @@ public class XmlCompanyBookStorage implements CompanyBookStorage {
         requireNonNull(companyBook);
         requireNonNull(filePath);
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveCompanyBookToFile(filePath, new XmlSerializableCompanyBook(companyBook));
+        long checksum = XmlFileStorage.saveCompanyBookToFile(filePath, companyBook);
+        if (filePath.equals(this.filePath)) {
+            savedKey = XmlFileCache.Key.of(filePath, checksum);
+            if (cache != null) {
+                cache.saveCompanyBook(savedKey, companyBook);
+            }
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the contents of the file at {@code filePath}, as found while the file of this
+     * storage was last read or saved if it has not changed since.
+     */
+    @Override
+    public long getCompanyBookChecksum(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (savedKey != null && filePath.equals(this.filePath)
+                && savedKey.equals(XmlFileCache.Key.of(filePath, savedKey.getChecksum()))) {
+            return savedKey.getChecksum();
+        }
+        return FileUtil.getChecksum(filePath);
     }
 
 }
@@ -0,0 +1,185 @@
+package seedu.recruit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Logger;
+
+import seedu.recruit.commons.core.LogsCenter;
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.exceptions.IllegalValueException;
+import seedu.recruit.commons.util.FileUtil;
+import seedu.recruit.model.CandidateBook;
+import seedu.recruit.model.CompanyBook;
+import seedu.recruit.model.ReadOnlyCandidateBook;
+import seedu.recruit.model.ReadOnlyCompanyBook;
+
+/**
+ * A copy of the book in an xml file, kept next to it in the binary format of {@link BinaryFileStorage}, so that the
+ * book can be read again without parsing the xml file for as long as the file is unchanged.
+ *
+ * The cache starts with the {@link Key} of the xml file it was made from, and is only read if the xml file still has
+ * that key. A cache that is missing, out of date or unreadable is simply not used, and neither is one that cannot be
+ * written, as the xml file is always there to fall back on.
+ */
+class XmlFileCache {
+
+    static final String CACHE_FILE_SUFFIX = ".cache";
+
+    private static final Logger logger = LogsCenter.getLogger(XmlFileCache.class);
+    private static final int CACHE_MAGIC = 0x52424B43;
+    private static final int HEADER_SIZE = Integer.BYTES + 3 * Long.BYTES;
+
+    private final Path xmlFile;
+    private final Path cacheFile;
+
+    XmlFileCache(Path xmlFile) {
+        requireNonNull(xmlFile);
+        this.xmlFile = xmlFile;
+        this.cacheFile = Paths.get(xmlFile.toString() + CACHE_FILE_SUFFIX);
+    }
+
+    Path getCacheFilePath() {
+        return cacheFile;
+    }
+
+    /**
+     * Returns the key of the xml file as it is now.
+     */
+    Key readKey() throws IOException {
+        return Key.of(xmlFile, FileUtil.getChecksum(xmlFile));
+    }
+
+    /**
+     * Returns the candidate book in the cache if it was made from the xml file with {@code key}, or null if not.
+     */
+    CandidateBook readCandidateBook(Key key) {
+        return read(key, BinaryFileStorage.CANDIDATE_BOOK, BinaryFileStorage::readCandidateBook);
+    }
+
+    /**
+     * Returns the company book in the cache if it was made from the xml file with {@code key}, or null if not.
+     * The candidates shortlisted for its job offers are taken from {@code candidateBook}.
+     */
+    CompanyBook readCompanyBook(Key key, ReadOnlyCandidateBook candidateBook) {
+        return read(key, BinaryFileStorage.COMPANY_BOOK,
+                reader -> BinaryFileStorage.readCompanyBook(reader, candidateBook));
+    }
+
+    /**
+     * Replaces the cache with {@code candidateBook}, as read from or saved to the xml file with {@code key}.
+     */
+    void saveCandidateBook(Key key, ReadOnlyCandidateBook candidateBook) {
+        try {
+            save(key, BinaryFileStorage.writerFor(candidateBook));
+        } catch (IOException ioe) {
+            logger.warning("Failed to save cache " + cacheFile + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the cache with {@code companyBook}, as read from or saved to the xml file with {@code key}.
+     */
+    void saveCompanyBook(Key key, ReadOnlyCompanyBook companyBook) {
+        try {
+            save(key, BinaryFileStorage.writerFor(companyBook));
+        } catch (IOException ioe) {
+            logger.warning("Failed to save cache " + cacheFile + ": " + ioe.getMessage());
+        }
+    }
+
+    private <T> T read(Key key, int bookType, BookReader<T> bookReader) {
+        requireNonNull(key);
+        if (!Files.exists(cacheFile)) {
+            return null;
+        }
+
+        try {
+            try (InputStream in = Files.newInputStream(cacheFile)) {
+                DataInputStream header = new DataInputStream(in);
+                if (header.readInt() != CACHE_MAGIC
+                        || !key.equals(new Key(header.readLong(), header.readLong(), header.readLong()))) {
+                    logger.fine("Cache " + cacheFile + " is out of date");
+                    return null;
+                }
+            }
+            return bookReader.read(new BinaryBookReader(cacheFile, HEADER_SIZE, bookType));
+        } catch (IOException | DataConversionException | IllegalValueException e) {
+            logger.info("Failed to read cache " + cacheFile + ": " + e);
+            return null;
+        }
+    }
+
+    private void save(Key key, BinaryBookWriter writer) throws IOException {
+        requireNonNull(key);
+        Path tempFile = Paths.get(cacheFile.toString() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(CACHE_MAGIC);
+            out.writeLong(key.size);
+            out.writeLong(key.lastModifiedTime);
+            out.writeLong(key.checksum);
+            writer.writeTo(out);
+        }
+        Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a book from the binary copy in the cache.
+     */
+    @FunctionalInterface
+    private interface BookReader<T> {
+        T read(BinaryBookReader reader) throws DataConversionException, IllegalValueException;
+    }
+
+    /**
+     * The size, time of last modification and checksum of the contents of an xml file, which together tell whether
+     * the file has changed since a cache was made from it.
+     */
+    static final class Key {
+        private final long size;
+        private final long lastModifiedTime;
+        private final long checksum;
+
+        private Key(long size, long lastModifiedTime, long checksum) {
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns the key of {@code file} as it is now, given the CRC32 {@code checksum} of its contents.
+         */
+        static Key of(Path file, long checksum) throws IOException {
+            return new Key(Files.size(file), Files.getLastModifiedTime(file).toMillis(), checksum);
+        }
+
+        /**
+         * Returns the CRC32 checksum of the contents of the file, as it was when the key was made.
+         */
+        long getChecksum() {
+            return checksum;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Key // instanceof handles nulls
+                    && size == ((Key) other).size
+                    && lastModifiedTime == ((Key) other).lastModifiedTime
+                    && checksum == ((Key) other).checksum);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size ^ lastModifiedTime ^ checksum);
+        }
+    }
+}
@@ -1,64 +1,190 @@
 package seedu.recruit.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
-
-import javax.xml.bind.JAXBException;
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.recruit.commons.exceptions.DataConversionException;
-import seedu.recruit.commons.util.XmlUtil;
+import seedu.recruit.commons.exceptions.IllegalValueException;
+import seedu.recruit.model.CandidateBook;
+import seedu.recruit.model.CompanyBook;
+import seedu.recruit.model.ReadOnlyCandidateBook;
+import seedu.recruit.model.ReadOnlyCompanyBook;
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.company.Company;
+import seedu.recruit.model.joboffer.JobOffer;
 
 /**
  * Stores RecruitBook data in an XML file
+ *
+ * The files are in the format of {@link XmlSerializableCandidateBook} and {@link XmlSerializableCompanyBook}, but
+ * are read and written one candidate, company or job offer at a time, straight from and into the model. The items
+ * read are converted into the model by a {@link ParallelConverter}.
  */
 public class XmlFileStorage {
+
+    private static final String CANDIDATE_BOOK_ELEMENT = "candidatebook";
+    private static final String CANDIDATE_ELEMENT = "candidates";
+    private static final String COMPANY_BOOK_ELEMENT = "companybook";
+    private static final String COMPANY_ELEMENT = "companies";
+    private static final String JOB_OFFER_ELEMENT = "jobList";
+    private static final String VERSION_ATTRIBUTE = "version";
+
     /**
      * Saves the given CandidateBook data to the specified file.
+     * Returns the CRC32 checksum of the file as written.
      */
-    public static void saveCandidateBookToFile(Path path, XmlSerializableCandidateBook candidateBook)
-            throws FileNotFoundException {
-        try {
-            XmlUtil.saveDataToFile(path, candidateBook);
-        } catch (JAXBException e) {
-            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+    public static long saveCandidateBookToFile(Path path, ReadOnlyCandidateBook candidateBook) throws IOException {
+        List<Candidate> candidates = candidateBook.getCandidateList();
+        XmlBookWriter writer = new XmlBookWriter(path);
+        try (XmlBookWriter out = writer) {
+            if (candidates.isEmpty()) {
+                out.emptyRoot(CANDIDATE_BOOK_ELEMENT);
+            } else {
+                out.startElement(CANDIDATE_BOOK_ELEMENT);
+                for (Candidate candidate : candidates) {
+                    out.item(CANDIDATE_ELEMENT, XmlAdaptedCandidate.class, new XmlAdaptedCandidate(candidate));
+                }
+                out.endElement();
+            }
         }
+        return writer.getChecksum();
     }
 
-
     /**
-     * Returns CandidateBook in the file or an empty CandidateBookgit
+     * Returns CandidateBook in the file.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableCandidateBook loadCandidateBookFromSaveFile(Path file) throws DataConversionException,
-                                                                            FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableCandidateBook.class);
-        } catch (JAXBException e) {
-            throw new DataConversionException(e);
+    public static CandidateBook loadCandidateBookFromSaveFile(Path file) throws DataConversionException,
+            IllegalValueException, FileNotFoundException {
+        CandidateBook candidateBook = new CandidateBook();
+        ParallelConverter<XmlAdaptedCandidate, Candidate> candidates =
+                new ParallelConverter<>(XmlAdaptedCandidate::toModelType, candidate -> {
+                    if (candidateBook.hasCandidate(candidate)) {
+                        throw new IllegalValueException(XmlSerializableCandidateBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    candidateBook.addCandidate(candidate);
+                });
+        try (XmlBookReader reader = new XmlBookReader(file, CANDIDATE_BOOK_ELEMENT)) {
+            while (reader.nextItem()) {
+                if (!reader.getItemName().equals(CANDIDATE_ELEMENT)) {
+                    reader.skipItem();
+                    continue;
+                }
+                XmlAdaptedCandidate candidate = reader.readItem(XmlAdaptedCandidate.class);
+                candidate.assignMissingId();
+                candidates.add(candidate);
+            }
+        } catch (DataConversionException dce) {
+            // the candidates read before the unreadable part of the file are checked first
+            candidates.flush();
+            throw dce;
         }
+        candidates.flush();
+        return candidateBook;
     }
 
     /**
      * Saves the given CompanyBook data to the specified file.
+     * Returns the CRC32 checksum of the file as written.
      */
-    public static void saveCompanyBookToFile(Path path, XmlSerializableCompanyBook companyBook)
-            throws FileNotFoundException {
-        try {
-            XmlUtil.saveDataToFile(path, companyBook);
-        } catch (JAXBException e) {
-            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+    public static long saveCompanyBookToFile(Path path, ReadOnlyCompanyBook companyBook) throws IOException {
+        List<Company> companies = companyBook.getCompanyList();
+        List<JobOffer> jobOffers = companyBook.getCompanyJobList();
+        XmlBookWriter writer = new XmlBookWriter(path);
+        try (XmlBookWriter out = writer) {
+            if (companies.isEmpty() && jobOffers.isEmpty()) {
+                out.emptyRoot(COMPANY_BOOK_ELEMENT);
+                out.attribute(VERSION_ATTRIBUTE, String.valueOf(XmlSerializableCompanyBook.VERSION));
+            } else {
+                out.startElement(COMPANY_BOOK_ELEMENT);
+                out.attribute(VERSION_ATTRIBUTE, String.valueOf(XmlSerializableCompanyBook.VERSION));
+                for (Company company : companies) {
+                    out.item(COMPANY_ELEMENT, XmlAdaptedCompany.class, new XmlAdaptedCompany(company));
+                }
+                for (JobOffer jobOffer : jobOffers) {
+                    out.item(JOB_OFFER_ELEMENT, XmlAdaptedJobOffer.class, new XmlAdaptedJobOffer(jobOffer));
+                }
+                out.endElement();
+            }
         }
+        return writer.getChecksum();
     }
 
     /**
-     * Returns CompanyBook in the file or an empty CompanyBook
+     * Returns CompanyBook in the file, with the candidates shortlisted for its job offers taken from
+     * {@code candidateBook}.
+     *
+     * @throws DataConversionException if the file is not a company book, or of a later version.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableCompanyBook loadCompanyBookFromSaveFile(Path file) throws DataConversionException,
-            FileNotFoundException {
+    public static CompanyBook loadCompanyBookFromSaveFile(Path file, ReadOnlyCandidateBook candidateBook)
+            throws DataConversionException, IllegalValueException, FileNotFoundException {
+        CompanyBook companyBook = new CompanyBook();
+        ParallelConverter<XmlAdaptedCompany, Company> companies =
+                new ParallelConverter<>(XmlAdaptedCompany::toModelType, company -> {
+                    if (companyBook.hasCompany(company)) {
+                        throw new IllegalValueException(XmlSerializableCompanyBook.MESSAGE_DUPLICATE_COMPANY);
+                    }
+                    companyBook.addCompany(company);
+                });
+        // job offers are added once all companies are, as when the whole file is converted at once
+        List<XmlAdaptedJobOffer> jobOffers = new ArrayList<>();
+        try (XmlBookReader reader = new XmlBookReader(file, COMPANY_BOOK_ELEMENT)) {
+            checkVersion(reader.getRootAttribute(VERSION_ATTRIBUTE), file);
+            while (reader.nextItem()) {
+                switch (reader.getItemName()) {
+                case COMPANY_ELEMENT:
+                    XmlAdaptedCompany company = reader.readItem(XmlAdaptedCompany.class);
+                    company.assignMissingId();
+                    companies.add(company);
+                    break;
+                case JOB_OFFER_ELEMENT:
+                    XmlAdaptedJobOffer jobOffer = reader.readItem(XmlAdaptedJobOffer.class);
+                    jobOffer.assignMissingId();
+                    jobOffers.add(jobOffer);
+                    break;
+                default:
+                    reader.skipItem();
+                }
+            }
+        } catch (DataConversionException dce) {
+            // the companies read before the unreadable part of the file are checked first
+            companies.flush();
+            throw dce;
+        }
+        companies.flush();
+
+        ShortlistResolver shortlistResolver = new ShortlistResolver(candidateBook);
+        ParallelConverter.convertAll(jobOffers, jobOffer -> jobOffer.toModelType(shortlistResolver), jobOffer -> {
+            if (companyBook.hasJobOffer(jobOffer)) {
+                throw new IllegalValueException(XmlSerializableCompanyBook.MESSAGE_DUPLICATE_JOB_OFFERS);
+            }
+            companyBook.addJobOffer(jobOffer);
+        });
+        return companyBook;
+    }
+
+    /**
+     * Throws if {@code version}, the version of the company book in {@code file}, is later than this one.
+     * A book without a version is of the version before versions were saved.
+     */
+    private static void checkVersion(String version, Path file) throws DataConversionException {
+        if (version == null) {
+            return;
+        }
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableCompanyBook.class);
-        } catch (JAXBException e) {
-            throw new DataConversionException(e);
+            if (Integer.parseInt(version) <= XmlSerializableCompanyBook.VERSION) {
+                return;
+            }
+        } catch (NumberFormatException nfe) {
+            // reported as an unsupported version below
         }
+        throw new DataConversionException(
+                new IllegalValueException("Unsupported version " + version + " of company book: " + file));
     }
 
 }
@@ -10,7 +10,6 @@ import javax.xml.bind.annotation.XmlRootElement;
 import seedu.recruit.commons.exceptions.IllegalValueException;
 import seedu.recruit.model.CandidateBook;
 import seedu.recruit.model.ReadOnlyCandidateBook;
-import seedu.recruit.model.candidate.Candidate;
 
 /**
  * An Immutable CandidateBook that is serializable to XML format
@@ -47,13 +46,13 @@ public class XmlSerializableCandidateBook {
      */
     public CandidateBook toModelType() throws IllegalValueException {
         CandidateBook candidateBook = new CandidateBook();
-        for (XmlAdaptedCandidate p : candidates) {
-            Candidate candidate = p.toModelType();
+        candidates.forEach(XmlAdaptedCandidate::assignMissingId);
+        ParallelConverter.convertAll(candidates, XmlAdaptedCandidate::toModelType, candidate -> {
             if (candidateBook.hasCandidate(candidate)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             candidateBook.addCandidate(candidate);
-        }
+        });
         return candidateBook;
     }
 
@@ -4,24 +4,30 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.recruit.commons.exceptions.IllegalValueException;
 import seedu.recruit.model.CompanyBook;
+import seedu.recruit.model.ReadOnlyCandidateBook;
 import seedu.recruit.model.ReadOnlyCompanyBook;
-import seedu.recruit.model.company.Company;
-import seedu.recruit.model.joboffer.JobOffer;
 
 /**
  * An Immutable CompanyBook that is serializable to XML format
+ *
+ * Books of version {@value #VERSION} save the candidates shortlisted for job offers by id, to be found in the
+ * candidate book when read. Books saved before versions were saved hold a copy of each shortlisted candidate instead.
  */
 @XmlRootElement(name = "companybook")
 public class XmlSerializableCompanyBook {
 
     public static final String MESSAGE_DUPLICATE_COMPANY = "Company list contains duplicate company(s).";
     public static final String MESSAGE_DUPLICATE_JOB_OFFERS = "Job list contains duplicate job offer(s).";
+    public static final int VERSION = 2;
 
+    @XmlAttribute
+    private Integer version;
     @XmlElement
     private List<XmlAdaptedCompany> companies;
     @XmlElement(required = true)
@@ -41,32 +47,35 @@ public class XmlSerializableCompanyBook {
      */
     public XmlSerializableCompanyBook(ReadOnlyCompanyBook src) {
         this();
+        version = VERSION;
         companies.addAll(src.getCompanyList().stream().map(XmlAdaptedCompany::new).collect(Collectors.toList()));
         jobList.addAll(src.getCompanyJobList().stream().map(XmlAdaptedJobOffer::new).collect(Collectors.toList()));
     }
 
     /**
-     * Converts this CompanyBook into the model's {@code CompanyBook} object.
+     * Converts this CompanyBook into the model's {@code CompanyBook} object, with the candidates shortlisted for its
+     * job offers taken from {@code candidateBook}.
      *
      * @throws IllegalValueException if there were any data constraints violated or duplicates in the Company Book
      * {@code XmlAdaptedCompany}.
      */
-    public CompanyBook toModelType() throws IllegalValueException {
+    public CompanyBook toModelType(ReadOnlyCandidateBook candidateBook) throws IllegalValueException {
         CompanyBook companyBook = new CompanyBook();
-        for (XmlAdaptedCompany p : companies) {
-            Company company = p.toModelType();
+        companies.forEach(XmlAdaptedCompany::assignMissingId);
+        jobList.forEach(XmlAdaptedJobOffer::assignMissingId);
+        ParallelConverter.convertAll(companies, XmlAdaptedCompany::toModelType, company -> {
             if (companyBook.hasCompany(company)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_COMPANY);
             }
             companyBook.addCompany(company);
-        }
-        for (XmlAdaptedJobOffer j : jobList) {
-            JobOffer jobOffer = j.toModelType();
+        });
+        ShortlistResolver shortlistResolver = new ShortlistResolver(candidateBook);
+        ParallelConverter.convertAll(jobList, jobOffer -> jobOffer.toModelType(shortlistResolver), jobOffer -> {
             if (companyBook.hasJobOffer(jobOffer)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_JOB_OFFERS);
             }
             companyBook.addJobOffer(jobOffer);
-        }
+        });
         return companyBook;
     }
 
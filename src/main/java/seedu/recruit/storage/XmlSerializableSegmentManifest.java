@@ -0,0 +1,41 @@
+package seedu.recruit.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlList;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * The manifest of a candidate book split into segment files, which is serializable to XML format.
+ * It holds the number of segments and the ids of all candidates, in the order of the book.
+ */
+@XmlRootElement(name = "segmentmanifest")
+public class XmlSerializableSegmentManifest {
+
+    @XmlElement(required = true)
+    private int segmentCount;
+    @XmlElement
+    @XmlList
+    private List<Long> order = new ArrayList<>();
+
+    /**
+     * Creates an empty XmlSerializableSegmentManifest.
+     * This empty constructor is required for marshalling.
+     */
+    public XmlSerializableSegmentManifest() {}
+
+    public XmlSerializableSegmentManifest(int segmentCount, List<Long> order) {
+        this.segmentCount = segmentCount;
+        this.order.addAll(order);
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    public List<Long> getOrder() {
+        return order;
+    }
+}
@@ -16,6 +16,8 @@ import javafx.scene.layout.Region;
 import seedu.recruit.commons.core.LogsCenter;
 import seedu.recruit.commons.events.model.CandidateBookChangedEvent;
 import seedu.recruit.commons.events.model.CompanyBookChangedEvent;
+import seedu.recruit.commons.events.storage.CandidateBookSavedEvent;
+import seedu.recruit.commons.events.storage.CompanyBookSavedEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -109,21 +111,29 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @Subscribe
     public void handleCandidateBookChangedEvent(CandidateBookChangedEvent abce) {
+        setTotalCandidates(abce.data.getCandidateList().size());
+    }
+
+    @Subscribe
+    public void handleCandidateBookSavedEvent(CandidateBookSavedEvent cbse) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce,
+        logger.info(LogsCenter.getEventHandlingLogMessage(cbse,
                 "Candidate Book - Setting last updated status to " + lastUpdated));
         setCandidateSyncStatus(String.format(SYNC_CANDIDATE_STATUS_UPDATED, lastUpdated));
-        setTotalCandidates(abce.data.getCandidateList().size());
     }
 
     @Subscribe
     public void handleCompanyBookChangedEvent(CompanyBookChangedEvent abce) {
+        setTotalCompanies(abce.data.getCompanyList().size());
+    }
+
+    @Subscribe
+    public void handleCompanyBookSavedEvent(CompanyBookSavedEvent cbse) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce,
+        logger.info(LogsCenter.getEventHandlingLogMessage(cbse,
                 "Company Book - Setting last updated status to " + lastUpdated));
         setCompanySyncStatus(String.format(SYNC_COMPANY_STATUS_UPDATED, lastUpdated));
-        setTotalCompanies(abce.data.getCompanyList().size());
     }
 }
@@ -84,6 +84,7 @@ public class TestApp extends MainApp {
         userPrefs.updateLastUsedGuiSetting(new GuiSettings(600.0, 600.0, (int) x, (int) y));
         userPrefs.setCandidateBookFilePath(saveCandidateFileLocation);
         userPrefs.setCompanyBookFilePath(saveCompanyFileLocation);
+        userPrefs.setStorageWriteDelay(0);
         return userPrefs;
     }
 
@@ -105,7 +106,7 @@ public class TestApp extends MainApp {
      */
     public CompanyBook readStorageCompanyBook() {
         try {
-            return new CompanyBook(storage.readCompanyBook().get());
+            return new CompanyBook(storage.readCompanyBook(readStorageCandidateBook()).get());
         } catch (DataConversionException dce) {
             throw new AssertionError("Data is not in the CompanyBook format.", dce);
         } catch (IOException ioe) {
@@ -0,0 +1,31 @@
+package seedu.recruit.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PhaseTimingsTest {
+
+    private final PhaseTimings timings = new PhaseTimings();
+
+    @Test
+    public void time_phases_resultsReturnedAndPhasesListedInOrderEnded() {
+        assertEquals("config", timings.time("config", () -> "config"));
+        assertEquals(Integer.valueOf(2), timings.time("model", () -> timings.time("candidate book", () -> 2)));
+        assertTrue(timings.toString().matches("config: \\d+ ms, candidate book: \\d+ ms, model: \\d+ ms"));
+    }
+
+    @Test
+    public void time_phaseThrows_timeStillRecorded() {
+        try {
+            timings.time("failing", () -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException ise) {
+            assertTrue(timings.toString().matches("failing: \\d+ ms"));
+            return;
+        }
+        throw new AssertionError("Expected the phase to throw");
+    }
+}
@@ -132,13 +132,13 @@ public class AddJobDetailsCommandTest {
         }
 
         @Override
-        public int getCompanyIndexFromName(CompanyName companyName) {
-            for (int index = 0; index < companyList.size(); index++) {
-                if (companyList.get(index).getName().equals(companyName)) {
-                    return index;
+        public Company getCompanyByName(CompanyName companyName) {
+            for (Company company : companyList) {
+                if (company.getName().equals(companyName)) {
+                    return company;
                 }
             }
-            return -1;
+            return null;
         }
 
 
@@ -164,13 +164,13 @@ public class AddJobDetailsCommandTest {
         }
 
         @Override
-        public int getCompanyIndexFromName(CompanyName companyName) {
-            for (int index = 0; index < companyList.size(); index++) {
-                if (companyList.get(index).getName().equals(companyName)) {
-                    return index;
+        public Company getCompanyByName(CompanyName companyName) {
+            for (Company company : companyList) {
+                if (company.getName().equals(companyName)) {
+                    return company;
                 }
             }
-            return -1;
+            return null;
         }
 
         @Override
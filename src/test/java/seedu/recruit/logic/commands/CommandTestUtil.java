@@ -248,6 +248,11 @@ public class CommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Candidate getCandidateById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCandidate(Candidate candidate) {
             throw new AssertionError("This method should not be called.");
@@ -308,6 +313,11 @@ public class CommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void runInTransaction(Runnable changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void resetCompanyData(ReadOnlyCompanyBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -349,12 +359,17 @@ public class CommandTestUtil {
         }
 
         @Override
-        public int getCompanyIndexFromName(CompanyName companyName) {
+        public Company getCompanyFromIndex(int index) {
             throw new AssertionError("This method should not be called.");
-        };
+        }
 
         @Override
-        public Company getCompanyFromIndex(int index) {
+        public Company getCompanyById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Company getCompanyByName(CompanyName companyName) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -373,6 +388,11 @@ public class CommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public JobOffer getJobOfferById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasJobOffer(JobOffer jobOffer) {
             throw new AssertionError("This method should not be called.");
@@ -418,6 +438,11 @@ public class CommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<JobOffer> getJobOffersShortlisting(Candidate candidate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public EmailUtil getEmailUtil() {
             throw new AssertionError("This method should not be called.");
@@ -38,7 +38,6 @@ public class SortCandidateCommandTest {
     public void execute_sortByName_success() {
 
         expectedModel.sortCandidates(PREFIX_NAME);
-        expectedModel.commitRecruitBook();
         SortCandidateCommand sortCandidateCommand = new SortCandidateCommand(PREFIX_NAME);
         String expectedMessage = sortCandidateCommand.MESSAGE_SUCCESS;
 
@@ -51,7 +50,6 @@ public class SortCandidateCommandTest {
     public void execute_sortByAge_success() {
 
         expectedModel.sortCandidates(PREFIX_AGE);
-        expectedModel.commitRecruitBook();
         SortCandidateCommand sortCandidateCommand = new SortCandidateCommand(PREFIX_AGE);
         String expectedMessage = sortCandidateCommand.MESSAGE_SUCCESS;
 
@@ -64,7 +62,6 @@ public class SortCandidateCommandTest {
     public void execute_sortByEmail_success() {
 
         expectedModel.sortCandidates(PREFIX_EMAIL);
-        expectedModel.commitRecruitBook();
         SortCandidateCommand sortCandidateCommand = new SortCandidateCommand(PREFIX_EMAIL);
         String expectedMessage = sortCandidateCommand.MESSAGE_SUCCESS;
 
@@ -77,7 +74,6 @@ public class SortCandidateCommandTest {
     public void execute_sortByJob_success() {
 
         expectedModel.sortCandidates(PREFIX_JOB);
-        expectedModel.commitRecruitBook();
         SortCandidateCommand sortCandidateCommand = new SortCandidateCommand(PREFIX_JOB);
         String expectedMessage = sortCandidateCommand.MESSAGE_SUCCESS;
 
@@ -90,7 +86,6 @@ public class SortCandidateCommandTest {
     public void execute_sortByEducation_success() {
 
         expectedModel.sortCandidates(PREFIX_EDUCATION);
-        expectedModel.commitRecruitBook();
         SortCandidateCommand sortCandidateCommand = new SortCandidateCommand(PREFIX_EDUCATION);
         String expectedMessage = sortCandidateCommand.MESSAGE_SUCCESS;
 
@@ -103,7 +98,6 @@ public class SortCandidateCommandTest {
     public void execute_sortBySalary_success() {
 
         expectedModel.sortCandidates(PREFIX_SALARY);
-        expectedModel.commitRecruitBook();
         SortCandidateCommand sortCandidateCommand = new SortCandidateCommand(PREFIX_SALARY);
         String expectedMessage = sortCandidateCommand.MESSAGE_SUCCESS;
 
@@ -116,7 +110,6 @@ public class SortCandidateCommandTest {
     public void execute_sortInReverse_success() {
 
         expectedModel.sortCandidates(PREFIX_REVERSE);
-        expectedModel.commitRecruitBook();
         SortCandidateCommand sortCandidateCommand = new SortCandidateCommand(PREFIX_REVERSE);
         String expectedMessage = sortCandidateCommand.MESSAGE_SUCCESS;
 
@@ -34,7 +34,6 @@ public class SortCompanyCommandTest {
     public void execute_sortByCompanyName_success() {
 
         expectedModel.sortCompanies(PREFIX_COMPANY_NAME);
-        expectedModel.commitRecruitBook();
         SortCompanyCommand sortCompanyCommand = new SortCompanyCommand(PREFIX_COMPANY_NAME);
         String expectedMessage = sortCompanyCommand.MESSAGE_SUCCESS;
 
@@ -47,7 +46,6 @@ public class SortCompanyCommandTest {
     public void execute_sortByEmail_success() {
 
         expectedModel.sortCompanies(PREFIX_EMAIL);
-        expectedModel.commitRecruitBook();
         SortCompanyCommand sortCompanyCommand = new SortCompanyCommand(PREFIX_EMAIL);
         String expectedMessage = sortCompanyCommand.MESSAGE_SUCCESS;
 
@@ -60,7 +58,6 @@ public class SortCompanyCommandTest {
     public void execute_sortInReverse_success() {
 
         expectedModel.sortCompanies(PREFIX_REVERSE);
-        expectedModel.commitRecruitBook();
         SortCompanyCommand sortCompanyCommand = new SortCompanyCommand(PREFIX_REVERSE);
         String expectedMessage = sortCompanyCommand.MESSAGE_SUCCESS;
 
@@ -57,7 +57,6 @@ public class SortJobOfferCommandTest {
                 CASHIER_CHEVROLET, SALESPERSON_CHEVROLET, MANAGER_CHEVROLET, CASHIER_DODGE, SALESPERSON_DODGE,
                 MANAGER_DODGE));
         expectedModel.sortJobOffers(PREFIX_COMPANY_NAME);
-        expectedModel.commitRecruitBook();
         SortJobOfferCommand sortJobOfferCommand = new SortJobOfferCommand(PREFIX_COMPANY_NAME);
         String expectedMessage = sortJobOfferCommand.MESSAGE_SUCCESS;
 
@@ -73,7 +72,6 @@ public class SortJobOfferCommandTest {
                 MANAGER_CHEVROLET, MANAGER_DODGE, SALESPERSON_AUDI, SALESPERSON_BENTLEY, SALESPERSON_CHEVROLET,
                 SALESPERSON_DODGE));
         expectedModel.sortJobOffers(PREFIX_JOB);
-        expectedModel.commitRecruitBook();
         SortJobOfferCommand sortJobOfferCommand = new SortJobOfferCommand(PREFIX_JOB);
         String expectedMessage = sortJobOfferCommand.MESSAGE_SUCCESS;
 
@@ -89,7 +87,6 @@ public class SortJobOfferCommandTest {
                 SALESPERSON_CHEVROLET, SALESPERSON_BENTLEY, SALESPERSON_AUDI, MANAGER_DODGE, MANAGER_CHEVROLET,
                 MANAGER_BENTLEY, MANAGER_AUDI));
         expectedModel.sortJobOffers(PREFIX_AGE_RANGE);
-        expectedModel.commitRecruitBook();
         SortJobOfferCommand sortJobOfferCommand = new SortJobOfferCommand(PREFIX_AGE_RANGE);
         String expectedMessage = sortJobOfferCommand.MESSAGE_SUCCESS;
 
@@ -105,7 +102,6 @@ public class SortJobOfferCommandTest {
                 SALESPERSON_CHEVROLET, SALESPERSON_DODGE, CASHIER_AUDI, CASHIER_BENTLEY, CASHIER_CHEVROLET,
                 CASHIER_DODGE));
         expectedModel.sortJobOffers(PREFIX_EDUCATION);
-        expectedModel.commitRecruitBook();
         SortJobOfferCommand sortJobOfferCommand = new SortJobOfferCommand(PREFIX_EDUCATION);
         String expectedMessage = sortJobOfferCommand.MESSAGE_SUCCESS;
 
@@ -122,7 +118,6 @@ public class SortJobOfferCommandTest {
                 MANAGER_BENTLEY, MANAGER_AUDI
         ));
         expectedModel.sortJobOffers(PREFIX_SALARY);
-        expectedModel.commitRecruitBook();
         SortJobOfferCommand sortJobOfferCommand = new SortJobOfferCommand(PREFIX_SALARY);
         String expectedMessage = sortJobOfferCommand.MESSAGE_SUCCESS;
 
@@ -138,7 +133,6 @@ public class SortJobOfferCommandTest {
                 SALESPERSON_CHEVROLET, SALESPERSON_BENTLEY, SALESPERSON_AUDI, CASHIER_DODGE, CASHIER_CHEVROLET,
                 CASHIER_BENTLEY, CASHIER_AUDI));
         expectedModel.sortJobOffers(PREFIX_REVERSE);
-        expectedModel.commitRecruitBook();
         SortJobOfferCommand sortJobOfferCommand = new SortJobOfferCommand(PREFIX_REVERSE);
         String expectedMessage = sortJobOfferCommand.MESSAGE_SUCCESS;
 
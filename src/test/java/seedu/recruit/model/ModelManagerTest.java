@@ -1,26 +1,79 @@
 package seedu.recruit.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.recruit.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.recruit.logic.parser.CliSyntax.PREFIX_REVERSE;
 import static seedu.recruit.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.recruit.testutil.CandidateContainsFindKeywordsPredicateBuilder.KEY_NAME;
 import static seedu.recruit.testutil.TypicalPersons.ALICE;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.getTypicalCompanyBook;
 import static seedu.recruit.testutil.TypicalPersons.BENSON;
+import static seedu.recruit.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.recruit.commons.events.model.CandidateBookChangedEvent;
+import seedu.recruit.logic.CommandHistory;
+import seedu.recruit.logic.commands.FindCandidateCommand;
 import seedu.recruit.logic.parser.exceptions.ParseException;
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.candidate.CandidateContainsFindKeywordsPredicate;
+import seedu.recruit.model.joboffer.JobOffer;
+import seedu.recruit.testutil.CandidateBuilder;
 import seedu.recruit.testutil.RecruitBookBuilder;
+import seedu.recruit.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
+    // ================================== Recruit Book functions ======================================== //
+
+    @Test
+    public void runInTransaction_severalChanges_raisesOneEventAndCommitsOnce() {
+        modelManager.runInTransaction(() -> {
+            modelManager.addCandidate(ALICE);
+            modelManager.addCandidate(BENSON);
+        });
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof CandidateBookChangedEvent);
+
+        modelManager.undoRecruitBook();
+        assertFalse(modelManager.hasCandidate(ALICE));
+        assertFalse(modelManager.hasCandidate(BENSON));
+    }
+
+    @Test
+    public void runInTransaction_changesThrow_raisesEventWithoutCommitting() {
+        try {
+            modelManager.runInTransaction(() -> {
+                modelManager.addCandidate(ALICE);
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException ise) {
+            // expected
+        }
+
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof CandidateBookChangedEvent);
+        assertFalse(modelManager.canUndoRecruitBook());
+    }
+
     // ================================== Candidate Book functions ====================================== //
 
     @Test
@@ -40,12 +93,124 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasCandidate(ALICE));
     }
 
+    @Test
+    public void getCandidateById_editedCandidate_returnsEditedCandidateUntilDeleted() {
+        modelManager.addCandidate(ALICE);
+        Candidate older = new CandidateBuilder(ALICE).withAge("40").build();
+        Candidate editedAlice = new Candidate(ALICE.getId(), older.getName(), older.getGender(), older.getAge(),
+                older.getPhone(), older.getEmail(), older.getAddress(), older.getDesiredJob(), older.getEducation(),
+                older.getExpectedSalary(), older.getTags());
+        assertTrue(modelManager.getCandidateById(ALICE.getId()) == ALICE);
+
+        modelManager.updateCandidate(ALICE, editedAlice);
+        assertTrue(modelManager.getCandidateById(ALICE.getId()) == editedAlice);
+
+        modelManager.deleteCandidate(editedAlice);
+        assertEquals(null, modelManager.getCandidateById(ALICE.getId()));
+    }
+
+    @Test
+    public void deleteCandidate_shortlistedCandidate_removedFromEveryShortlist() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), getTypicalCompanyBook(),
+                new UserPrefs());
+        assertEquals(modelManager.getMasterJobList(), modelManager.getJobOffersShortlisting(ALICE));
+
+        modelManager.deleteCandidate(ALICE);
+        assertTrue(modelManager.getJobOffersShortlisting(ALICE).isEmpty());
+        for (JobOffer jobOffer : modelManager.getMasterJobList()) {
+            assertFalse(jobOffer.getObservableCandidateList().contains(ALICE));
+        }
+    }
+
+    @Test
+    public void getJobOffersShortlisting_candidateEditedKeepingId_foundById() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), getTypicalCompanyBook(),
+                new UserPrefs());
+        Candidate older = new CandidateBuilder(ALICE).withAge("40").build();
+        Candidate editedAlice = new Candidate(ALICE.getId(), older.getName(), older.getGender(), older.getAge(),
+                older.getPhone(), older.getEmail(), older.getAddress(), older.getDesiredJob(), older.getEducation(),
+                older.getExpectedSalary(), older.getTags());
+
+        // the shortlists hold ALICE, which is not equal to editedAlice but has its id
+        assertEquals(modelManager.getMasterJobList(), modelManager.getJobOffersShortlisting(editedAlice));
+    }
+
+    @Test
+    public void updateCandidate_shortlistedCandidate_updatedInEveryShortlist() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), getTypicalCompanyBook(),
+                new UserPrefs());
+        Candidate editedAlice = new CandidateBuilder(ALICE).withAge("40").build();
+
+        modelManager.updateCandidate(ALICE, editedAlice);
+        assertTrue(modelManager.getJobOffersShortlisting(ALICE).isEmpty());
+        assertEquals(modelManager.getMasterJobList(), modelManager.getJobOffersShortlisting(editedAlice));
+        for (JobOffer jobOffer : modelManager.getMasterJobList()) {
+            assertEquals(Collections.singletonList(editedAlice), jobOffer.getObservableCandidateList());
+        }
+    }
+
     @Test
     public void getFilteredCandidateList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         modelManager.getFilteredCandidateList().remove(0);
     }
 
+    @Test
+    public void updateFilteredCandidateList_aboveParallelFilterThreshold_filtersAndTracksEdits() {
+        CandidateBook candidateBook = new
+                RecruitBookBuilder().withCandidate(ALICE).withCandidate(BENSON).buildCandidateBook();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelFilterThreshold(1);
+        modelManager = new ModelManager(candidateBook, new CompanyBook(), userPrefs);
+
+        modelManager.updateFilteredCandidateList(candidate -> candidate.getName().fullName.startsWith("Alice"));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredCandidateList());
+
+        Candidate editedBenson = new CandidateBuilder(BENSON).withName("Alice Meier").build();
+        modelManager.updateCandidate(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredCandidateList());
+    }
+
+    @Test
+    public void updateFilteredCandidateList_findCommandAboveParallelFilterThreshold_filtersAndTracksEdits() {
+        CandidateBook candidateBook = new
+                RecruitBookBuilder().withCandidate(ALICE).withCandidate(BENSON).buildCandidateBook();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelFilterThreshold(1);
+        modelManager = new ModelManager(candidateBook, new CompanyBook(), userPrefs);
+
+        HashMap<String, List<String>> keywords = new HashMap<>();
+        keywords.put(KEY_NAME, Collections.singletonList("Alice"));
+        new FindCandidateCommand(new CandidateContainsFindKeywordsPredicate(keywords))
+                .execute(modelManager, new CommandHistory(), userPrefs);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredCandidateList());
+
+        // candidates edited after the filter was evaluated are tested against the predicate itself
+        Candidate editedBenson = new CandidateBuilder(BENSON).withName("Alice Meier").build();
+        modelManager.updateCandidate(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredCandidateList());
+        Candidate editedAlice = new CandidateBuilder(ALICE).withName("Carl Pauline").build();
+        modelManager.updateCandidate(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedBenson), modelManager.getFilteredCandidateList());
+    }
+
+    @Test
+    public void sortCandidates_sortsDisplayedListOnly() {
+        CandidateBook candidateBook = new
+                RecruitBookBuilder().withCandidate(BENSON).withCandidate(ALICE).buildCandidateBook();
+        modelManager = new ModelManager(candidateBook, new CompanyBook(), new UserPrefs());
+
+        modelManager.sortCandidates(PREFIX_NAME);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredCandidateList());
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getMasterCandidateList());
+        assertFalse(modelManager.canUndoRecruitBook());
+
+        modelManager.sortCandidates(PREFIX_REVERSE);
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredCandidateList());
+        modelManager.sortCandidates(PREFIX_REVERSE);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredCandidateList());
+    }
+
     @Test
     public void equals() throws ParseException {
         CandidateBook candidateBook = new
@@ -4,16 +4,24 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.CASHIER_AUDI;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.getTypicalCompanyBook;
+import static seedu.recruit.testutil.TypicalPersons.ALICE;
 import static seedu.recruit.testutil.TypicalPersons.AMY;
+import static seedu.recruit.testutil.TypicalPersons.BENSON;
 import static seedu.recruit.testutil.TypicalPersons.BOB;
 import static seedu.recruit.testutil.TypicalPersons.CARL;
+import static seedu.recruit.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.joboffer.JobOffer;
 import seedu.recruit.testutil.RecruitBookBuilder;
 
 public class VersionedRecruitBookTest {
@@ -210,6 +218,71 @@ public class VersionedRecruitBookTest {
         assertThrows(VersionedRecruitBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void commit_beyondHistoryLimit_oldestStatesRemoved() {
+        VersionedRecruitBook versionedRecruitBook = new VersionedRecruitBook(
+                emptyRecruitBook.getCandidateBook(), emptyRecruitBook.getCompanyBook(), 2);
+        for (RecruitBook recruitBook : Arrays.asList(recruitBookWithAmy, recruitBookWithBob, recruitBookWithCarl)) {
+            versionedRecruitBook.resetData(recruitBook.getCandidateBook(), recruitBook.getCompanyBook());
+            versionedRecruitBook.commit();
+        }
+
+        assertAddressBookListStatus(versionedRecruitBook,
+                Arrays.asList(recruitBookWithAmy, recruitBookWithBob),
+                recruitBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void constructor_negativeHistoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedRecruitBook(
+                emptyRecruitBook.getCandidateBook(), emptyRecruitBook.getCompanyBook(), -1));
+    }
+
+    @Test
+    public void undo_afterShortlisting_restoresShortlistWithoutChangingSharedJobOffer() {
+        VersionedRecruitBook versionedRecruitBook = new VersionedRecruitBook(getTypicalAddressBook(),
+                getTypicalCompanyBook());
+        JobOffer cashier = versionedRecruitBook.getCompanyJobList().get(0);
+        assertEquals(CASHIER_AUDI, cashier);
+
+        versionedRecruitBook.shortlistCandidateToJobOffer(BENSON, cashier);
+        versionedRecruitBook.commit();
+        assertEquals(Arrays.asList(ALICE, BENSON),
+                versionedRecruitBook.getCompanyJobList().get(0).getObservableCandidateList());
+        assertEquals(Collections.singletonList(ALICE), cashier.getObservableCandidateList());
+
+        versionedRecruitBook.undo();
+        assertTrue(versionedRecruitBook.getCompanyJobList().get(0) == cashier);
+
+        versionedRecruitBook.redo();
+        assertEquals(Arrays.asList(ALICE, BENSON),
+                versionedRecruitBook.getCompanyJobList().get(0).getObservableCandidateList());
+    }
+
+    @Test
+    public void undoRedo_removedCandidate_restoredInPlaceAndIndexed() {
+        VersionedRecruitBook versionedRecruitBook = new VersionedRecruitBook(getTypicalAddressBook(),
+                getTypicalCompanyBook());
+        List<Candidate> original = new ArrayList<>(versionedRecruitBook.getCandidateList());
+        Candidate benson = versionedRecruitBook.getCandidateList().get(1);
+        versionedRecruitBook.removeCandidate(benson);
+        versionedRecruitBook.commit();
+
+        versionedRecruitBook.undo();
+        assertEquals(original, versionedRecruitBook.getCandidateList());
+        for (int i = 0; i < original.size(); i++) {
+            assertTrue(versionedRecruitBook.getCandidateList().get(i) == original.get(i));
+        }
+        assertTrue(versionedRecruitBook.hasCandidate(BENSON));
+        assertTrue(versionedRecruitBook.getCandidateById(benson.getId()) == benson);
+
+        versionedRecruitBook.redo();
+        assertFalse(versionedRecruitBook.getCandidateList().contains(benson));
+        assertFalse(versionedRecruitBook.hasCandidate(BENSON));
+        assertEquals(null, versionedRecruitBook.getCandidateById(benson.getId()));
+    }
+
     @Test
     public void equals() {
         VersionedRecruitBook versionedAddressBook = prepareRecruitBookList(recruitBookWithAmy, recruitBookWithBob);
@@ -1,5 +1,6 @@
 package seedu.recruit.model.candidate;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.recruit.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -97,4 +98,13 @@ public class CandidateTest {
         editedAlice = new CandidateBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void equals_desiredJobDiffersOnlyInCase_returnsTrueWithSameHashCode() {
+        Candidate aliceWithUpperCaseJob = new CandidateBuilder(ALICE)
+                .withJob(ALICE.getDesiredJob().value.toUpperCase()).build();
+
+        assertTrue(ALICE.equals(aliceWithUpperCaseJob));
+        assertEquals(ALICE.hashCode(), aliceWithUpperCaseJob.hashCode());
+    }
 }
@@ -4,12 +4,19 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.recruit.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.recruit.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.recruit.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.recruit.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.recruit.testutil.TypicalPersons.ALICE;
+import static seedu.recruit.testutil.TypicalPersons.BENSON;
 import static seedu.recruit.testutil.TypicalPersons.BOB;
+import static seedu.recruit.testutil.TypicalPersons.CARL;
+import static seedu.recruit.testutil.TypicalPersons.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.Rule;
@@ -18,6 +25,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.recruit.model.candidate.exceptions.CandidateNotFoundException;
 import seedu.recruit.model.candidate.exceptions.DuplicateCandidateException;
+import seedu.recruit.model.util.PersistentList;
 import seedu.recruit.testutil.CandidateBuilder;
 
 public class UniqueCandidateListTest {
@@ -119,6 +127,17 @@ public class UniqueCandidateListTest {
         uniqueCandidateList.setCandidate(ALICE, BOB);
     }
 
+    @Test
+    public void setPerson_editedPersonSharesIdentityWithAnotherPerson_throwsDuplicatePersonException() {
+        Candidate otherAlice = new CandidateBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB)
+                .build();
+        uniqueCandidateList.add(ALICE);
+        uniqueCandidateList.add(otherAlice);
+        Candidate editedAlice = new CandidateBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        thrown.expect(DuplicateCandidateException.class);
+        uniqueCandidateList.setCandidate(ALICE, editedAlice);
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -139,6 +158,15 @@ public class UniqueCandidateListTest {
         assertEquals(expectedUniqueCandidateList, uniqueCandidateList);
     }
 
+    @Test
+    public void remove_existingPerson_noLongerContainsPerson() {
+        uniqueCandidateList.add(ALICE);
+        uniqueCandidateList.remove(ALICE);
+        assertFalse(uniqueCandidateList.contains(ALICE));
+        uniqueCandidateList.add(ALICE);
+        assertTrue(uniqueCandidateList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -177,9 +205,66 @@ public class UniqueCandidateListTest {
         uniqueCandidateList.setCandidates(listWithDuplicateCandidates);
     }
 
+    @Test
+    public void setPersons_listWithPersonsSharingEmailOnly_throwsDuplicatePersonException() {
+        Candidate aliceWithBobPhone = new CandidateBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        List<Candidate> listWithDuplicateCandidates = Arrays.asList(ALICE, aliceWithBobPhone);
+        thrown.expect(DuplicateCandidateException.class);
+        uniqueCandidateList.setCandidates(listWithDuplicateCandidates);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         uniqueCandidateList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void comparatorByAge_afterEditAndRemove_ordersByCurrentAges() {
+        uniqueCandidateList.setCandidates(Arrays.asList(CARL, ALICE, BENSON));
+        Candidate youngerBenson = new CandidateBuilder(BENSON).withAge("20").build();
+        uniqueCandidateList.setCandidate(BENSON, youngerBenson);
+        uniqueCandidateList.remove(CARL);
+        uniqueCandidateList.add(DANIEL);
+
+        assertEquals(Arrays.asList(youngerBenson, ALICE, DANIEL), sorted(uniqueCandidateList.comparatorByAge()));
+        assertEquals(Arrays.asList(ALICE, youngerBenson, DANIEL), sorted(uniqueCandidateList.comparatorBySalary()));
+        assertEquals(Arrays.asList(DANIEL, youngerBenson, ALICE),
+                sorted(uniqueCandidateList.comparatorByListOrder().reversed()));
+    }
+
+    @Test
+    public void comparatorByName_ignoresCaseAndOrdersEqualNamesAsInList() {
+        Candidate lowerCaseCarl = new CandidateBuilder(CARL).withName("carl kurz").build();
+        uniqueCandidateList.setCandidates(Arrays.asList(CARL, BENSON, lowerCaseCarl, ALICE));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, lowerCaseCarl), sorted(uniqueCandidateList.comparatorByName()));
+        assertEquals(Arrays.asList(lowerCaseCarl, CARL, BENSON, ALICE),
+                sorted(uniqueCandidateList.comparatorByName().reversed()));
+    }
+
+    @Test
+    public void setCandidates_earlierSnapshot_changesOnlyDifferingCandidates() {
+        uniqueCandidateList.setCandidates(Arrays.asList(ALICE, BENSON, CARL));
+        PersistentList<Candidate> snapshot = uniqueCandidateList.snapshot();
+        uniqueCandidateList.remove(BENSON);
+        Candidate youngerCarl = new CandidateBuilder(CARL).withAge("20").build();
+        uniqueCandidateList.setCandidate(CARL, youngerCarl);
+
+        List<PersistentList.Change<Candidate>> changes = uniqueCandidateList.setCandidates(snapshot);
+        assertEquals(1, changes.size());
+        assertEquals(1, changes.get(0).getIndex());
+        assertEquals(Collections.singletonList(youngerCarl), changes.get(0).getRemoved());
+        assertEquals(Arrays.asList(BENSON, CARL), changes.get(0).getAdded());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniqueCandidateList.asUnmodifiableObservableList());
+        assertTrue(uniqueCandidateList.contains(BENSON));
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE), sorted(uniqueCandidateList.comparatorByAge().reversed()));
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE),
+                sorted(uniqueCandidateList.comparatorByListOrder().reversed()));
+    }
+
+    private List<Candidate> sorted(Comparator<Candidate> comparator) {
+        List<Candidate> candidates = new ArrayList<>(uniqueCandidateList.asUnmodifiableObservableList());
+        candidates.sort(comparator);
+        return candidates;
+    }
 }
@@ -0,0 +1,52 @@
+package seedu.recruit.model.company;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static seedu.recruit.logic.commands.CommandTestUtil.VALID_EMAIL_ALFA;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.AUDI;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.BENTLEY;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.CHEVROLET;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.recruit.model.company.exceptions.DuplicateCompanyException;
+import seedu.recruit.testutil.CompanyBuilder;
+
+public class UniqueCompanyListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueCompanyList uniqueCompanyList = new UniqueCompanyList();
+
+    @Test
+    public void getCompanyFromName_companyNotInList_returnsNull() {
+        assertNull(uniqueCompanyList.getCompanyFromName(AUDI.getName()));
+    }
+
+    @Test
+    public void getCompanyFromName_editedCompany_returnsEditedCompany() {
+        uniqueCompanyList.add(AUDI);
+        Company editedAudi = new CompanyBuilder(AUDI).withEmail(VALID_EMAIL_ALFA).build();
+        uniqueCompanyList.setCompany(AUDI, editedAudi);
+        assertSame(editedAudi, uniqueCompanyList.getCompanyFromName(AUDI.getName()));
+    }
+
+    @Test
+    public void getCompanyFromName_afterRemove_onlyRemainingCompaniesFound() {
+        uniqueCompanyList.setCompanyList(Arrays.asList(CHEVROLET, BENTLEY, AUDI));
+        uniqueCompanyList.remove(CHEVROLET);
+        assertSame(AUDI, uniqueCompanyList.getCompanyFromName(AUDI.getName()));
+        assertNull(uniqueCompanyList.getCompanyFromName(CHEVROLET.getName()));
+    }
+
+    @Test
+    public void setCompanyList_listWithDuplicateCompanies_throwsDuplicateCompanyException() {
+        Company editedAudi = new CompanyBuilder(AUDI).withEmail(VALID_EMAIL_ALFA).build();
+        thrown.expect(DuplicateCompanyException.class);
+        uniqueCompanyList.setCompanyList(Arrays.asList(AUDI, editedAudi));
+    }
+}
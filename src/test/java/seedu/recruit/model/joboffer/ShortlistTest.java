@@ -0,0 +1,87 @@
+package seedu.recruit.model.joboffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.recruit.testutil.TypicalPersons.ALICE;
+import static seedu.recruit.testutil.TypicalPersons.BENSON;
+import static seedu.recruit.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.candidate.exceptions.CandidateNotFoundException;
+import seedu.recruit.model.candidate.exceptions.DuplicateCandidateException;
+import seedu.recruit.testutil.CandidateBuilder;
+
+public class ShortlistTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_duplicateId_throwsDuplicateCandidateException() {
+        thrown.expect(DuplicateCandidateException.class);
+        Shortlist.of(Arrays.asList(ALICE, BENSON, ALICE));
+    }
+
+    @Test
+    public void plusWithMinus_keepsShortlistOrderAndOldVersions() {
+        Shortlist original = Shortlist.of(Arrays.asList(CARL, ALICE));
+        Shortlist added = original.plus(BENSON);
+        Candidate older = new CandidateBuilder(ALICE).withAge("40").build();
+        Candidate editedAlice = new Candidate(ALICE.getId(), older.getName(), older.getGender(), older.getAge(),
+                older.getPhone(), older.getEmail(), older.getAddress(), older.getDesiredJob(), older.getEducation(),
+                older.getExpectedSalary(), older.getTags());
+        Shortlist edited = added.with(ALICE, editedAlice);
+        Shortlist removed = edited.minus(CARL);
+
+        assertEquals(Arrays.asList(CARL, ALICE), original.asList());
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), added.asList());
+        assertEquals(Arrays.asList(CARL, editedAlice, BENSON), edited.asList());
+        assertEquals(Arrays.asList(editedAlice, BENSON), removed.asList());
+        assertSame(editedAlice, removed.getCandidateById(ALICE.getId()));
+        assertFalse(removed.contains(CARL));
+    }
+
+    @Test
+    public void with_editedCandidateHasNewId_foundByNewIdOnly() {
+        Shortlist shortlist = Shortlist.of(Arrays.asList(ALICE, BENSON, CARL));
+        Candidate editedBenson = new CandidateBuilder(BENSON).withAge("40").build();
+
+        Shortlist edited = shortlist.with(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), edited.asList());
+        assertTrue(edited.contains(editedBenson));
+        assertFalse(edited.contains(BENSON));
+        assertEquals(Collections.singleton(BENSON.getId()), shortlist.idsNotOn(edited));
+        assertEquals(Collections.singleton(editedBenson.getId()), edited.idsNotOn(shortlist));
+    }
+
+    @Test
+    public void with_editedCandidateHasIdOfOther_throwsDuplicateCandidateException() {
+        Shortlist shortlist = Shortlist.of(Arrays.asList(ALICE, BENSON));
+        thrown.expect(DuplicateCandidateException.class);
+        shortlist.with(ALICE, BENSON);
+    }
+
+    @Test
+    public void minus_candidateNotShortlisted_throwsCandidateNotFoundException() {
+        thrown.expect(CandidateNotFoundException.class);
+        Shortlist.of(Collections.singletonList(ALICE)).minus(BENSON);
+    }
+
+    @Test
+    public void idsNotOn_candidateReshortlisted_notCounted() {
+        Shortlist shortlist = Shortlist.of(Arrays.asList(ALICE, BENSON));
+        Shortlist reshortlisted = shortlist.minus(ALICE).plus(ALICE);
+
+        assertEquals(Arrays.asList(BENSON, ALICE), reshortlisted.asList());
+        assertTrue(shortlist.idsNotOn(reshortlisted).isEmpty());
+        assertEquals(Collections.singleton(CARL.getId()), reshortlisted.plus(CARL).idsNotOn(shortlist));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.recruit.model.joboffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.CASHIER_AUDI;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.CASHIER_BENTLEY;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.MANAGER_AUDI;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.SALESPERSON_AUDI;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.recruit.model.joboffer.exceptions.DuplicateJobException;
+import seedu.recruit.model.joboffer.exceptions.JobNotFoundException;
+import seedu.recruit.testutil.JobOfferBuilder;
+
+public class UniqueJobListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueJobList uniqueJobList = new UniqueJobList();
+
+    @Test
+    public void contains_jobOfferNotInList_returnsFalse() {
+        assertFalse(uniqueJobList.contains(CASHIER_AUDI));
+    }
+
+    @Test
+    public void contains_jobOfferWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueJobList.add(CASHIER_AUDI);
+        JobOffer editedCashierAudi = new JobOfferBuilder(CASHIER_AUDI).withJob("cashier").withSalary("9999")
+                .build();
+        assertTrue(uniqueJobList.contains(editedCashierAudi));
+    }
+
+    @Test
+    public void add_duplicateJobOffer_throwsDuplicateJobException() {
+        uniqueJobList.add(CASHIER_AUDI);
+        thrown.expect(DuplicateJobException.class);
+        uniqueJobList.add(CASHIER_AUDI);
+    }
+
+    @Test
+    public void setJobOffer_editedJobOfferHasNonUniqueIdentity_throwsDuplicateJobException() {
+        uniqueJobList.add(CASHIER_AUDI);
+        uniqueJobList.add(MANAGER_AUDI);
+        thrown.expect(DuplicateJobException.class);
+        uniqueJobList.setJobOffer(CASHIER_AUDI, MANAGER_AUDI);
+    }
+
+    @Test
+    public void setJobOffer_editedJobOfferHasDifferentCompany_updatesCompanyIndex() {
+        uniqueJobList.add(CASHIER_AUDI);
+        JobOffer cashierBentley = new JobOfferBuilder(CASHIER_AUDI)
+                .withCompanyName(CASHIER_BENTLEY.getCompanyName().value).build();
+        uniqueJobList.setJobOffer(CASHIER_AUDI, cashierBentley);
+        assertEquals(Collections.emptyList(), uniqueJobList.getJobOffersFromCompany(CASHIER_AUDI.getCompanyName()));
+        assertEquals(Collections.singletonList(cashierBentley),
+                uniqueJobList.getJobOffersFromCompany(CASHIER_BENTLEY.getCompanyName()));
+    }
+
+    @Test
+    public void remove_jobOfferDoesNotExist_throwsJobNotFoundException() {
+        thrown.expect(JobNotFoundException.class);
+        uniqueJobList.remove(CASHIER_AUDI);
+    }
+
+    @Test
+    public void remove_existingJobOffer_noLongerContainsJobOffer() {
+        uniqueJobList.add(CASHIER_AUDI);
+        uniqueJobList.remove(CASHIER_AUDI);
+        assertFalse(uniqueJobList.contains(CASHIER_AUDI));
+        assertEquals(Collections.emptyList(), uniqueJobList.getJobOffersFromCompany(CASHIER_AUDI.getCompanyName()));
+    }
+
+    @Test
+    public void removeAllFromCompany_removesOnlyJobOffersOfCompany() {
+        uniqueJobList.setJobOffers(Arrays.asList(CASHIER_AUDI, CASHIER_BENTLEY, SALESPERSON_AUDI));
+        uniqueJobList.removeAllFromCompany(CASHIER_AUDI.getCompanyName());
+        UniqueJobList expectedUniqueJobList = new UniqueJobList();
+        expectedUniqueJobList.add(CASHIER_BENTLEY);
+        assertEquals(expectedUniqueJobList, uniqueJobList);
+        assertFalse(uniqueJobList.contains(SALESPERSON_AUDI));
+    }
+
+    @Test
+    public void setJobOffers_listWithDuplicateJobOffers_throwsDuplicateJobException() {
+        List<JobOffer> listWithDuplicateJobOffers = Arrays.asList(CASHIER_AUDI, CASHIER_AUDI);
+        thrown.expect(DuplicateJobException.class);
+        uniqueJobList.setJobOffers(listWithDuplicateJobOffers);
+    }
+}
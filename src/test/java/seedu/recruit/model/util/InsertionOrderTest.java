@@ -0,0 +1,36 @@
+package seedu.recruit.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class InsertionOrderTest {
+
+    @Test
+    public void insertAll_repeatedlyIntoSameGap_keepsListOrder() {
+        InsertionOrder<String> insertionOrder = new InsertionOrder<>();
+        List<String> list = new ArrayList<>(Arrays.asList("first", "last"));
+        insertionOrder.setAll(list);
+
+        // enough insertions between the same two items to use up the numbers between them
+        for (int i = 0; i < 100; i++) {
+            List<String> items = Arrays.asList("before " + i, "after " + i);
+            insertionOrder.insertAll(list, 1, items);
+            list.addAll(1, items);
+        }
+        insertionOrder.insertAll(list, 0, Collections.singletonList("new first"));
+        list.add(0, "new first");
+        insertionOrder.insertAll(list, list.size(), Collections.singletonList("new last"));
+        list.add("new last");
+
+        List<String> sorted = new ArrayList<>(list);
+        Collections.shuffle(sorted);
+        sorted.sort(insertionOrder.comparator());
+        assertEquals(list, sorted);
+    }
+}
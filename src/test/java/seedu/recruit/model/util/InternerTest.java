@@ -0,0 +1,44 @@
+package seedu.recruit.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.recruit.model.joboffer.Job;
+import seedu.recruit.model.tag.Tag;
+
+public class InternerTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void intern_equalValues_returnsSameInstance() {
+        Interner<Tag> interner = new Interner<>(Tag::new);
+        Tag first = interner.intern("friends");
+
+        assertSame(first, interner.intern(new String("friends")));
+        assertNotSame(first, interner.intern("colleagues"));
+    }
+
+    @Test
+    public void intern_invalidValue_throwsIllegalArgumentException() {
+        Interner<Tag> interner = new Interner<>(Tag::new);
+        thrown.expect(IllegalArgumentException.class);
+        interner.intern("not a tag");
+    }
+
+    @Test
+    public void of_jobsDifferingInCase_keepTheirOwnCase() {
+        Job lowerCase = Job.of("cleaner");
+        Job capitalised = Job.of("Cleaner");
+
+        assertEquals(lowerCase, capitalised);
+        assertEquals("cleaner", lowerCase.value);
+        assertEquals("Cleaner", capitalised.value);
+        assertSame(capitalised, Job.of("Cleaner"));
+    }
+}
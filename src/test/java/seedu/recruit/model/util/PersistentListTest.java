@@ -0,0 +1,168 @@
+package seedu.recruit.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_buildsListInOrder() {
+        List<String> items = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(items);
+
+        assertEquals(items, list.toList());
+        assertEquals("c", list.get(2));
+        assertTrue(PersistentList.of(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void plusWithMinus_oldVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+        PersistentList<String> appended = original.plus("d");
+        PersistentList<String> replaced = appended.with(1, "x");
+        PersistentList<String> removed = replaced.minus(0);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended.toList());
+        assertEquals(Arrays.asList("a", "x", "c", "d"), replaced.toList());
+        assertEquals(Arrays.asList("x", "c", "d"), removed.toList());
+    }
+
+    @Test
+    public void randomChanges_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.with(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+
+        assertEquals(expected, actual.toList());
+        assertEquals(PersistentList.of(expected), actual);
+        assertEquals(PersistentList.of(expected).hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void changesTo_oneElementSet_onlyThatElementChanged() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(i);
+        }
+        PersistentList<Integer> original = PersistentList.of(items);
+        Integer edited = 5000;
+        PersistentList<Integer> replaced = original.with(500, edited);
+
+        List<PersistentList.Change<Integer>> changes = original.changesTo(replaced);
+        assertEquals(1, changes.size());
+        assertEquals(500, changes.get(0).getIndex());
+        assertEquals(Collections.singletonList(items.get(500)), changes.get(0).getRemoved());
+        assertEquals(Collections.singletonList(edited), changes.get(0).getAdded());
+        assertTrue(original.changesTo(original).isEmpty());
+    }
+
+    @Test
+    public void changesTo_randomChangesEitherWay_turnListIntoOther() {
+        Random random = new Random(7);
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            items.add("item " + i);
+        }
+        PersistentList<String> older = PersistentList.of(items);
+        for (int round = 0; round < 100; round++) {
+            PersistentList<String> newer = older;
+            int operationCount = random.nextInt(5) + 1;
+            for (int i = 0; i < operationCount; i++) {
+                int operation = newer.isEmpty() ? 0 : random.nextInt(3);
+                if (operation == 0) {
+                    newer = newer.plus("added " + round + " " + i);
+                } else if (operation == 1) {
+                    newer = newer.with(random.nextInt(newer.size()), "set " + round + " " + i);
+                } else {
+                    newer = newer.minus(random.nextInt(newer.size()));
+                }
+            }
+
+            assertEquals(newer.toList(), applyChanges(older, newer));
+            assertEquals(older.toList(), applyChanges(newer, older));
+            // no more elements are changed than were set, added or removed
+            int changedCount = 0;
+            for (PersistentList.Change<String> change : older.changesTo(newer)) {
+                changedCount += Math.max(change.getRemoved().size(), change.getAdded().size());
+            }
+            assertTrue(changedCount <= operationCount);
+            older = newer;
+        }
+
+        // lists not made from one another
+        PersistentList<String> unrelated = PersistentList.of(Arrays.asList("item 3", "x", "item 1"));
+        assertEquals(unrelated.toList(), applyChanges(older, unrelated));
+        assertEquals(older.toList(), applyChanges(unrelated, older));
+    }
+
+    @Test
+    public void plusAtIndex_keptSorted_foundByBinarySearch() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 1000; i++) {
+            int item = random.nextInt(100_000) * 2;
+            int index = actual.binarySearch(item, Integer::longValue);
+            if (index < 0) {
+                expected.add(-index - 1, item);
+                actual = actual.plus(-index - 1, item);
+            }
+        }
+
+        List<Integer> sorted = new ArrayList<>(expected);
+        Collections.sort(sorted);
+        assertEquals(sorted, expected);
+        assertEquals(expected, actual.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, actual.binarySearch(expected.get(i), Integer::longValue));
+            assertEquals(-i - 2, actual.binarySearch(expected.get(i) + 1, Integer::longValue));
+        }
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList("a")).get(1);
+    }
+
+    private static <T> List<T> applyChanges(PersistentList<T> from, PersistentList<T> to) {
+        List<T> list = from.toList();
+        for (PersistentList.Change<T> change : from.changesTo(to)) {
+            List<T> run = list.subList(change.getIndex(), change.getIndex() + change.getRemoved().size());
+            assertEquals(change.getRemoved(), run);
+            run.clear();
+            list.addAll(change.getIndex(), change.getAdded());
+        }
+        return list;
+    }
+}
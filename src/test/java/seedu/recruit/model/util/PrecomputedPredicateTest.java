@@ -0,0 +1,45 @@
+package seedu.recruit.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+public class PrecomputedPredicateTest {
+
+    private final Predicate<String> endsWithZero = item -> item.endsWith("0");
+
+    @Test
+    public void evaluate_largeList_matchesPredicateForEveryItem() {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < 100003; i++) {
+            items.add(Integer.toString(i));
+        }
+
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.evaluate(items, endsWithZero);
+        for (String item : items) {
+            assertEquals(item, endsWithZero.test(item), predicate.test(item));
+        }
+    }
+
+    @Test
+    public void test_beforeAndAfterExpire() {
+        List<String> items = new ArrayList<>();
+        items.add("10");
+        items.add("11");
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.evaluate(items, endsWithZero);
+
+        String newItem = "20";
+        assertTrue(predicate.test(items.get(0)));
+        assertFalse(predicate.test(newItem));
+
+        predicate.expire();
+        assertTrue(predicate.test(newItem));
+        assertFalse(predicate.test(items.get(1)));
+    }
+}
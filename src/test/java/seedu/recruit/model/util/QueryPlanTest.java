@@ -0,0 +1,102 @@
+package seedu.recruit.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.recruit.commons.util.StringUtil;
+import seedu.recruit.model.util.QueryPlan.Field;
+
+public class QueryPlanTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final AtomicInteger lastWordReads = new AtomicInteger();
+    private final List<Field<String>> fields = Arrays.asList(
+            Field.words("Text", 2, text -> text),
+            Field.words("Last word", 0, text -> {
+                lastWordReads.incrementAndGet();
+                return text.substring(text.lastIndexOf(' ') + 1);
+            }),
+            Field.range("Length", 1, unused -> 0, String::length));
+
+    @Test
+    public void test_wordsField_matchesContainsWordIgnoreCase() {
+        String[] sentences = {"Alice Pauline", "  leading space", "ABc def", "trailing tab\t", "x", "a\u000Bb"};
+        String[] keywords = {"alice", "ALICE PAULINE", "pauline ", "leading", "  leading space", "AB", "DEF",
+            "tab", "X", "Alice  Pauline", "b"};
+
+        for (String keyword : keywords) {
+            QueryPlan<String> plan = QueryPlan.matchingAnyField(keywordsFor("Text", keyword), fields);
+            for (String sentence : sentences) {
+                assertEquals(sentence + " / " + keyword, StringUtil.containsWordIgnoreCase(sentence, keyword),
+                        plan.test(sentence));
+            }
+        }
+    }
+
+    @Test
+    public void test_emptyKeyword_throwsIllegalArgumentException() {
+        QueryPlan<String> plan = QueryPlan.matchingAnyField(keywordsFor("Text", "  "), fields);
+        thrown.expect(IllegalArgumentException.class);
+        plan.test("Alice");
+    }
+
+    @Test
+    public void test_rangeField_matchesItemsWhoseRangeContainsKeyword() {
+        QueryPlan<String> plan = QueryPlan.matchingAnyField(keywordsFor("Length", "5"), fields);
+        assertTrue(plan.test("Alice"));
+        assertTrue(plan.test("Alice Pauline"));
+        assertFalse(plan.test("Bob"));
+    }
+
+    @Test
+    public void matchingEveryField_evaluatesMostSelectiveFieldFirst() {
+        Map<String, List<String>> keywords = keywordsFor("Text", "alice");
+        keywords.put("Last word", Collections.singletonList("tan"));
+        keywords.put("Not a field", Collections.singletonList("bob"));
+        QueryPlan<String> plan = QueryPlan.matchingEveryField(keywords, fields);
+
+        assertTrue(plan.test("Alice Tan"));
+        assertFalse(plan.test("Alice Pauline"));
+        assertFalse(plan.test("Bob Tan"));
+        assertEquals(3, lastWordReads.get());
+    }
+
+    @Test
+    public void matchingAnyField_evaluatesLeastSelectiveFieldFirst() {
+        Map<String, List<String>> keywords = keywordsFor("Text", "alice");
+        keywords.put("Last word", Collections.singletonList("tan"));
+        QueryPlan<String> plan = QueryPlan.matchingAnyField(keywords, fields);
+
+        assertTrue(plan.test("Alice Pauline"));
+        assertEquals(0, lastWordReads.get());
+        assertTrue(plan.test("Bob Tan"));
+        assertFalse(plan.test("Bob Choo"));
+        assertEquals(2, lastWordReads.get());
+    }
+
+    @Test
+    public void matchingEveryField_noKnownFields_acceptsEverything() {
+        QueryPlan<String> plan = QueryPlan.matchingEveryField(keywordsFor("Not a field", "bob"), fields);
+        assertTrue(plan.test("Alice"));
+        assertFalse(QueryPlan.matchingAnyField(keywordsFor("Not a field", "bob"), fields).test("Bob"));
+    }
+
+    private static Map<String, List<String>> keywordsFor(String field, String keyword) {
+        Map<String, List<String>> keywords = new HashMap<>();
+        keywords.put(field, Collections.singletonList(keyword));
+        return keywords;
+    }
+}
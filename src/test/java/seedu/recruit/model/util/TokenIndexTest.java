@@ -0,0 +1,144 @@
+package seedu.recruit.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.recruit.commons.util.StringUtil;
+
+public class TokenIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> items = new ArrayList<>();
+    private final TokenIndex<String> index = new TokenIndex<>(fields(), () -> items);
+    private final List<int[]> ranges = new ArrayList<>();
+
+    @Test
+    public void lookupAny_matchesContainsWordIgnoreCase() {
+        String[] sentences = {"Alice Pauline", "  leading space", "ABc def", "trailing tab\t", "x"};
+        String[] keywords = {"alice", "ALICE PAULINE", "pauline ", "leading", "  leading space", "AB", "DEF",
+            "tab", "X", "Alice  Pauline"};
+        for (String sentence : sentences) {
+            items.add(new String(sentence));
+        }
+
+        for (String keyword : keywords) {
+            Set<String> matches = index.lookupAny("Text", Collections.singletonList(keyword));
+            for (String item : items) {
+                assertEquals(item + " / " + keyword, StringUtil.containsWordIgnoreCase(item, keyword),
+                        matches.contains(item));
+            }
+        }
+    }
+
+    @Test
+    public void lookupAny_afterRemoveAndReplace_reflectsChanges() {
+        String alice = "Alice Pauline";
+        String bob = "Bob Choo";
+        items.addAll(Arrays.asList(alice, bob));
+        assertEquals(1, index.lookupAny("Text", Collections.singletonList("alice")).size());
+
+        items.remove(alice);
+        index.remove(alice);
+        assertTrue(index.lookupAny("Text", Collections.singletonList("alice")).isEmpty());
+
+        String editedBob = "Bob Alice";
+        items.set(0, editedBob);
+        index.replace(bob, editedBob);
+        Set<String> matches = index.lookupAny("Text", Collections.singletonList("alice"));
+        assertEquals(1, matches.size());
+        assertTrue(matches.contains(editedBob));
+    }
+
+    @Test
+    public void lookupAny_emptyKeyword_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        index.lookupAny("Text", Collections.singletonList("  "));
+    }
+
+    @Test
+    public void lookupEveryField_intersectsFields() {
+        items.addAll(Arrays.asList("Alice Pauline", "Alice Tan", "Bob Tan"));
+        Map<String, List<String>> keywords = new HashMap<>();
+        keywords.put("Text", Arrays.asList("alice", "bob"));
+        keywords.put("First word", Collections.singletonList("alice"));
+        keywords.put("Not indexed", Collections.singletonList("pauline"));
+
+        Set<String> matches = index.lookupEveryField(keywords);
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(items.get(0)));
+        assertTrue(matches.contains(items.get(1)));
+
+        assertEquals(3, index.lookupAnyField(keywords).size());
+    }
+
+    @Test
+    public void lookupAny_rangeField_matchesItemsWhoseRangeContainsKeyword() {
+        TokenIndex<int[]> rangeIndex = new TokenIndex<>(Collections.emptyMap(), () -> ranges);
+        rangeIndex.addRangeField("Range", range -> range[0], range -> range[1]);
+        int[] teens = {13, 19};
+        int[] twenties = {20, 29};
+        int[] adults = {18, 60};
+        ranges.addAll(Arrays.asList(teens, twenties, adults));
+
+        Set<int[]> matches = rangeIndex.lookupAny("Range", Collections.singletonList("19"));
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(teens));
+        assertTrue(matches.contains(adults));
+
+        rangeIndex.remove(adults);
+        assertEquals(Collections.singleton(twenties), rangeIndex.lookupAny("Range", Arrays.asList("20", "61")));
+    }
+
+    @Test
+    public void of_queryFields_indexesWordAndRangeFields() {
+        TokenIndex<int[]> fieldIndex = TokenIndex.of(Arrays.asList(
+                QueryPlan.Field.<int[]>words("Low", 0, range -> String.valueOf(range[0])),
+                QueryPlan.Field.<int[]>range("Range", 1, range -> range[0], range -> range[1])), () -> ranges);
+        int[] teens = {13, 19};
+        int[] twenties = {20, 29};
+        ranges.addAll(Arrays.asList(teens, twenties));
+
+        assertTrue(fieldIndex.hasField("Low"));
+        assertTrue(fieldIndex.hasField("Range"));
+        assertEquals(Collections.singleton(twenties), fieldIndex.lookupAny("Low", Collections.singletonList("20")));
+        assertEquals(Collections.singleton(teens), fieldIndex.lookupAny("Range", Collections.singletonList("15")));
+    }
+
+    @Test
+    public void asPredicate_itemAddedAfterLookup_testedWithFallback() {
+        items.add("Alice Pauline");
+        Predicate<String> fallback = item -> StringUtil.containsWordIgnoreCase(item, "alice");
+        Predicate<String> predicate = index.asPredicate(
+                index.lookupAny("Text", Collections.singletonList("alice")), fallback);
+
+        String newAlice = "Alice Tan";
+        items.add(newAlice);
+        index.add(newAlice);
+        assertTrue(predicate.test(items.get(0)));
+        assertTrue(predicate.test(newAlice));
+        assertFalse(predicate.test("Bob Choo"));
+    }
+
+    private static Map<String, Function<String, String>> fields() {
+        Map<String, Function<String, String>> fields = new HashMap<>();
+        fields.put("Text", Function.identity());
+        fields.put("First word", text -> text.split(" ")[0]);
+        return fields;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.recruit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.recruit.testutil.TypicalPersons.HOON;
+import static seedu.recruit.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.recruit.model.CandidateBook;
+
+public class BinaryCandidateBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path xmlFilePath;
+    private Path binaryFilePath;
+    private XmlCandidateBookStorage xmlStorage;
+    private BinaryCandidateBookStorage storage;
+
+    @Before
+    public void setUp() {
+        xmlFilePath = testFolder.getRoot().toPath().resolve("candidatebook.xml");
+        binaryFilePath = BinaryFileStorage.getBinaryFilePath(xmlFilePath);
+        xmlStorage = new XmlCandidateBookStorage(xmlFilePath);
+        storage = new BinaryCandidateBookStorage(binaryFilePath, xmlStorage);
+    }
+
+    @Test
+    public void readCandidateBook_noFiles_emptyResult() throws Exception {
+        assertFalse(storage.readCandidateBook().isPresent());
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void readCandidateBook_onlyXmlFile_importsXmlFile() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        xmlStorage.saveCandidateBook(original);
+
+        assertEquals(original, new CandidateBook(storage.readCandidateBook().get()));
+        assertTrue(Files.exists(binaryFilePath));
+
+        // the binary file is read from now on
+        xmlStorage.saveCandidateBook(new CandidateBook());
+        assertEquals(original, new CandidateBook(storage.readCandidateBook().get()));
+    }
+
+    @Test
+    public void exportToXml_savedBook_writtenToXmlFile() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        original.addCandidate(HOON);
+        storage.saveCandidateBook(original);
+
+        storage.exportToXml(original);
+        assertEquals(original, new CandidateBook(xmlStorage.readCandidateBook().get()));
+    }
+}
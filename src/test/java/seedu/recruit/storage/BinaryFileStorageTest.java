@@ -0,0 +1,82 @@
+package seedu.recruit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.CASHIER_AUDI;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.getTypicalCompanyBook;
+import static seedu.recruit.testutil.TypicalPersons.BENSON;
+import static seedu.recruit.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.model.CandidateBook;
+import seedu.recruit.model.CompanyBook;
+import seedu.recruit.model.candidate.Candidate;
+
+public class BinaryFileStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "candidatebook.bin"),
+                BinaryFileStorage.getBinaryFilePath(Paths.get("data", "candidatebook.xml")));
+        assertEquals(Paths.get("data", "books.bin"), BinaryFileStorage.getBinaryFilePath(Paths.get("data", "books")));
+    }
+
+    @Test
+    public void saveCandidateBookToFile_readBack_sameBookWithSameIds() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("candidatebook.bin");
+        CandidateBook original = getTypicalAddressBook();
+        BinaryFileStorage.saveCandidateBookToFile(file, original);
+
+        CandidateBook readBack = BinaryFileStorage.loadCandidateBookFromSaveFile(file);
+        assertEquals(original, readBack);
+        for (Candidate candidate : original.getCandidateList()) {
+            assertEquals(candidate, readBack.getCandidateById(candidate.getId()));
+        }
+
+        BinaryFileStorage.saveCandidateBookToFile(file, new CandidateBook());
+        assertEquals(new CandidateBook(), BinaryFileStorage.loadCandidateBookFromSaveFile(file));
+    }
+
+    @Test
+    public void saveCompanyBookToFile_readBack_sameBook() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("companybook.bin");
+        CompanyBook original = getTypicalCompanyBook();
+        original.shortlistCandidateToJobOffer(BENSON, CASHIER_AUDI);
+        BinaryFileStorage.saveCompanyBookToFile(file, original);
+
+        assertEquals(original, BinaryFileStorage.loadCompanyBookFromSaveFile(file, getTypicalAddressBook()));
+    }
+
+    @Test
+    public void loadCandidateBookFromSaveFile_companyBook_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("companybook.bin");
+        BinaryFileStorage.saveCompanyBookToFile(file, getTypicalCompanyBook());
+        thrown.expect(DataConversionException.class);
+        BinaryFileStorage.loadCandidateBookFromSaveFile(file);
+    }
+
+    @Test
+    public void loadCandidateBookFromSaveFile_fileCutShort_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("candidatebook.bin");
+        BinaryFileStorage.saveCandidateBookToFile(file, getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+        thrown.expect(DataConversionException.class);
+        BinaryFileStorage.loadCandidateBookFromSaveFile(file);
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.recruit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JournalFileTest {
+
+    private static final long COPY_CHECKSUM = 0x1234L;
+    private static final long NEW_COPY_CHECKSUM = 0x5678L;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void append_emptyFile_startedWithCheckpointForCopy() throws Exception {
+        JournalFile journal = new JournalFile(testFolder.getRoot().toPath().resolve("book.xml.journal"));
+        journal.append(COPY_CHECKSUM, Arrays.asList("c+ first", "c+ second"));
+        journal.append(NEW_COPY_CHECKSUM, Collections.singletonList("c- first"));
+
+        List<String> records = journal.read();
+        assertEquals(4, records.size());
+        assertEquals(4, journal.getRecordCount());
+        assertEquals(Arrays.asList("c+ first", "c+ second", "c- first"),
+                JournalFile.recordsToReplay(records, COPY_CHECKSUM));
+        assertTrue(JournalFile.recordsToReplay(records, NEW_COPY_CHECKSUM).isEmpty());
+    }
+
+    @Test
+    public void recordsToReplay_checkpointForCopyAfterRecords_noRecords() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("book.xml.journal");
+        JournalFile journal = new JournalFile(filePath);
+        journal.append(COPY_CHECKSUM, Collections.singletonList("c- first"));
+        journal.appendCheckpoint(NEW_COPY_CHECKSUM);
+        assertTrue(JournalFile.recordsToReplay(journal.read(), NEW_COPY_CHECKSUM).isEmpty());
+
+        // a new copy saved the same as the one the journal was started for
+        journal.clear();
+        journal.append(COPY_CHECKSUM, Collections.singletonList("c- first"));
+        journal.appendCheckpoint(COPY_CHECKSUM);
+        assertTrue(JournalFile.recordsToReplay(journal.read(), COPY_CHECKSUM).isEmpty());
+    }
+
+    @Test
+    public void recordsToReplay_noCheckpoints_everyRecord() {
+        List<String> records = Arrays.asList("c+ first", "c- first");
+        assertEquals(records, JournalFile.recordsToReplay(records, COPY_CHECKSUM));
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.recruit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.recruit.testutil.TypicalPersons.ALICE;
+import static seedu.recruit.testutil.TypicalPersons.HOON;
+import static seedu.recruit.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.recruit.model.CandidateBook;
+import seedu.recruit.model.ReadOnlyCandidateBook;
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.testutil.CandidateBuilder;
+
+public class JournalledCandidateBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalPath;
+    private JournalledCandidateBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("candidatebook.xml");
+        journalPath = JournalledCandidateBookStorage.getJournalFilePath(filePath);
+        storage = new JournalledCandidateBookStorage(new XmlCandidateBookStorage(filePath));
+    }
+
+    @Test
+    public void saveCandidateBook_smallChanges_appendedToJournalAndReplayed() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        byte[] savedBook = Files.readAllBytes(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        Candidate editedAlice = withIdOf(ALICE, new CandidateBuilder(ALICE).withAge("40").build());
+        original.updateCandidate(ALICE, editedAlice);
+        storage.saveCandidateBook(original);
+        original.addCandidate(HOON);
+        storage.saveCandidateBook(original);
+
+        // a checkpoint for the full copy, then one record for each change
+        assertTrue(Files.exists(journalPath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertTrue(Arrays.equals(savedBook, Files.readAllBytes(filePath)));
+        assertEquals(original, new CandidateBook(storage.readCandidateBook().get()));
+        assertEquals(original, new CandidateBook(
+                new JournalledCandidateBookStorage(new XmlCandidateBookStorage(filePath)).readCandidateBook().get()));
+    }
+
+    @Test
+    public void saveCandidateBook_reordered_savesWholeBookAndEmptiesJournal() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        original.addCandidate(HOON);
+        storage.saveCandidateBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        List<Candidate> reversed = new ArrayList<>(original.getCandidateList());
+        Collections.reverse(reversed);
+        original.setCandidates(reversed);
+        storage.saveCandidateBook(original);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new CandidateBook(storage.readCandidateBook().get()));
+    }
+
+    @Test
+    public void compact_journalWithRecords_savesWholeBookAndEmptiesJournal() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        original.addCandidate(HOON);
+        storage.saveCandidateBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        storage.compact(original);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new CandidateBook(new XmlCandidateBookStorage(filePath).readCandidateBook().get()));
+    }
+
+    @Test
+    public void readCandidateBook_recordCutShort_recordIgnored() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        CandidateBook withHoon = new CandidateBook(original);
+        withHoon.addCandidate(HOON);
+        storage.saveCandidateBook(withHoon);
+
+        Files.write(journalPath, "c- 4".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(withHoon, new CandidateBook(storage.readCandidateBook().get()));
+    }
+
+    @Test
+    public void readCandidateBook_crashBeforeJournalEmptied_journalNotReplayed() throws Exception {
+        Path journalAtCrash = testFolder.getRoot().toPath().resolve("journalAtCrash");
+        storage = new JournalledCandidateBookStorage(new XmlCandidateBookStorage(filePath) {
+            @Override
+            public void saveCandidateBook(ReadOnlyCandidateBook candidateBook, Path filePath) throws IOException {
+                super.saveCandidateBook(candidateBook, filePath);
+                if (Files.exists(journalPath)) {
+                    Files.copy(journalPath, journalAtCrash, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        });
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        original.removeCandidate(ALICE);
+        storage.saveCandidateBook(original);
+
+        // putting Alice back in reverse order reorders the book, so a full copy is saved
+        List<Candidate> reversed = new ArrayList<>(getTypicalAddressBook().getCandidateList());
+        Collections.reverse(reversed);
+        original.setCandidates(reversed);
+        storage.saveCandidateBook(original);
+        Files.copy(journalAtCrash, journalPath);
+
+        assertEquals(original, new CandidateBook(
+                new JournalledCandidateBookStorage(new XmlCandidateBookStorage(filePath)).readCandidateBook().get()));
+    }
+
+    private static Candidate withIdOf(Candidate original, Candidate edited) {
+        return new Candidate(original.getId(), edited.getName(), edited.getGender(), edited.getAge(),
+                edited.getPhone(), edited.getEmail(), edited.getAddress(), edited.getDesiredJob(),
+                edited.getEducation(), edited.getExpectedSalary(), edited.getTags());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.recruit.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.recruit.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> accepted = new ArrayList<>();
+
+    @Test
+    public void convertAll_severalBatches_passedOnInOrder() throws Exception {
+        List<Integer> items = IntStream.range(0, 2 * ParallelConverter.BATCH_SIZE + 1).boxed()
+                .collect(Collectors.toList());
+        ParallelConverter.convertAll(items, String::valueOf, accepted::add);
+        assertEquals(items.stream().map(String::valueOf).collect(Collectors.toList()), accepted);
+    }
+
+    @Test
+    public void convertAll_laterItemInvalid_earlierItemRejectedFirst() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage("duplicate 2");
+        try {
+            ParallelConverter.convertAll(Arrays.asList(1, 2, 3, 4), this::convert, this::accept);
+        } finally {
+            assertEquals(Arrays.asList("1"), accepted);
+        }
+    }
+
+    @Test
+    public void convertAll_conversionThrowsRuntimeException_samePassedOn() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("no negatives");
+        ParallelConverter.convertAll(Arrays.asList(1, -1, 4), this::convert, this::accept);
+    }
+
+    private String convert(Integer item) throws IllegalValueException {
+        if (item < 0) {
+            throw new IllegalArgumentException("no negatives");
+        }
+        if (item == 4) {
+            throw new IllegalValueException("invalid " + item);
+        }
+        return String.valueOf(item);
+    }
+
+    private void accept(String item) throws IllegalValueException {
+        if (item.equals("2")) {
+            throw new IllegalValueException("duplicate " + item);
+        }
+        accepted.add(item);
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.recruit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.recruit.testutil.TypicalPersons.BENSON;
+import static seedu.recruit.testutil.TypicalPersons.HOON;
+import static seedu.recruit.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.recruit.model.CandidateBook;
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.model.commons.Phone;
+
+public class ShardedCandidateBookStorageTest {
+
+    private static final int SEGMENT_COUNT = 4;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path xmlFilePath;
+    private Path manifestFilePath;
+    private XmlCandidateBookStorage xmlStorage;
+    private ShardedCandidateBookStorage storage;
+
+    @Before
+    public void setUp() {
+        xmlFilePath = testFolder.getRoot().toPath().resolve("candidatebook.xml");
+        manifestFilePath = ShardedCandidateBookStorage.getManifestFilePath(xmlFilePath);
+        xmlStorage = new XmlCandidateBookStorage(xmlFilePath);
+        storage = new ShardedCandidateBookStorage(manifestFilePath, SEGMENT_COUNT, xmlStorage);
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "candidatebook.segments", "manifest.xml"),
+                ShardedCandidateBookStorage.getManifestFilePath(Paths.get("data", "candidatebook.xml")));
+    }
+
+    @Test
+    public void readCandidateBook_noFiles_emptyResult() throws Exception {
+        assertFalse(storage.readCandidateBook().isPresent());
+        assertFalse(Files.exists(manifestFilePath));
+    }
+
+    @Test
+    public void readCandidateBook_onlyXmlFile_importsXmlFile() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        xmlStorage.saveCandidateBook(original);
+
+        assertEquals(original, new CandidateBook(storage.readCandidateBook().get()));
+        assertTrue(Files.exists(manifestFilePath));
+
+        // the segments are read from now on
+        xmlStorage.saveCandidateBook(new CandidateBook());
+        assertEquals(original, new CandidateBook(storage.readCandidateBook().get()));
+    }
+
+    @Test
+    public void exportToXml_savedToSegments_xmlFileUpToDate() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        xmlStorage.saveCandidateBook(original);
+        storage.readCandidateBook();
+
+        original.addCandidate(HOON);
+        storage.saveCandidateBook(original);
+        storage.exportToXml(original);
+        assertEquals(original, new CandidateBook(xmlStorage.readCandidateBook().get()));
+    }
+
+    @Test
+    public void saveCandidateBook_readBack_sameBookInSameOrder() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        assertEquals(original, new CandidateBook(newStorage().readCandidateBook().get()));
+
+        original.addCandidate(HOON);
+        original.removeCandidate(BENSON);
+        storage.saveCandidateBook(original);
+        assertEquals(original, new CandidateBook(newStorage().readCandidateBook().get()));
+    }
+
+    @Test
+    public void saveCandidateBook_oneCandidateEdited_onlyItsSegmentRewritten() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        deleteSavedFiles();
+
+        Candidate editedBenson = withPhone(BENSON, "91234567");
+        original.updateCandidate(BENSON, editedBenson);
+        storage.saveCandidateBook(original);
+
+        List<Path> segmentFilePaths = getExistingSegmentFilePaths();
+        assertEquals(1, segmentFilePaths.size());
+        assertTrue(XmlFileStorage.loadCandidateBookFromSaveFile(segmentFilePaths.get(0)).getCandidateList()
+                .contains(editedBenson));
+        // the order of the candidates is unchanged
+        assertFalse(Files.exists(manifestFilePath));
+    }
+
+    @Test
+    public void saveCandidateBook_nothingChanged_nothingRewritten() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        deleteSavedFiles();
+
+        storage.saveCandidateBook(original);
+        assertTrue(getExistingSegmentFilePaths().isEmpty());
+        assertFalse(Files.exists(manifestFilePath));
+    }
+
+    @Test
+    public void readCandidateBook_candidateMissingFromManifest_addedAtEnd() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        // a save cut short after writing the segments of the new candidate
+        Path manifest = testFolder.getRoot().toPath().resolve("manifest.xml");
+        Files.copy(manifestFilePath, manifest);
+        original.addCandidate(HOON);
+        storage.saveCandidateBook(original);
+        Files.copy(manifest, manifestFilePath, StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(original, new CandidateBook(newStorage().readCandidateBook().get()));
+    }
+
+    private ShardedCandidateBookStorage newStorage() {
+        return new ShardedCandidateBookStorage(manifestFilePath, SEGMENT_COUNT, xmlStorage);
+    }
+
+    private void deleteSavedFiles() throws Exception {
+        Files.delete(manifestFilePath);
+        for (Path segmentFilePath : getExistingSegmentFilePaths()) {
+            Files.delete(segmentFilePath);
+        }
+    }
+
+    private List<Path> getExistingSegmentFilePaths() {
+        List<Path> segmentFilePaths = new ArrayList<>();
+        for (int segment = 0; segment < SEGMENT_COUNT; segment++) {
+            Path segmentFilePath = ShardedCandidateBookStorage.getSegmentFilePath(manifestFilePath, segment);
+            if (Files.exists(segmentFilePath)) {
+                segmentFilePaths.add(segmentFilePath);
+            }
+        }
+        return segmentFilePaths;
+    }
+
+    private static Candidate withPhone(Candidate candidate, String phone) {
+        return new Candidate(candidate.getId(), candidate.getName(), candidate.getGender(), candidate.getAge(),
+                new Phone(phone), candidate.getEmail(), candidate.getAddress(), candidate.getDesiredJob(),
+                candidate.getEducation(), candidate.getExpectedSalary(), candidate.getTags());
+    }
+}
@@ -3,6 +3,9 @@ package seedu.recruit.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static seedu.recruit.testutil.TypicalPersons.ALICE;
+import static seedu.recruit.testutil.TypicalPersons.BENSON;
+import static seedu.recruit.testutil.TypicalPersons.CARL;
 import static seedu.recruit.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
@@ -15,6 +18,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.recruit.commons.events.model.CandidateBookChangedEvent;
+import seedu.recruit.commons.events.storage.CandidateBookSavedEvent;
 import seedu.recruit.commons.events.storage.DataSavingExceptionEvent;
 import seedu.recruit.model.CandidateBook;
 import seedu.recruit.model.ReadOnlyCandidateBook;
@@ -85,6 +89,28 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleCandidateBookChangedEvent_writeDelay_savesSnapshotOfLatestChangeOnce() throws Exception {
+        XmlCandidateBookStorageCountingStub candidateBookStorage =
+                new XmlCandidateBookStorageCountingStub(getTempFilePath("ab"));
+        Storage storage = new StorageManager(candidateBookStorage, new XmlCompanyBookStorage(getTempFilePath("cd")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60000);
+        CandidateBook candidateBook = new CandidateBook();
+
+        candidateBook.addCandidate(ALICE);
+        storage.handleCandidateBookChangedEvent(new CandidateBookChangedEvent(candidateBook));
+        candidateBook.addCandidate(BENSON);
+        storage.handleCandidateBookChangedEvent(new CandidateBookChangedEvent(candidateBook));
+        CandidateBook expectedCandidateBook = new CandidateBook(candidateBook);
+        candidateBook.addCandidate(CARL);
+        assertEquals(0, candidateBookStorage.saveCount);
+
+        storage.flush();
+        assertEquals(1, candidateBookStorage.saveCount);
+        assertEquals(expectedCandidateBook, new CandidateBook(storage.readCandidateBook().get()));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof CandidateBookSavedEvent);
+    }
+
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -101,5 +127,20 @@ public class StorageManagerTest {
         }
     }
 
+    /**
+     * A Stub class that counts the number of times the save method is called
+     */
+    class XmlCandidateBookStorageCountingStub extends XmlCandidateBookStorage {
+        private int saveCount;
+
+        public XmlCandidateBookStorageCountingStub(Path filePath) {
+            super(filePath);
+        }
 
+        @Override
+        public void saveCandidateBook(ReadOnlyCandidateBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveCandidateBook(addressBook, filePath);
+        }
+    }
 }
@@ -46,6 +46,12 @@ public class XmlAdaptedCandidateTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validPersonDetails_keepsId() throws Exception {
+        XmlAdaptedCandidate person = new XmlAdaptedCandidate(BENSON);
+        assertEquals(BENSON.getId(), person.toModelType().getId());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         XmlAdaptedCandidate person =
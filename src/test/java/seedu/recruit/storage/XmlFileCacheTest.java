@@ -0,0 +1,86 @@
+package seedu.recruit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.recruit.testutil.TypicalPersons.HOON;
+import static seedu.recruit.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.recruit.model.CandidateBook;
+
+public class XmlFileCacheTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private XmlFileCache cache;
+    private XmlCandidateBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("candidatebook.xml");
+        cache = new XmlFileCache(filePath);
+        storage = new XmlCandidateBookStorage(filePath);
+    }
+
+    @Test
+    public void readCandidateBook_unchangedFile_readFromCache() throws Exception {
+        storage.saveCandidateBook(getTypicalAddressBook());
+        assertTrue(Files.exists(cache.getCacheFilePath()));
+
+        // a cache made for the file as it is now is trusted over the file
+        CandidateBook cachedBook = new CandidateBook();
+        cachedBook.addCandidate(HOON);
+        cache.saveCandidateBook(cache.readKey(), cachedBook);
+        assertEquals(cachedBook, new CandidateBook(storage.readCandidateBook().get()));
+    }
+
+    @Test
+    public void saveCandidateBook_cacheMadeForFileAsSaved() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        assertEquals(original, cache.readCandidateBook(cache.readKey()));
+    }
+
+    @Test
+    public void saveCandidateBook_notCached_noCacheFile() throws Exception {
+        storage = new XmlCandidateBookStorage(filePath, false);
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        assertFalse(Files.exists(cache.getCacheFilePath()));
+        assertEquals(original, new CandidateBook(storage.readCandidateBook().get()));
+        assertFalse(Files.exists(cache.getCacheFilePath()));
+    }
+
+    @Test
+    public void readCandidateBook_changedFile_readFromFileAndCacheRefreshed() throws Exception {
+        storage.saveCandidateBook(getTypicalAddressBook());
+        CandidateBook changedBook = getTypicalAddressBook();
+        changedBook.addCandidate(HOON);
+        XmlFileStorage.saveCandidateBookToFile(filePath, changedBook);
+        assertNull(cache.readCandidateBook(cache.readKey()));
+
+        assertEquals(changedBook, new CandidateBook(storage.readCandidateBook().get()));
+        assertEquals(changedBook, cache.readCandidateBook(cache.readKey()));
+    }
+
+    @Test
+    public void readCandidateBook_unreadableCache_readFromFile() throws Exception {
+        CandidateBook original = getTypicalAddressBook();
+        storage.saveCandidateBook(original);
+        Files.write(cache.getCacheFilePath(), "not a cache".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(original, new CandidateBook(storage.readCandidateBook().get()));
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.recruit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.recruit.testutil.TypicalPersons.ALICE;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.CASHIER_AUDI;
+import static seedu.recruit.testutil.TypicalCompaniesAndJobOffers.getTypicalCompanyBook;
+import static seedu.recruit.testutil.TypicalPersons.BENSON;
+import static seedu.recruit.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.recruit.commons.exceptions.DataConversionException;
+import seedu.recruit.commons.exceptions.IllegalValueException;
+import seedu.recruit.commons.util.XmlUtil;
+import seedu.recruit.model.CandidateBook;
+import seedu.recruit.model.CompanyBook;
+import seedu.recruit.model.candidate.Candidate;
+import seedu.recruit.testutil.CandidateBuilder;
+import seedu.recruit.testutil.CompanyBuilder;
+
+public class XmlFileStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableCandidateBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsCandidateBook.xml");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonCandidateBook.xml");
+    private static final Path EMBEDDED_SHORTLIST_FILE = Paths.get("src", "test", "data", "XmlFileStorageTest",
+            "embeddedShortlistCompanyBook.xml");
+    private static final Path DELETED_CANDIDATE_SHORTLIST_FILE = Paths.get("src", "test", "data",
+            "XmlFileStorageTest", "deletedCandidateShortlistCompanyBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveCandidateBookToFile_sameBytesAsWholeBookAndReadBack() throws Exception {
+        CandidateBook candidateBook = getTypicalAddressBook();
+        candidateBook.addCandidate(new CandidateBuilder().withName("Escaped Candidate")
+                .withAddress("1 <Main> & \"Second\" Street's end").build());
+        assertSameBytesAsWholeBook(candidateBook, "typical");
+        assertSameBytesAsWholeBook(new CandidateBook(), "empty");
+
+        Path file = testFolder.getRoot().toPath().resolve("candidatebook.xml");
+        XmlFileStorage.saveCandidateBookToFile(file, candidateBook);
+        assertEquals(candidateBook, XmlFileStorage.loadCandidateBookFromSaveFile(file));
+    }
+
+    @Test
+    public void saveCompanyBookToFile_sameBytesAsWholeBookAndReadBack() throws Exception {
+        CompanyBook companyBook = getTypicalCompanyBook();
+        companyBook.addCompany(new CompanyBuilder().withCompanyName("Smith & <Sons>").build());
+        companyBook.shortlistCandidateToJobOffer(BENSON, CASHIER_AUDI);
+        assertSameBytesAsWholeBook(companyBook, "typical");
+        assertSameBytesAsWholeBook(new CompanyBook(), "empty");
+
+        Path file = testFolder.getRoot().toPath().resolve("companybook.xml");
+        XmlFileStorage.saveCompanyBookToFile(file, companyBook);
+        assertEquals(companyBook, XmlFileStorage.loadCompanyBookFromSaveFile(file, getTypicalAddressBook()));
+    }
+
+    @Test
+    public void loadCompanyBookFromSaveFile_embeddedShortlist_candidatesFromCandidateBook() throws Exception {
+        CandidateBook candidateBook = getTypicalAddressBook();
+        CompanyBook companyBook = XmlFileStorage.loadCompanyBookFromSaveFile(EMBEDDED_SHORTLIST_FILE, candidateBook);
+
+        // the out of date copy of Benson is matched by identity
+        List<Candidate> shortlist = companyBook.getCompanyJobList().get(0).getShortlist().asList();
+        assertEquals(2, shortlist.size());
+        assertSame(candidateBook.getCandidateById(ALICE.getId()), shortlist.get(0));
+        assertSame(candidateBook.getCandidateById(BENSON.getId()), shortlist.get(1));
+
+        // the book is saved with candidate ids from then on
+        Path file = testFolder.getRoot().toPath().resolve("companybook.xml");
+        XmlFileStorage.saveCompanyBookToFile(file, companyBook);
+        assertFalse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).contains("<candidateList>"));
+        assertEquals(companyBook, XmlFileStorage.loadCompanyBookFromSaveFile(file, candidateBook));
+    }
+
+    @Test
+    public void loadCompanyBookFromSaveFile_shortlistedCandidateNotInCandidateBook_leftOut() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("companybook.xml");
+        XmlFileStorage.saveCompanyBookToFile(file, getTypicalCompanyBook());
+
+        CompanyBook companyBook = XmlFileStorage.loadCompanyBookFromSaveFile(file, new CandidateBook());
+        assertEquals(getTypicalCompanyBook().getCompanyJobList().size(), companyBook.getCompanyJobList().size());
+        companyBook.getCompanyJobList().forEach(jobOffer ->
+                assertTrue(jobOffer.getShortlist().isEmpty()));
+    }
+
+    @Test
+    public void loadCompanyBookFromSaveFile_deletedCandidateInEmbeddedShortlist_leftOut() throws Exception {
+        CandidateBook candidateBook = getTypicalAddressBook();
+        CompanyBook companyBook = XmlFileStorage.loadCompanyBookFromSaveFile(DELETED_CANDIDATE_SHORTLIST_FILE,
+                candidateBook);
+
+        // the rest of the book is read, and only the deleted candidate is left out of the shortlist
+        assertEquals(1, companyBook.getCompanyList().size());
+        List<Candidate> shortlist = companyBook.getCompanyJobList().get(0).getShortlist().asList();
+        assertEquals(1, shortlist.size());
+        assertSame(candidateBook.getCandidateById(ALICE.getId()), shortlist.get(0));
+    }
+
+    @Test
+    public void loadCompanyBookFromSaveFile_laterVersion_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("companybook.xml");
+        Files.write(file, "<companybook version=\"3\"/>".getBytes(StandardCharsets.UTF_8));
+        thrown.expect(DataConversionException.class);
+        XmlFileStorage.loadCompanyBookFromSaveFile(file, new CandidateBook());
+    }
+
+    @Test
+    public void loadCandidateBookFromSaveFile_fileWithoutIds_idsGivenInFileOrder() throws Exception {
+        List<Candidate> candidates = XmlFileStorage.loadCandidateBookFromSaveFile(TYPICAL_PERSONS_FILE)
+                .getCandidateList();
+        for (int i = 1; i < candidates.size(); i++) {
+            assertTrue(candidates.get(i - 1).getId() < candidates.get(i).getId());
+        }
+    }
+
+    @Test
+    public void loadCandidateBookFromSaveFile_fileWithComment_sameAsWholeBook() throws Exception {
+        XmlSerializableCandidateBook wholeBook = XmlUtil.getDataFromFile(TYPICAL_PERSONS_FILE,
+                XmlSerializableCandidateBook.class);
+        assertEquals(wholeBook.toModelType(), XmlFileStorage.loadCandidateBookFromSaveFile(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void loadCandidateBookFromSaveFile_duplicateCandidates_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableCandidateBook.MESSAGE_DUPLICATE_PERSON);
+        XmlFileStorage.loadCandidateBookFromSaveFile(DUPLICATE_PERSON_FILE);
+    }
+
+    @Test
+    public void loadCandidateBookFromSaveFile_otherRootElement_throwsDataConversionException() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("companybook.xml");
+        XmlFileStorage.saveCompanyBookToFile(file, getTypicalCompanyBook());
+        thrown.expect(DataConversionException.class);
+        XmlFileStorage.loadCandidateBookFromSaveFile(file);
+    }
+
+    private void assertSameBytesAsWholeBook(CandidateBook candidateBook, String fileName) throws Exception {
+        Path streamed = testFolder.newFile(fileName + "Streamed.xml").toPath();
+        Path whole = testFolder.newFile(fileName + "Whole.xml").toPath();
+        XmlFileStorage.saveCandidateBookToFile(streamed, candidateBook);
+        XmlUtil.saveDataToFile(whole, new XmlSerializableCandidateBook(candidateBook));
+        assertTrue(Arrays.equals(Files.readAllBytes(whole), Files.readAllBytes(streamed)));
+    }
+
+    private void assertSameBytesAsWholeBook(CompanyBook companyBook, String fileName) throws Exception {
+        Path streamed = testFolder.newFile(fileName + "Streamed.xml").toPath();
+        Path whole = testFolder.newFile(fileName + "Whole.xml").toPath();
+        XmlFileStorage.saveCompanyBookToFile(streamed, companyBook);
+        XmlUtil.saveDataToFile(whole, new XmlSerializableCompanyBook(companyBook));
+        assertTrue(Arrays.equals(Files.readAllBytes(whole), Files.readAllBytes(streamed)));
+    }
+}
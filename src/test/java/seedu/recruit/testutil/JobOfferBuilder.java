@@ -3,12 +3,12 @@ package seedu.recruit.testutil;
 import seedu.recruit.model.candidate.Candidate;
 import seedu.recruit.model.candidate.Education;
 import seedu.recruit.model.candidate.Gender;
-import seedu.recruit.model.candidate.UniqueCandidateList;
 import seedu.recruit.model.company.CompanyName;
 import seedu.recruit.model.joboffer.AgeRange;
 import seedu.recruit.model.joboffer.Job;
 import seedu.recruit.model.joboffer.JobOffer;
 import seedu.recruit.model.joboffer.Salary;
+import seedu.recruit.model.joboffer.Shortlist;
 
 /**
  * A utility class to help with building JobOffer objects.
@@ -29,7 +29,7 @@ public class JobOfferBuilder {
     private Gender gender;
     private Job job;
     private Salary salary;
-    private UniqueCandidateList candidateList;
+    private Shortlist candidateList;
 
     public JobOfferBuilder() {
         ageRange = new AgeRange(DEFAULT_AGE_RANGE);
@@ -38,7 +38,7 @@ public class JobOfferBuilder {
         gender = new Gender(DEFAULT_GENDER);
         job = new Job(DEFAULT_JOB);
         salary = new Salary(DEFAULT_SALARY);
-        candidateList = new UniqueCandidateList();
+        candidateList = Shortlist.empty();
     }
 
     /**
@@ -52,7 +52,7 @@ public class JobOfferBuilder {
         gender = jobOfferToCopy.getGender();
         job = jobOfferToCopy.getJob();
         salary = jobOfferToCopy.getSalary();
-        candidateList = jobOfferToCopy.getUniqueCandidateList();
+        candidateList = jobOfferToCopy.getShortlist();
     }
 
     /**
@@ -107,7 +107,7 @@ public class JobOfferBuilder {
      * Sets the {@code candidateList} of the {@code JobOffer} that we are building.
      */
     public JobOfferBuilder withCandidateList(Candidate candidate) {
-        candidateList.add(candidate);
+        candidateList = candidateList.plus(candidate);
         return this;
     }
 
@@ -26,6 +26,8 @@ import org.junit.Test;
 import guitests.guihandles.StatusBarFooterHandle;
 import seedu.recruit.commons.events.model.CandidateBookChangedEvent;
 import seedu.recruit.commons.events.model.CompanyBookChangedEvent;
+import seedu.recruit.commons.events.storage.CandidateBookSavedEvent;
+import seedu.recruit.commons.events.storage.CompanyBookSavedEvent;
 import seedu.recruit.testutil.RecruitBookBuilder;
 
 public class StatusBarFooterTest extends GuiUnitTest {
@@ -78,9 +80,11 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 COMPANY_RELATIVE_PATH.resolve(STUB_COMPANY_SAVE_LOCATION).toString(),
                 SYNC_COMPANY_STATUS_INITIAL, String.format(TOTAL_COMPANIES_STATUS, INITIAL_TOTAL_COMPANIES));
 
-        // after recruit book is updated
+        // after recruit book is updated and saved
         postNow(EVENT_STUB_CANDIDATE);
         postNow(EVENT_STUB_COMPANY);
+        postNow(new CandidateBookSavedEvent());
+        postNow(new CompanyBookSavedEvent());
         assertStatusBarContent(CANDIDATE_RELATIVE_PATH.resolve(STUB_CANDIDATE_SAVE_LOCATION).toString(),
                 String.format(SYNC_CANDIDATE_STATUS_UPDATED, new Date(injectedClock.millis()).toString()),
                 String.format(TOTAL_CANDIDATES_STATUS, EVENT_STUB_CANDIDATE.data.getCandidateList().size()),